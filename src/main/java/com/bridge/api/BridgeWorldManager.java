@@ -1,13 +1,38 @@
 package com.bridge.api;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import com.bridge.api.modules.ActivationReport;
+import com.bridge.api.modules.ActivationWarmup;
+import com.bridge.api.modules.BridgeEvent;
+import com.bridge.api.modules.BridgeStats;
 import com.bridge.api.modules.BridgeWorld;
 import com.bridge.api.modules.BridgeWorldComponent;
+import com.bridge.api.modules.DrainResult;
+import com.bridge.api.modules.MatchmakingConfig;
+import com.bridge.api.modules.MatchmakingQueue;
+import com.bridge.api.modules.PlacementReservation;
+import com.bridge.api.modules.RotationReport;
+import com.bridge.api.modules.StatsSink;
+import com.bridge.api.modules.TickBudgetPolicy;
+import com.bridge.api.modules.WorldArchive;
+import com.bridge.api.modules.WorldDirectory;
+import com.bridge.api.modules.WorldFootprint;
+import com.bridge.api.modules.WorldQuery;
+import com.bridge.api.modules.WorldSnapshot;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.diagnostics.WorldAccounting;
+import com.bridge.core.directory.DirectoryPublisher;
 import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.matchmaking.Matchmaker;
+import com.bridge.core.placement.WorldPlacementService;
+import com.bridge.core.stats.StatsService;
 import com.bridge.core.systems.BridgeWorldManagerSystem;
 import com.hypixel.hytale.server.core.universe.world.World;
 
@@ -75,11 +100,42 @@ public class BridgeWorldManager {
      * This should be called when the server's default world changes (e.g., on server reload or world reset).
      * 
      * <p>This method ensures that {@link #getDefaultWorldAsBridgeWorld()} returns the correct current default world.
+     * It does nothing once {@link #rotateDefaultWorld(BridgeWorld, ActivationWarmup, int, long)} has chosen the default.
      */
     public static void updateDefaultWorld() {
         BridgeWorldFactory.updateDefaultWorld();
     }
 
+    /**
+     * Replaces the default world without a restart or a mass transfer.
+     * 
+     * <p>The new world is activated, or woken, and warmed up in the background while the current default keeps
+     * running. Once it is ready, the default is switched in one step: {@link #getDefaultWorldAsBridgeWorld()} and
+     * the fallback of {@link #deactivateWorld(BridgeWorld, World)} and {@link #deactivateWorldGracefully} return
+     * the new world from then on. The players of the previous default are then moved over in grouped transfers of
+     * at most {@code playersPerTick} players per tick, and players who still land in it are sent on.
+     * 
+     * <p>Once empty, the previous default is stopped. If the server itself still sends new connections to it,
+     * it is hibernated instead and keeps redirecting them.
+     * 
+     * @param next The world to make the default
+     * @param warmup The area to load before the switch, or null to switch as soon as the world has started
+     * @param playersPerTick The maximum number of players to move per tick of the previous default world
+     * @param timeoutMillis The time after the switch when any remaining players are moved all at once
+     * @return A future completed with the total rotation time and the tick-time impact on both worlds
+     * 
+     * @throws IllegalStateException if a rotation is already in progress or there is no default world
+     * @throws IllegalArgumentException if {@code next} is already the default world
+     * 
+     * @see BridgeWorldManagerSystem#rotateDefaultWorld(BridgeWorld, ActivationWarmup, int, long)
+     */
+    @Nonnull
+    public static CompletableFuture<RotationReport> rotateDefaultWorld(@Nonnull BridgeWorld next, @Nullable ActivationWarmup warmup,
+        int playersPerTick, long timeoutMillis) {
+
+        return BridgeWorldManagerSystem.get().rotateDefaultWorld(next, warmup, playersPerTick, timeoutMillis);
+    }
+
     /**
      * Creates a new world with the specified name and optional BridgeWorldComponent.
      * The world is created asynchronously and will be available for use once the callback is invoked.
@@ -125,6 +181,46 @@ public class BridgeWorldManager {
         BridgeWorldManagerSystem.get().copyWorld(sourceWorld, newName, bridgeWorldComponent, callback);
     }
 
+    /**
+     * Creates a new world from a snapshot taken with {@link BridgeWorld#snapshot()}.
+     * 
+     * <p>The snapshot's files are not changed, so the same snapshot can be copied any number of times.
+     * The new world belongs to the same template as the world the snapshot was taken of.
+     * 
+     * @param snapshot The snapshot to copy from. Must not have been deleted.
+     * @param newName The name for the copied world. Must not be null or empty.
+     * @param bridgeWorldComponent Optional component for the new world. If null, a default component will be used.
+     * @param callback Optional callback that will be invoked with the new BridgeWorld instance
+     *                 once the copy operation is complete.
+     * 
+     * @see BridgeWorldManagerSystem#copyWorld(WorldSnapshot, String, BridgeWorldComponent, Consumer)
+     */
+    public static void copyWorld(@Nonnull WorldSnapshot snapshot, @Nonnull String newName, @Nullable BridgeWorldComponent bridgeWorldComponent,
+        @Nullable Consumer<BridgeWorld> callback) {
+        
+        BridgeWorldManagerSystem.get().copyWorld(snapshot, newName, bridgeWorldComponent, callback);
+    }
+
+    /**
+     * Creates a new world from a world archive, extracting it straight into the new world's folder.
+     * 
+     * <p>All chunks of the archive are decompressed in parallel. The new world belongs to the template
+     * recorded in the archive.
+     * 
+     * @param archive The archive to copy from, see {@link WorldArchive#open(java.nio.file.Path)}
+     * @param newName The name for the copied world. Must not be null or empty.
+     * @param bridgeWorldComponent Optional component for the new world. If null, a default component will be used.
+     * @param callback Optional callback that will be invoked with the new BridgeWorld instance
+     *                 once the copy operation is complete.
+     * 
+     * @see BridgeWorldManagerSystem#copyWorld(WorldArchive, String, BridgeWorldComponent, Consumer)
+     */
+    public static void copyWorld(@Nonnull WorldArchive archive, @Nonnull String newName, @Nullable BridgeWorldComponent bridgeWorldComponent,
+        @Nullable Consumer<BridgeWorld> callback) {
+        
+        BridgeWorldManagerSystem.get().copyWorld(archive, newName, bridgeWorldComponent, callback);
+    }
+
     /**
      * Deletes a BridgeWorld and all its associated files.
      * This operation is permanent and cannot be undone.
@@ -162,6 +258,24 @@ public class BridgeWorldManager {
         BridgeWorldManagerSystem.get().activateWorld(bWorld, callback);
     }
 
+    /**
+     * Activates a BridgeWorld and preloads an area of chunks before reporting it as ready.
+     * 
+     * <p>After {@code World.init()} completes, every chunk within the warm-up radius of the warm-up points
+     * is loaded. The returned future completes only once that area is resident, and reports the init
+     * and warm-up times separately.
+     * 
+     * @param bWorld The BridgeWorld to activate. Must not be null.
+     * @param warmup The area to preload, or null to complete as soon as init is done.
+     * @return A future completed with the activation timings once the world is active
+     * 
+     * @see BridgeWorldManagerSystem#activateWorldWithWarmup(BridgeWorld, ActivationWarmup)
+     */
+    @Nonnull
+    public static CompletableFuture<ActivationReport> activateWorldWithWarmup(@Nonnull BridgeWorld bWorld, @Nullable ActivationWarmup warmup) {
+        return BridgeWorldManagerSystem.get().activateWorldWithWarmup(bWorld, warmup);
+    }
+
     /**
      * Deactivates a BridgeWorld, stopping all activity and unloading it from memory.
      * All players in the world will be moved to the specified destination world.
@@ -179,4 +293,198 @@ public class BridgeWorldManager {
     public static Boolean deactivateWorld(@Nonnull BridgeWorld bWorld, @Nullable World movePlayersTo) {
         return BridgeWorldManagerSystem.get().deactivateWorld(bWorld, movePlayersTo);
     }
+
+    /**
+     * Deactivates a BridgeWorld, moving its players out in rate-limited batches.
+     * 
+     * <p>Unlike {@link #deactivateWorld(BridgeWorld, World)}, players are not moved in a single tick.
+     * At most {@code playersPerTick} players leave per tick of the source world, spread round-robin
+     * across the destination worlds, so that a full world does not spike the destination's tick time.
+     * The world is stopped once it is empty or the timeout has passed.
+     * 
+     * @param bWorld The BridgeWorld to deactivate. Must not be null.
+     * @param movePlayersTo The worlds players should be spread across. If null or empty, the default world will be used.
+     * @param playersPerTick The maximum number of players to move per tick
+     * @param timeoutMillis How long to drain before moving all remaining players at once, in milliseconds
+     * @return A future completed with the drain metrics once the world has been stopped
+     * 
+     * @see BridgeWorldManagerSystem#deactivateWorldGracefully(BridgeWorld, List, int, long)
+     */
+    @Nonnull
+    public static CompletableFuture<DrainResult> deactivateWorldGracefully(@Nonnull BridgeWorld bWorld, @Nullable List<World> movePlayersTo,
+        int playersPerTick, long timeoutMillis) {
+        return BridgeWorldManagerSystem.get().deactivateWorldGracefully(bWorld, movePlayersTo, playersPerTick, timeoutMillis);
+    }
+
+    /**
+     * Chooses the best active instance of a template for a joining player and reserves a slot in it.
+     * 
+     * <p>Instances are scored by their recent tick time, player count, pending transfers and outstanding
+     * reservations. The slot is reserved atomically, so concurrent joins never overfill an instance.
+     * Use {@link PlacementReservation#transfer(com.hypixel.hytale.server.core.universe.PlayerRef)} to move
+     * the player in, or {@link PlacementReservation#release()} if the join is abandoned.
+     * 
+     * @param template The template name, see {@link BridgeWorld#getTemplate()}
+     * @return A reservation in the chosen instance, or null if every active instance is full
+     * 
+     * @see WorldPlacementService#reserve(String)
+     */
+    @Nullable
+    public static PlacementReservation reservePlacement(@Nonnull String template) {
+        return WorldPlacementService.reserve(template);
+    }
+
+    /**
+     * Installs the directory this node shares its worlds through, replacing and closing any previous one.
+     * 
+     * <p>Once installed, this node publishes the template, capacity, load and state of every world it manages
+     * about once a second, and pulls what other nodes published into the directory's local cache.
+     * 
+     * @param directory The directory to use, or null to stop publishing
+     * 
+     * @see WorldDirectory#inMemory(String)
+     * @see WorldDirectory#sharedFile(String, java.nio.file.Path)
+     */
+    public static void setWorldDirectory(@Nullable WorldDirectory directory) {
+        DirectoryPublisher.setDirectory(directory);
+    }
+
+    /**
+     * @return The installed world directory, or null if none is installed.
+     * 
+     * @see #setWorldDirectory(WorldDirectory)
+     */
+    @Nullable
+    public static WorldDirectory getWorldDirectory() {
+        return DirectoryPublisher.getDirectory();
+    }
+
+    /**
+     * Starts a query over this node's worlds, answered from indexes kept by component type, tag, state and player count.
+     * 
+     * @return A new, empty query; add conditions and call {@link WorldQuery#list()}, {@link WorldQuery#first()} or {@link WorldQuery#count()}
+     * 
+     * @see BridgeWorld#addTag(String)
+     */
+    @Nonnull
+    public static WorldQuery query() {
+        return new WorldQuery();
+    }
+
+    /**
+     * Starts a matchmaking queue that groups players by rating and moves each group into a pooled
+     * instance of the config's template, copying the template world when no instance is free.
+     * 
+     * @param config The match sizes, rating spread and template to use
+     * @return The running queue; call {@link MatchmakingQueue#close()} to stop it
+     * 
+     * @see MatchmakingQueue#enqueue(com.hypixel.hytale.server.core.universe.PlayerRef, String, int)
+     */
+    @Nonnull
+    public static MatchmakingQueue createMatchmakingQueue(@Nonnull MatchmakingConfig config) {
+        return new Matchmaker(config);
+    }
+
+    /**
+     * Configures the tick budget watchdog for all world components.
+     * 
+     * <p>Every {@code onTick} call is timed. A call that takes longer than the budget is a strike, a call within
+     * budget clears one. A component that collects {@code strikesToFlag} strikes is flagged: it is logged once,
+     * a stack sample of its next over-budget call is captured, and {@code policy} is applied to it.
+     * Components can override the budget with {@link BridgeWorldComponent#getTickBudgetNanos()}.
+     * 
+     * @param budgetMicros The default budget per {@code onTick} call, in microseconds. Defaults to 5000.
+     * @param strikesToFlag The number of net overruns after which a component is flagged. Defaults to 20.
+     * @param policy What to do with flagged components. Defaults to {@link TickBudgetPolicy#REPORT}.
+     * 
+     * @see BridgeWorld#getTickReport()
+     * @see BridgeWorld#releaseTickQuarantine()
+     */
+    public static void setTickBudget(long budgetMicros, int strikesToFlag, @Nonnull TickBudgetPolicy policy) {
+        BridgeWorldManagerSystem.get().setTickBudget(budgetMicros, strikesToFlag, policy);
+    }
+
+    /**
+     * @return The total of a stat over all worlds since the server started, read without scanning the worlds.
+     * 
+     * @see BridgeStats
+     * @see BridgeWorld#incrementStat(UUID, String, long)
+     */
+    public static long getStatTotal(@Nonnull String stat) {
+        return StatsService.getTotal(stat);
+    }
+
+    /**
+     * @return How much a stat grew over all worlds in the last minute.
+     */
+    public static long getStatTotalPerMinute(@Nonnull String stat) {
+        return StatsService.perMinute(null, stat);
+    }
+
+    /**
+     * @return How much a stat grew over all worlds in the last hour.
+     */
+    public static long getStatTotalPerHour(@Nonnull String stat) {
+        return StatsService.perHour(null, stat);
+    }
+
+    /**
+     * @return The total of a stat for one player over all worlds, as kept in memory. A player's counters are dropped
+     *         once they have been flushed and stayed unchanged for a whole flush interval, after which this counts
+     *         from zero again; read lifetime totals from the {@link StatsSink}.
+     */
+    public static long getPlayerStat(@Nonnull UUID playerUuid, @Nonnull String stat) {
+        return StatsService.get(playerUuid, stat);
+    }
+
+    /**
+     * Sets where stats are persisted. Changed stats are written in one batch every 30 seconds and on shutdown.
+     * 
+     * @param sink The sink, or null for the default, which keeps lifetime totals in {@code stats.json}
+     */
+    public static void setStatsSink(@Nullable StatsSink sink) {
+        StatsService.setSink(sink);
+    }
+
+    /**
+     * Writes changed stats to the sink now, in the background.
+     * 
+     * @return A future completed once the batch has been written or has failed
+     */
+    @Nonnull
+    public static Future<?> flushStats() {
+        return StatsService.flushAsync();
+    }
+
+    /**
+     * Calibrates the memory estimate of {@link WorldFootprint#getEstimatedBytes()}.
+     * 
+     * <p>The defaults are 192 KiB per loaded chunk and 2 KiB per entity. Measure a representative world in a heap
+     * dump and divide its retained size by its chunk and entity counts to get values for your maps.
+     * 
+     * @param bytesPerChunk The estimated heap retained by one loaded chunk, or 0 for the default
+     * @param bytesPerEntity The estimated heap retained by one entity, or 0 for the default
+     * 
+     * @see BridgeWorld#getFootprint()
+     */
+    public static void setFootprintEstimates(long bytesPerChunk, long bytesPerEntity) {
+        WorldAccounting.setEstimates(bytesPerChunk, bytesPerEntity);
+    }
+
+    /**
+     * Copies the most recent entries out of Bridge's lifecycle event journal.
+     * 
+     * <p>The journal is a fixed-size ring of structured events: world transitions, transfers, joins, leaves,
+     * deaths and errors, each with a timestamp and world UUID. Recording is allocation-free; events are only
+     * formatted when they are dumped here or written to the log after an error.
+     * 
+     * @param limit The maximum number of events to return
+     * @return The events, oldest first
+     * 
+     * @see EventJournal#dump(int)
+     */
+    @Nonnull
+    public static List<BridgeEvent> dumpEventJournal(int limit) {
+        return EventJournal.dump(limit);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.bridge.api.modules;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Timings of a completed activation, returned by {@link BridgeWorld#activateWithWarmup(ActivationWarmup)}.
+ */
+public final class ActivationReport {
+    private final BridgeWorld bWorld;
+    private final long initNanos;
+    private final long warmupNanos;
+    private final int chunksLoaded;
+    private final int ticks;
+
+    public ActivationReport(@Nonnull BridgeWorld bWorld, long initNanos, long warmupNanos, int chunksLoaded, int ticks) {
+        this.bWorld = bWorld;
+        this.initNanos = initNanos;
+        this.warmupNanos = warmupNanos;
+        this.chunksLoaded = chunksLoaded;
+        this.ticks = ticks;
+    }
+
+    /**
+     * @return The world that was activated.
+     */
+    @Nonnull
+    public BridgeWorld getBridgeWorld() {
+        return bWorld;
+    }
+
+    /**
+     * @return The time spent in {@code World.init()}, in nanoseconds.
+     */
+    public long getInitNanos() {
+        return initNanos;
+    }
+
+    /**
+     * @return The time spent loading and ticking the warm-up area after init, in nanoseconds.
+     *         0 if no warm-up was requested.
+     */
+    public long getWarmupNanos() {
+        return warmupNanos;
+    }
+
+    /**
+     * @return The number of distinct chunks made resident by the warm-up.
+     */
+    public int getChunksLoaded() {
+        return chunksLoaded;
+    }
+
+    /**
+     * @return The number of ticks the world ran over the warm-up area once it was loaded.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    @Override
+    public String toString() {
+        return "ActivationReport{world=" + bWorld.bWorldName + ", initMs=" + initNanos / 1_000_000L
+            + ", warmupMs=" + warmupNanos / 1_000_000L + ", chunks=" + chunksLoaded + ", ticks=" + ticks + "}";
+    }
+}
@@ -0,0 +1,81 @@
+package com.bridge.api.modules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Describes the area that should be loaded and ticked before an activated {@link BridgeWorld} is reported as ready.
+ *
+ * <p>A square of chunks with the given radius is loaded around every point. If no points are added,
+ * the area around the world origin (block 0, 0), where worlds spawn players by default, is used. Once every chunk
+ * is resident, the world runs {@link #ticks(int)} ticks over them, so their entities and blocks settle, before the
+ * world's component starts ticking.
+ *
+ * <pre>{@code
+ * bWorld.activateWithWarmup(new ActivationWarmup(4).addPoint(120, -40).addPoint(-120, 40))
+ *     .thenAccept(report -> startRound());
+ * }</pre>
+ */
+public final class ActivationWarmup {
+    /** The number of ticks run over the loaded area unless {@link #ticks(int)} says otherwise. */
+    public static final int DEFAULT_TICKS = 10;
+
+    private final int radiusChunks;
+    private final List<int[]> points = new ArrayList<>();
+    private int ticks = DEFAULT_TICKS;
+
+    /**
+     * @param radiusChunks The number of chunks to load in each direction around every point.
+     *                     A radius of 0 loads only the chunk containing the point.
+     */
+    public ActivationWarmup(int radiusChunks) {
+        this.radiusChunks = Math.max(0, radiusChunks);
+    }
+
+    /**
+     * Adds a point to warm up around.
+     *
+     * @param blockX The block X coordinate of the point
+     * @param blockZ The block Z coordinate of the point
+     * @return This warm-up, for chaining
+     */
+    @Nonnull
+    public ActivationWarmup addPoint(int blockX, int blockZ) {
+        points.add(new int[] { blockX, blockZ });
+        return this;
+    }
+
+    /**
+     * Sets how many ticks the world runs over the loaded area before it is reported as ready.
+     *
+     * @param ticks The number of ticks; 0 reports the world as ready as soon as the area is loaded
+     * @return This warm-up, for chaining
+     */
+    @Nonnull
+    public ActivationWarmup ticks(int ticks) {
+        this.ticks = Math.max(0, ticks);
+        return this;
+    }
+
+    public int getRadiusChunks() {
+        return radiusChunks;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The points to warm up around, as {@code {blockX, blockZ}} pairs.
+     *         Contains only the origin if no points were added.
+     */
+    @Nonnull
+    public List<int[]> getPoints() {
+        if (points.isEmpty()) {
+            return List.of(new int[] { 0, 0 });
+        }
+        return Collections.unmodifiableList(points);
+    }
+}
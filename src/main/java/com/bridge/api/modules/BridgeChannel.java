@@ -0,0 +1,65 @@
+package com.bridge.api.modules;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Typed, bounded message channel into a {@link BridgeWorld}.
+ *
+ * <p>Any thread may send. Messages are queued in a lock-free ring and delivered in batches to the
+ * receiving world's {@link BridgeMessageHandler} on that world's thread, at most
+ * {@link #getMaxPerTick()} per tick. When the receiver falls behind and the ring fills up,
+ * {@link #send(Object)} fails instead of blocking, so senders can retry later, drop, or slow down.
+ *
+ * @param <T> The message type
+ * 
+ * @see BridgeWorld#openChannel(String, Class, int, int, BridgeMessageHandler)
+ */
+public interface BridgeChannel<T> {
+
+    /**
+     * @return The name the channel was opened with, unique within the receiving world.
+     */
+    @Nonnull
+    String getName();
+
+    /**
+     * @return The world that receives this channel's messages.
+     */
+    @Nonnull
+    BridgeWorld getReceiver();
+
+    /**
+     * Queues a message for the receiving world. Never blocks.
+     *
+     * @param message The message to deliver. Must not be null.
+     * @return false if the channel is full or closed and the message was not queued
+     */
+    boolean send(@Nonnull T message);
+
+    /**
+     * @return true if the queue is more than three quarters full. Senders should back off while this is true.
+     */
+    boolean isBackpressured();
+
+    /**
+     * @return The approximate number of messages waiting to be delivered.
+     */
+    int getPending();
+
+    /**
+     * @return The number of messages rejected by {@link #send(Object)} because the channel was full.
+     */
+    long getRejected();
+
+    /**
+     * @return The maximum number of messages delivered to the receiver per tick.
+     */
+    int getMaxPerTick();
+
+    /**
+     * Closes the channel. Later sends fail; messages still queued are discarded.
+     */
+    void close();
+
+    boolean isClosed();
+}
@@ -0,0 +1,100 @@
+package com.bridge.api.modules;
+
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * One entry of Bridge's lifecycle event journal, copied out of the journal when it is dumped.
+ * 
+ * @see com.bridge.api.BridgeWorldManager#dumpEventJournal(int)
+ */
+public final class BridgeEvent {
+    private final long sequence;
+    private final long timestampMillis;
+    private final BridgeEventType type;
+    private final UUID worldUuid;
+    private final UUID playerUuid;
+    private final long value;
+    private final String detail;
+
+    public BridgeEvent(long sequence, long timestampMillis, @Nonnull BridgeEventType type, @Nullable UUID worldUuid,
+        @Nullable UUID playerUuid, long value, @Nullable String detail) {
+
+        this.sequence = sequence;
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.worldUuid = worldUuid;
+        this.playerUuid = playerUuid;
+        this.value = value;
+        this.detail = detail;
+    }
+
+    /**
+     * @return The position of the event in the journal; gaps mean events were overwritten before the dump.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return The wall-clock time the event was recorded at, in epoch milliseconds.
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Nonnull
+    public BridgeEventType getType() {
+        return type;
+    }
+
+    /**
+     * @return The UUID of the world the event happened in, or null if the world had no UUID yet.
+     */
+    @Nullable
+    public UUID getWorldUuid() {
+        return worldUuid;
+    }
+
+    /**
+     * @return The UUID of the player involved, or null for world events.
+     */
+    @Nullable
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * @return An event-specific number, such as a duration in nanoseconds or a player count. 0 if unused.
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return An event-specific description, such as a world name or an error message. May be null.
+     */
+    @Nullable
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder().append('#').append(sequence).append(' ').append(timestampMillis).append(' ').append(type);
+        if (worldUuid != null) {
+            builder.append(" world=").append(worldUuid);
+        }
+        if (playerUuid != null) {
+            builder.append(" player=").append(playerUuid);
+        }
+        if (value != 0) {
+            builder.append(" value=").append(value);
+        }
+        if (detail != null) {
+            builder.append(" detail=").append(detail);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package com.bridge.api.modules;
+
+/**
+ * Kinds of events recorded in Bridge's lifecycle event journal.
+ * 
+ * @see BridgeEvent
+ */
+public enum BridgeEventType {
+    WORLD_CREATING,
+    WORLD_CREATED,
+    WORLD_COPYING,
+    WORLD_COPIED,
+    WORLD_SNAPSHOT,
+    WORLD_EXPORTED,
+    WORLD_ACTIVATING,
+    WORLD_ACTIVATED,
+    WORLD_HIBERNATED,
+    WORLD_WOKEN,
+    WORLD_DEACTIVATING,
+    WORLD_DRAINED,
+    WORLD_DEACTIVATED,
+    WORLD_DELETED,
+    PLAYER_TRANSFER,
+    PLAYER_JOIN,
+    PLAYER_LEAVE,
+    PLAYER_DEATH,
+    MATCH_ASSIGNED,
+    DEFAULT_WORLD_SWITCHED,
+    DEFAULT_WORLD_ROTATED,
+    ERROR
+}
@@ -0,0 +1,22 @@
+package com.bridge.api.modules;
+
+import java.util.List;
+
+/**
+ * Receives the messages of a {@link BridgeChannel} on the receiving world's thread.
+ *
+ * @param <T> The message type
+ */
+@FunctionalInterface
+public interface BridgeMessageHandler<T> {
+
+    /**
+     * Called at most once per tick with the messages drained for that tick, in send order per sender.
+     *
+     * <p>The list is reused by the channel after this call returns and must not be kept.
+     *
+     * @param receiver The world that owns the channel
+     * @param messages The batch of messages, never empty
+     */
+    void onMessages(BridgeWorld receiver, List<T> messages);
+}
@@ -0,0 +1,19 @@
+package com.bridge.api.modules;
+
+/**
+ * Names of the stats Bridge counts by itself. Plugins can count their own, such as kills, with
+ * {@link BridgeWorld#incrementStat(java.util.UUID, String, long)}.
+ *
+ * @see com.bridge.api.BridgeWorldManager#getStatTotal(String)
+ */
+public final class BridgeStats {
+    /** Players joining a world. */
+    public static final String JOINS = "joins";
+    /** Players leaving a world. */
+    public static final String LEAVES = "leaves";
+    /** Players dying in a world. */
+    public static final String DEATHS = "deaths";
+
+    private BridgeStats() {
+    }
+}
@@ -1,14 +1,26 @@
 package com.bridge.api.modules;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import com.bridge.core.plugin.BridgePlugin;
+import com.bridge.core.diagnostics.WorldAccounting;
+import com.bridge.core.factory.WorldIndex;
+import com.bridge.core.placement.WorldPlacementService;
+import com.bridge.core.regions.BuildRegionIndex;
+import com.bridge.core.replay.WorldReplays;
+import com.bridge.core.stats.StatsService;
 import com.bridge.core.systems.BridgeWorldManagerSystem;
 import com.hypixel.hytale.server.core.asset.type.gameplay.WorldConfig;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import java.lang.reflect.Field;
 
@@ -28,9 +40,14 @@ public final class BridgeWorld {
 
     private World hWorld;
     private BridgeWorldComponent bWorldComponent;
+    private volatile String template;
+    private final Set<String> tags = ConcurrentHashMap.newKeySet();
+    private final Object buildRegionsLock = new Object();
+    private volatile BuildRegionIndex buildRegions = BuildRegionIndex.EMPTY;
 
     public BridgeWorld(@Nonnull String name, @Nullable BridgeWorldComponent bridgeWorldComponent) {
         bWorldName = name;
+        template = name;
         if (bridgeWorldComponent != null) {
             bWorldComponent = bridgeWorldComponent;
         }
@@ -82,6 +99,23 @@ public final class BridgeWorld {
         BridgeWorldManagerSystem.get().activateWorld(this, callback);
     }
 
+    /**
+     * Activates this world and preloads the chunks described by {@code warmup} before reporting it as ready.
+     * 
+     * <p>The world only starts ticking its component once the warm-up area is resident,
+     * so the first players transferred in do not wait on cold chunk loading.
+     * 
+     * @param warmup The area to load after init, or null to skip the warm-up stage
+     * @return A future completed with the init and warm-up timings once the world is active
+     * 
+     * @see ActivationWarmup
+     * @see BridgeWorldManagerSystem#activateWorldWithWarmup(BridgeWorld, ActivationWarmup)
+     */
+    @Nonnull
+    public CompletableFuture<ActivationReport> activateWithWarmup(@Nullable ActivationWarmup warmup) {
+        return BridgeWorldManagerSystem.get().activateWorldWithWarmup(this, warmup);
+    }
+
     /**
      * Deactivates this world, unloading it from memory.
      * Players will be moved to the default world.
@@ -111,6 +145,29 @@ public final class BridgeWorld {
         return BridgeWorldManagerSystem.get().deactivateWorld(this, movePlayersTo);
     }
 
+    /**
+     * Deactivates this world, moving its players out in batches instead of all at once.
+     * 
+     * <p>Every tick of this world at most {@code playersPerTick} players are transferred, spread
+     * round-robin over the target worlds. The world is stopped once it is empty, or once
+     * {@code timeoutMillis} has passed, in which case the remaining players are moved to the
+     * first target world in one go.
+     * 
+     * @param movePlayersTo The worlds players should be spread across.
+     *                      If null or empty, players will be moved to the default world.
+     * @param playersPerTick The maximum number of players to move per tick (at least 1)
+     * @param timeoutMillis The deadline for the drain, in milliseconds
+     * @return A future completed with the drain metrics after the world has been stopped.
+     *         Calling this again while a drain is running returns the running drain's future.
+     * 
+     * @see BridgeWorldManagerSystem#deactivateWorldGracefully(BridgeWorld, List, int, long)
+     */
+    @Nonnull
+    public CompletableFuture<DrainResult> deactivateGracefully(@Nullable List<World> movePlayersTo, int playersPerTick,
+        long timeoutMillis) {
+        return BridgeWorldManagerSystem.get().deactivateWorldGracefully(this, movePlayersTo, playersPerTick, timeoutMillis);
+    }
+
     /**
      * Transfers a player from their current world to this world.
      * 
@@ -128,25 +185,212 @@ public final class BridgeWorld {
      * @see PlayerRef
      */
     public void transferPlayer(@Nonnull PlayerRef playerRef) {
-        var currentWorld = Universe.get().getWorld(playerRef.getWorldUuid());
-        currentWorld.execute(() -> {
-            try {
-                playerRef.removeFromStore();
-                
-                hWorld.execute(() -> {
-                    CompletableFuture<PlayerRef> future = hWorld.addPlayer(playerRef);
-                    
-                    if (future != null) {
-                        future.exceptionally(throwable -> {
-                            BridgePlugin.logger().atSevere().log(throwable.getMessage());
-                            return null;
-                        });
-                    }
-                });
-            } catch (Exception e) {
-                BridgePlugin.logger().atSevere().log(e.toString());
-            }
-        });
+        BridgeWorldManagerSystem.get().transferPlayer(playerRef, hWorld);
+    }
+
+    /**
+     * Transfers a group of players to this world together.
+     *
+     * <p>Players are removed from each source world in one task and added to this world in one task,
+     * so a group arrives in the same tick and costs two thread hops in total rather than two per player.
+     *
+     * @param playerRefs The players to transfer
+     * @return A future completed once every transfer has finished, with the players that were added
+     *
+     * @see #transferPlayer(PlayerRef)
+     */
+    @Nonnull
+    public CompletableFuture<List<PlayerRef>> transferPlayers(@Nonnull Collection<PlayerRef> playerRefs) {
+        return BridgeWorldManagerSystem.get().transferPlayers(playerRefs, hWorld);
+    }
+
+    /**
+     * Takes a consistent copy of this world's files without stopping it.
+     * 
+     * <p>This world's thread is only held to start an asynchronous flush of pending saves, where
+     * the server has one, and pause saving, normally for a few milliseconds. The files are copied in the background while the world keeps running,
+     * and saving resumes once the copy is complete. Unlike copying the save folder directly,
+     * the result never mixes region files from different moments. If saving cannot be paused on
+     * this server version, the future fails with an {@link IllegalStateException} rather than
+     * returning a copy that may be torn.
+     * 
+     * @return A future completed with the snapshot, which can be passed to
+     *         {@link com.bridge.api.BridgeWorldManager#copyWorld(WorldSnapshot, String, BridgeWorldComponent, Consumer)}.
+     *         Calling this again while a snapshot is being taken returns the running snapshot's future.
+     * 
+     * @see BridgeWorldManagerSystem#snapshotWorld(BridgeWorld)
+     */
+    @Nonnull
+    public CompletableFuture<WorldSnapshot> snapshot() {
+        return BridgeWorldManagerSystem.get().snapshotWorld(this);
+    }
+
+    /**
+     * Packs this world into a single compressed archive file, for distributing it to other nodes.
+     * 
+     * <p>An active world is packed from a {@link #snapshot()}, so it keeps running while it is exported.
+     * 
+     * @param archiveFile The file to write; replaced atomically if it exists
+     * @return A future completed with the written archive
+     * 
+     * @see WorldArchive
+     * @see BridgeWorldManagerSystem#exportWorld(BridgeWorld, Path)
+     */
+    @Nonnull
+    public CompletableFuture<WorldArchive> exportTo(@Nonnull Path archiveFile) {
+        return BridgeWorldManagerSystem.get().exportWorld(this, archiveFile);
+    }
+
+    /**
+     * Puts this world into hibernation: its component stops being ticked and, where the server allows it,
+     * the world's tick rate is lowered. Chunks stay loaded, so waking is immediate.
+     * 
+     * <p>The world wakes up by itself when a player is transferred in or joins, and when one of its
+     * scheduled tasks runs. Scheduled tasks keep their real-time delays while hibernating.
+     * 
+     * @return false if the world is not active or has players in it
+     * 
+     * @see #wake()
+     * @see #getHibernationReport()
+     */
+    public boolean hibernate() {
+        return BridgeWorldManagerSystem.get().hibernateWorld(this);
+    }
+
+    /**
+     * Ends hibernation, restoring the world's tick rate and ticking its component again.
+     * Does nothing if the world is not hibernating.
+     * 
+     * @see #hibernate()
+     */
+    public void wake() {
+        BridgeWorldManagerSystem.get().wakeWorld(this);
+    }
+
+    /**
+     * @return Whether this world is currently hibernating.
+     * 
+     * @see #hibernate()
+     */
+    public boolean isHibernating() {
+        return BridgeWorldManagerSystem.get().isHibernating(this);
+    }
+
+    /**
+     * Gets the time and CPU this world has saved by hibernating.
+     * 
+     * @return The hibernation counters of this world, added up over all its hibernations
+     * 
+     * @see HibernationReport
+     */
+    @Nonnull
+    public HibernationReport getHibernationReport() {
+        return BridgeWorldManagerSystem.get().getHibernationReport(this);
+    }
+
+    /**
+     * Starts recording a replay of this world: player positions and rotations every {@code sampleEveryTicks}
+     * ticks, plus player join, leave and death events. Recording stops when this world is deactivated or deleted,
+     * or the server shuts down.
+     * 
+     * @param file The replay file to write, replaced if it exists
+     * @param sampleEveryTicks How often to record player positions; 1 records every tick
+     * @return The recording, to stop it and read its counters
+     * @throws IOException if the file cannot be created
+     * @throws IllegalStateException if this world is already being recorded
+     * 
+     * @see ReplayReader
+     */
+    @Nonnull
+    public ReplayRecording startRecording(@Nonnull Path file, int sampleEveryTicks) throws IOException {
+        return WorldReplays.start(this, file, sampleEveryTicks);
+    }
+
+    /**
+     * @return The replay being recorded from this world, or null if none is.
+     * 
+     * @see #startRecording(Path, int)
+     */
+    @Nullable
+    public ReplayRecording getRecording() {
+        return WorldReplays.get(this);
+    }
+
+    /**
+     * Runs a task once on this world's thread after the given number of ticks.
+     * 
+     * <p>Tasks are kept in a timing wheel advanced by this world's ticks, so scheduling and
+     * cancelling are constant time and no extra threads are involved. Tasks scheduled while
+     * the world is inactive wait until it ticks again.
+     * 
+     * @param delayTicks The number of world ticks to wait. Values below 1 run the task on the next tick.
+     * @param task The work to run
+     * @return A handle that can cancel the task from any thread
+     * 
+     * @see #scheduleRepeating(long, long, Runnable)
+     */
+    @Nonnull
+    public ScheduledTask schedule(long delayTicks, @Nonnull Runnable task) {
+        return BridgeWorldManagerSystem.get().schedule(this, delayTicks, 0L, task);
+    }
+
+    /**
+     * Runs a task repeatedly on this world's thread, first after {@code delayTicks} and then every
+     * {@code periodTicks} ticks until cancelled.
+     * 
+     * @param delayTicks The number of world ticks before the first run
+     * @param periodTicks The number of world ticks between runs (at least 1)
+     * @param task The work to run
+     * @return A handle that can cancel the task from any thread
+     * 
+     * @see #schedule(long, Runnable)
+     */
+    @Nonnull
+    public ScheduledTask scheduleRepeating(long delayTicks, long periodTicks, @Nonnull Runnable task) {
+        return BridgeWorldManagerSystem.get().schedule(this, delayTicks, Math.max(1L, periodTicks), task);
+    }
+
+    /**
+     * Opens a typed message channel into this world.
+     * 
+     * <p>Other worlds, or any other thread, send messages with {@link BridgeChannel#send(Object)}.
+     * Once per tick of this world, up to {@code maxPerTick} queued messages are drained and handed
+     * to {@code handler} as one batch on this world's thread, so the handler may touch world state
+     * without further synchronization.
+     * 
+     * <pre>{@code
+     * lobby.openChannel("match-results", MatchResult.class, 1024, 64,
+     *     (bWorld, results) -> results.forEach(this::recordResult));
+     * 
+     * // In a match world:
+     * lobby.getChannel("match-results", MatchResult.class).send(result);
+     * }</pre>
+     * 
+     * @param name The channel name, unique within this world
+     * @param type The message type, used to check lookups with {@link #getChannel(String, Class)}
+     * @param capacity The maximum number of undelivered messages; rounded up to a power of two
+     * @param maxPerTick The maximum number of messages delivered per tick
+     * @param handler Receives each batch on this world's thread
+     * @return The opened channel
+     * 
+     * @throws IllegalStateException if a channel with this name is already open in this world
+     */
+    @Nonnull
+    public <T> BridgeChannel<T> openChannel(@Nonnull String name, @Nonnull Class<T> type, int capacity, int maxPerTick,
+        @Nonnull BridgeMessageHandler<T> handler) {
+        return BridgeWorldManagerSystem.get().openChannel(this, name, type, capacity, maxPerTick, handler);
+    }
+
+    /**
+     * Looks up an open channel into this world.
+     * 
+     * @param name The name the channel was opened with
+     * @param type The message type the channel was opened with
+     * @return The channel, or null if no open channel with that name and type exists
+     */
+    @Nullable
+    public <T> BridgeChannel<T> getChannel(@Nonnull String name, @Nonnull Class<T> type) {
+        return BridgeWorldManagerSystem.get().getChannel(this, name, type);
     }
 
     /**
@@ -189,6 +433,281 @@ public final class BridgeWorld {
         return bWorldComponent;
     }
 
+    /**
+     * Gets the name of the template this world is an instance of.
+     * 
+     * <p>Worlds copied with {@link BridgeWorldManagerSystem#copyWorld(World, String, BridgeWorldComponent, Consumer)}
+     * inherit the template of their source world; any other world is its own template.
+     * 
+     * @return The template name, used to group instances for placement
+     * 
+     * @see com.bridge.api.BridgeWorldManager#reservePlacement(String)
+     */
+    @Nonnull
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Sets the name of the template this world is an instance of.
+     * 
+     * @param template The template name
+     * 
+     * @see #getTemplate()
+     */
+    public void setTemplate(@Nonnull String template) {
+        this.template = template;
+    }
+
+    /**
+     * Gets whether this world is active, hibernating or inactive.
+     * 
+     * @return The current lifecycle state
+     * 
+     * @see WorldQuery#inState(WorldState)
+     */
+    @Nonnull
+    public WorldState getState() {
+        if (!active) {
+            return WorldState.INACTIVE;
+        }
+        var system = BridgeWorldManagerSystem.get();
+        return system != null && system.isHibernating(this) ? WorldState.HIBERNATING : WorldState.ACTIVE;
+    }
+
+    /**
+     * Adds a free-form tag, such as a mode or region, that queries can filter on.
+     * 
+     * @param tag The tag to add
+     * @return false if this world already had the tag
+     * 
+     * @see WorldQuery#taggedWith(String...)
+     */
+    public boolean addTag(@Nonnull String tag) {
+        if (!tags.add(tag)) {
+            return false;
+        }
+        WorldIndex.tagAdded(this, tag);
+        return true;
+    }
+
+    /**
+     * Removes a tag added with {@link #addTag(String)}.
+     * 
+     * @param tag The tag to remove
+     * @return false if this world did not have the tag
+     */
+    public boolean removeTag(@Nonnull String tag) {
+        if (!tags.remove(tag)) {
+            return false;
+        }
+        WorldIndex.tagRemoved(this, tag);
+        return true;
+    }
+
+    /**
+     * @return Whether this world has the given tag.
+     */
+    public boolean hasTag(@Nonnull String tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * @return A read-only view of this world's tags.
+     */
+    @Nonnull
+    public Set<String> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    /**
+     * Gets the rolling load statistics of this world.
+     * 
+     * @return The live load statistics; values keep updating after this call
+     * 
+     * @see BridgeWorldLoad
+     */
+    @Nonnull
+    public BridgeWorldLoad getLoad() {
+        return WorldPlacementService.getLoad(this);
+    }
+
+    /**
+     * Counts a stat for this world, the player and all worlds, e.g. a kill. Safe to call from any thread;
+     * counters are striped, so world threads counting the same stat do not contend.
+     * 
+     * @param playerUuid The player to count the stat for, or null to count it for the world only
+     * @param stat The stat name; see {@link BridgeStats} for the stats Bridge counts by itself
+     * @param amount The amount to add
+     */
+    public void incrementStat(@Nullable UUID playerUuid, @Nonnull String stat, long amount) {
+        StatsService.increment(this, playerUuid, stat, amount);
+    }
+
+    /**
+     * @return The total of a stat in this world since the server started.
+     * 
+     * @see BridgeStats
+     */
+    public long getStat(@Nonnull String stat) {
+        return StatsService.get(this, stat);
+    }
+
+    /**
+     * @return How much a stat grew in this world over the last minute.
+     */
+    public long getStatPerMinute(@Nonnull String stat) {
+        return StatsService.perMinute(this, stat);
+    }
+
+    /**
+     * @return How much a stat grew in this world over the last hour.
+     */
+    public long getStatPerHour(@Nonnull String stat) {
+        return StatsService.perHour(this, stat);
+    }
+
+    /**
+     * Gets how many chunks and entities this world holds and roughly how much memory they retain.
+     * 
+     * @return The live footprint, whose values keep updating after this call. Counts restart from zero each
+     *         time the world is activated. Before the world has been created, an empty footprint that does not
+     *         update.
+     * 
+     * @see WorldFootprint
+     */
+    @Nonnull
+    public WorldFootprint getFootprint() {
+        return WorldAccounting.getFootprint(this);
+    }
+
+    /**
+     * Sets how many players placement may route to this world.
+     * 
+     * <p>Players, pending transfers and placement reservations all count against the capacity.
+     * Direct calls to {@link #transferPlayer(PlayerRef)} are not limited by it.
+     * 
+     * @param capacity The maximum number of players, or 0 for no limit
+     */
+    public void setCapacity(int capacity) {
+        WorldPlacementService.getLoad(this).setCapacity(capacity);
+    }
+
+    /**
+     * Gets how this world's component has been doing against its tick budget.
+     * 
+     * @return A snapshot of the component's tick timings and any policy applied to it
+     * 
+     * @see com.bridge.api.BridgeWorldManager#setTickBudget(long, int, TickBudgetPolicy)
+     */
+    @Nonnull
+    public ComponentTickReport getTickReport() {
+        return BridgeWorldManagerSystem.get().getTickReport(this);
+    }
+
+    /**
+     * Lifts a throttle or quarantine applied to this world's component and clears its overrun history,
+     * so it is ticked every tick again.
+     */
+    public void releaseTickQuarantine() {
+        BridgeWorldManagerSystem.get().releaseTickQuarantine(this);
+    }
+
+    /**
+     * Replaces all build regions of this world with the given ones, in one rebuild of its region index.
+     * 
+     * @param regions The regions to keep; they are copied
+     * 
+     * @see BuildRegion
+     * @see #canBuild(UUID, BuildAction, int, int, int)
+     */
+    public void setBuildRegions(@Nonnull Collection<BuildRegion> regions) {
+        synchronized (buildRegionsLock) {
+            buildRegions = regions.isEmpty() ? BuildRegionIndex.EMPTY : BuildRegionIndex.EMPTY.with(regions);
+        }
+    }
+
+    /**
+     * Adds build regions to this world, replacing regions with the same id and keeping the others. The world's
+     * region index is rebuilt once for the whole batch, so add many regions with one call rather than one call
+     * per region.
+     * 
+     * @param regions The regions to add; they are copied
+     */
+    public void addBuildRegions(@Nonnull Collection<BuildRegion> regions) {
+        synchronized (buildRegionsLock) {
+            buildRegions = buildRegions.with(regions);
+        }
+    }
+
+    /**
+     * Adds a build region to this world, replacing a region with the same id.
+     * 
+     * @see #addBuildRegions(Collection)
+     */
+    public void addBuildRegion(@Nonnull BuildRegion region) {
+        addBuildRegions(List.of(region));
+    }
+
+    /**
+     * Removes build regions from this world in one rebuild of its region index.
+     * 
+     * @param ids The ids of the regions to remove
+     * @return false if none of the regions existed
+     */
+    public boolean removeBuildRegions(@Nonnull Collection<String> ids) {
+        synchronized (buildRegionsLock) {
+            var next = buildRegions.without(ids);
+            if (next == buildRegions) {
+                return false;
+            }
+            buildRegions = next;
+            return true;
+        }
+    }
+
+    /**
+     * Removes a build region from this world.
+     * 
+     * @return false if the region did not exist
+     */
+    public boolean removeBuildRegion(@Nonnull String id) {
+        return removeBuildRegions(List.of(id));
+    }
+
+    /**
+     * Removes every build region from this world, leaving only the world-wide flags.
+     */
+    public void clearBuildRegions() {
+        synchronized (buildRegionsLock) {
+            buildRegions = BuildRegionIndex.EMPTY;
+        }
+    }
+
+    /**
+     * @return Copies of this world's build regions, in the order they were added.
+     */
+    @Nonnull
+    public List<BuildRegion> getBuildRegions() {
+        return buildRegions.getRegions();
+    }
+
+    /**
+     * Checks this world's build regions for a block interaction. Bridge calls this for every block a player
+     * breaks, damages or places; plugins can call it for their own interactions, such as {@link BuildAction#GATHER}.
+     * 
+     * <p>Costs two hash lookups plus a walk over the regions near the block, rather than over every region of the
+     * world, and does not allocate. The world-wide flags are not part of this check, see {@link BuildRegion}.
+     * 
+     * @param playerUuid The acting player, or null for interactions not caused by a player
+     * @param action The interaction
+     * @return false if the deciding region denies the action and the player is not one of its members;
+     *         true otherwise
+     */
+    public boolean canBuild(@Nullable UUID playerUuid, @Nonnull BuildAction action, int x, int y, int z) {
+        return buildRegions.isAllowed(playerUuid, action, x, y, z);
+    }
+
     /**
      * Enables or disables block breaking in this world.
      * 
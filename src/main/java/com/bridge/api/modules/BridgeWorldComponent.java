@@ -16,7 +16,7 @@ public class BridgeWorldComponent {
     
     /**
      * Called every server tick for active worlds.
-     * This method is invoked on the main server thread.
+     * This method is invoked on the world's own thread.
      * 
      * <p><b>Performance Note:</b> Keep this method lightweight as it runs every tick
      * for every active world with this component.
@@ -29,6 +29,34 @@ public class BridgeWorldComponent {
     public void onTick(BridgeWorld bWorld, float deltaTime) {
         // Default implementation does nothing
     }
+
+    /**
+     * Returns how long a single {@link #onTick(BridgeWorld, float)} call of this component may take.
+     * 
+     * <p>Calls that take longer count against the component; components that exceed their budget
+     * repeatedly are reported and handled by the configured {@link TickBudgetPolicy}.
+     * 
+     * @return The budget in nanoseconds, or 0 to use the global budget
+     * 
+     * @see com.bridge.api.BridgeWorldManager#setTickBudget(long, int, TickBudgetPolicy)
+     */
+    public long getTickBudgetNanos() {
+        return 0L;
+    }
+
+    /**
+     * Returns the codec used to keep this component's state across deactivation and restarts.
+     * 
+     * <p>The state is written when the world is deactivated or the server shuts down, and restored
+     * on the world thread before the first callback after the world is activated again.
+     * 
+     * @return The codec, or null to not persist any state
+     * 
+     * @see ComponentStateCodec
+     */
+    public ComponentStateCodec getStateCodec() {
+        return null;
+    }
     
     /**
      * Called when a world is first created and registered with the Bridge system.
@@ -0,0 +1,44 @@
+package com.bridge.api.modules;
+
+/**
+ * Rolling load statistics Bridge keeps for every {@link BridgeWorld}.
+ *
+ * <p>All values are updated incrementally as players join, leave and are transferred, and as the world ticks,
+ * so reading them is cheap from any thread. Values read from other threads may be slightly stale.
+ * 
+ * @see BridgeWorld#getLoad()
+ */
+public interface BridgeWorldLoad {
+
+    /**
+     * @return The number of players currently in the world.
+     */
+    int getPlayerCount();
+
+    /**
+     * @return The number of transfers into the world that have been started but not completed yet.
+     */
+    int getPendingTransfers();
+
+    /**
+     * @return The number of slots reserved by placement reservations that have not been used or released yet.
+     */
+    int getReservedSlots();
+
+    /**
+     * @return The maximum number of players placement will route to the world, or {@link Integer#MAX_VALUE} if unlimited.
+     */
+    int getCapacity();
+
+    /**
+     * @return The capacity minus players, pending transfers and reservations. Never negative.
+     */
+    int getFreeSlots();
+
+    /**
+     * @return The exponentially weighted moving average of the time between two ticks of the world, in nanoseconds,
+     *         at the world's normal tick rate: while a hibernating world runs at a lowered rate, each interval is
+     *         divided by the number of normal ticks it stands in for. 0 until the world has ticked twice.
+     */
+    long getAverageTickNanos();
+}
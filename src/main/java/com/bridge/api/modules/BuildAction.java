@@ -0,0 +1,13 @@
+package com.bridge.api.modules;
+
+/**
+ * The block interactions {@link BuildRegion}s can allow or deny.
+ */
+public enum BuildAction {
+    /** Breaking blocks, including damaging them on the way to breaking. */
+    BREAK,
+    /** Placing blocks. */
+    PLACE,
+    /** Harvesting blocks. Not enforced by Bridge itself; check it with {@link BridgeWorld#canBuild(java.util.UUID, BuildAction, int, int, int)}. */
+    GATHER
+}
@@ -0,0 +1,156 @@
+package com.bridge.api.modules;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+
+/**
+ * A box of blocks in a {@link BridgeWorld} with its own build rules, such as a protected spawn or a buildable arena.
+ *
+ * <p>Where regions overlap, the one with the highest priority that allows or denies an action decides it; regions
+ * that say nothing about an action leave it to the next one. Members of a region may do what the region denies.
+ *
+ * <p>Regions can only restrict the world-wide {@code setAllowBlock...} flags, never lift them: an action those
+ * flags disallow stays disallowed everywhere, even in a region that allows it.
+ *
+ * <pre>{@code
+ * bWorld.setBuildRegions(List.of(
+ *     new BuildRegion("map", -512, 0, -512, 511, 319, 511).deny(BuildAction.BREAK, BuildAction.PLACE),
+ *     new BuildRegion("arena", -40, 60, -40, 39, 120, 39).priority(10).allow(BuildAction.BREAK, BuildAction.PLACE)));
+ * }</pre>
+ *
+ * <p>A region is copied when it is added to a world; change it and add it again to update it.
+ *
+ * @see BridgeWorld#setBuildRegions(java.util.Collection)
+ */
+public final class BuildRegion {
+    private final String id;
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+    private int priority;
+    private final Set<BuildAction> allowed = EnumSet.noneOf(BuildAction.class);
+    private final Set<BuildAction> denied = EnumSet.noneOf(BuildAction.class);
+    private final Set<UUID> members = new HashSet<>();
+
+    /**
+     * Creates a region covering the blocks between two corners, both inclusive, in any order.
+     *
+     * @param id The name of the region, unique within its world
+     */
+    public BuildRegion(@Nonnull String id, int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.id = id;
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+    }
+
+    /**
+     * Sets which region decides where regions overlap. Higher wins; defaults to 0.
+     *
+     * @return This region, for chaining
+     */
+    @Nonnull
+    public BuildRegion priority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /**
+     * @return This region, for chaining
+     */
+    @Nonnull
+    public BuildRegion allow(@Nonnull BuildAction... actions) {
+        for (var action : actions) {
+            allowed.add(action);
+            denied.remove(action);
+        }
+        return this;
+    }
+
+    /**
+     * @return This region, for chaining
+     */
+    @Nonnull
+    public BuildRegion deny(@Nonnull BuildAction... actions) {
+        for (var action : actions) {
+            denied.add(action);
+            allowed.remove(action);
+        }
+        return this;
+    }
+
+    /**
+     * Lets a player do what this region denies, e.g. the owner of a plot.
+     *
+     * @return This region, for chaining
+     */
+    @Nonnull
+    public BuildRegion addMember(@Nonnull UUID playerUuid) {
+        members.add(playerUuid);
+        return this;
+    }
+
+    @Nonnull
+    public String getId() {
+        return id;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    @Nonnull
+    public Set<BuildAction> getAllowed() {
+        return Collections.unmodifiableSet(allowed);
+    }
+
+    @Nonnull
+    public Set<BuildAction> getDenied() {
+        return Collections.unmodifiableSet(denied);
+    }
+
+    @Nonnull
+    public Set<UUID> getMembers() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    @Override
+    public String toString() {
+        return "BuildRegion{id=" + id + ", min=(" + minX + ", " + minY + ", " + minZ + "), max=(" + maxX + ", " + maxY + ", " + maxZ
+            + "), priority=" + priority + ", allowed=" + allowed + ", denied=" + denied + ", members=" + members.size() + "}";
+    }
+}
@@ -0,0 +1,38 @@
+package com.bridge.api.modules;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+
+/**
+ * Saves and restores the in-memory state of a {@link BridgeWorldComponent}, such as scores, the round number
+ * or spawn assignments, so it survives deactivation and server restarts.
+ *
+ * <p>Bridge encodes the state when the world is deactivated and when the server shuts down, and writes it
+ * next to the world's save in the background. When the world is activated again, the state is read in the
+ * background and decoded on the world thread right before the component's first callback.
+ *
+ * @see BridgeWorldComponent#getStateCodec()
+ */
+public interface ComponentStateCodec {
+
+    /**
+     * @return The version of the format written by {@link #write(BridgeWorld, DataOutput)}. Increase it whenever
+     *         the format changes; {@link #read(BridgeWorld, int, DataInput)} receives the version a blob was written with.
+     */
+    int getVersion();
+
+    /**
+     * Writes the component's state. Called on the world thread, or once the world has stopped ticking, so it
+     * should only copy fields into {@code out}; the file itself is written on another thread.
+     */
+    void write(@Nonnull BridgeWorld bWorld, @Nonnull DataOutput out) throws IOException;
+
+    /**
+     * Restores the component's state on the world thread.
+     *
+     * @param version The version the state was written with; never greater than {@link #getVersion()}
+     */
+    void read(@Nonnull BridgeWorld bWorld, int version, @Nonnull DataInput in) throws IOException;
+}
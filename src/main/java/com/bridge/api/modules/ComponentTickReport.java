@@ -0,0 +1,97 @@
+package com.bridge.api.modules;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Snapshot of how a world's {@link BridgeWorldComponent} has been doing against its tick budget.
+ * 
+ * @see BridgeWorld#getTickReport()
+ */
+public final class ComponentTickReport {
+    private final BridgeWorld bWorld;
+    private final Class<? extends BridgeWorldComponent> componentClass;
+    private final long budgetNanos;
+    private final long averageNanos;
+    private final long maxNanos;
+    private final long overruns;
+    private final boolean flagged;
+    private final TickBudgetPolicy appliedPolicy;
+    private final StackTraceElement[] stackSample;
+
+    public ComponentTickReport(@Nonnull BridgeWorld bWorld, @Nonnull Class<? extends BridgeWorldComponent> componentClass,
+        long budgetNanos, long averageNanos, long maxNanos, long overruns, boolean flagged,
+        @Nonnull TickBudgetPolicy appliedPolicy, @Nullable StackTraceElement[] stackSample) {
+
+        this.bWorld = bWorld;
+        this.componentClass = componentClass;
+        this.budgetNanos = budgetNanos;
+        this.averageNanos = averageNanos;
+        this.maxNanos = maxNanos;
+        this.overruns = overruns;
+        this.flagged = flagged;
+        this.appliedPolicy = appliedPolicy;
+        this.stackSample = stackSample;
+    }
+
+    @Nonnull
+    public BridgeWorld getBridgeWorld() {
+        return bWorld;
+    }
+
+    @Nonnull
+    public Class<? extends BridgeWorldComponent> getComponentClass() {
+        return componentClass;
+    }
+
+    /**
+     * @return The budget the component is measured against, in nanoseconds.
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @return The moving average of {@code onTick} durations, in nanoseconds.
+     */
+    public long getAverageNanos() {
+        return averageNanos;
+    }
+
+    /**
+     * @return The longest {@code onTick} call seen, in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return The total number of calls that exceeded the budget.
+     */
+    public long getOverruns() {
+        return overruns;
+    }
+
+    /**
+     * @return true if the component has exceeded its budget often enough to be treated as an offender.
+     */
+    public boolean isFlagged() {
+        return flagged;
+    }
+
+    /**
+     * @return The policy currently applied to the component. {@link TickBudgetPolicy#REPORT} if it is ticked normally.
+     */
+    @Nonnull
+    public TickBudgetPolicy getAppliedPolicy() {
+        return appliedPolicy;
+    }
+
+    /**
+     * @return The stack of the world thread captured while the component was over budget, or null if none was taken yet.
+     */
+    @Nullable
+    public StackTraceElement[] getStackSample() {
+        return stackSample;
+    }
+}
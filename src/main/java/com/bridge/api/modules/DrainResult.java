@@ -0,0 +1,71 @@
+package com.bridge.api.modules;
+
+/**
+ * Outcome of a graceful player drain started by {@link BridgeWorld#deactivateGracefully(java.util.List, int, long)}.
+ *
+ * <p>Instances are immutable and are handed to the caller once the source world has been stopped.
+ */
+public final class DrainResult {
+    private final int playersMoved;
+    private final int playersForced;
+    private final int ticks;
+    private final long durationNanos;
+    private final boolean timedOut;
+
+    public DrainResult(int playersMoved, int playersForced, int ticks, long durationNanos, boolean timedOut) {
+        this.playersMoved = playersMoved;
+        this.playersForced = playersForced;
+        this.ticks = ticks;
+        this.durationNanos = durationNanos;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * @return The number of players moved in rate-limited batches.
+     */
+    public int getPlayersMoved() {
+        return playersMoved;
+    }
+
+    /**
+     * @return The number of players still in the world when the deadline passed,
+     *         which were moved all at once to the first target world.
+     */
+    public int getPlayersForced() {
+        return playersForced;
+    }
+
+    /**
+     * @return The number of world ticks the drain was spread over.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The time between the start of the drain and the world being stopped, in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return The time between the start of the drain and the world being stopped, in milliseconds.
+     */
+    public long getDurationMillis() {
+        return durationNanos / 1_000_000L;
+    }
+
+    /**
+     * @return true if the deadline passed before every player had been moved.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public String toString() {
+        return "DrainResult{moved=" + playersMoved + ", forced=" + playersForced + ", ticks=" + ticks
+            + ", durationMs=" + getDurationMillis() + ", timedOut=" + timedOut + "}";
+    }
+}
@@ -0,0 +1,94 @@
+package com.bridge.api.modules;
+
+import javax.annotation.Nonnull;
+
+/**
+ * What hibernation has saved a world so far, returned by {@link BridgeWorld#getHibernationReport()}.
+ *
+ * <p>The counters add up over every hibernation of the world since it was registered with Bridge.
+ */
+public final class HibernationReport {
+    private final BridgeWorld bWorld;
+    private final boolean hibernating;
+    private final boolean tickRateReduced;
+    private final int hibernations;
+    private final long hibernatedNanos;
+    private final long componentTicksSkipped;
+    private final long componentNanosSaved;
+    private final long serverTicksSkipped;
+
+    public HibernationReport(@Nonnull BridgeWorld bWorld, boolean hibernating, boolean tickRateReduced, int hibernations,
+        long hibernatedNanos, long componentTicksSkipped, long componentNanosSaved, long serverTicksSkipped) {
+
+        this.bWorld = bWorld;
+        this.hibernating = hibernating;
+        this.tickRateReduced = tickRateReduced;
+        this.hibernations = hibernations;
+        this.hibernatedNanos = hibernatedNanos;
+        this.componentTicksSkipped = componentTicksSkipped;
+        this.componentNanosSaved = componentNanosSaved;
+        this.serverTicksSkipped = serverTicksSkipped;
+    }
+
+    @Nonnull
+    public BridgeWorld getBridgeWorld() {
+        return bWorld;
+    }
+
+    /**
+     * @return Whether the world is hibernating right now.
+     */
+    public boolean isHibernating() {
+        return hibernating;
+    }
+
+    /**
+     * @return Whether the server let Bridge lower the world's tick rate during the current or last hibernation.
+     */
+    public boolean isTickRateReduced() {
+        return tickRateReduced;
+    }
+
+    /**
+     * @return The number of times the world has been put into hibernation.
+     */
+    public int getHibernations() {
+        return hibernations;
+    }
+
+    /**
+     * @return The total time spent hibernating, including the current hibernation, in nanoseconds.
+     */
+    public long getHibernatedNanos() {
+        return hibernatedNanos;
+    }
+
+    /**
+     * @return The number of {@link BridgeWorldComponent#onTick(BridgeWorld, float)} calls that were not made.
+     */
+    public long getComponentTicksSkipped() {
+        return componentTicksSkipped;
+    }
+
+    /**
+     * @return The estimated CPU time saved by skipping {@code onTick}, based on the component's average
+     *         tick cost when each call was skipped, in nanoseconds.
+     */
+    public long getComponentNanosSaved() {
+        return componentNanosSaved;
+    }
+
+    /**
+     * @return The number of server ticks the world did not run because its tick rate was lowered.
+     */
+    public long getServerTicksSkipped() {
+        return serverTicksSkipped;
+    }
+
+    @Override
+    public String toString() {
+        return "HibernationReport{world=" + bWorld.bWorldName + ", hibernating=" + hibernating + ", hibernations=" + hibernations
+            + ", hibernatedMs=" + hibernatedNanos / 1_000_000L + ", componentTicksSkipped=" + componentTicksSkipped
+            + ", componentSavedUs=" + componentNanosSaved / 1000L + ", serverTicksSkipped=" + serverTicksSkipped + "}";
+    }
+}
@@ -0,0 +1,209 @@
+package com.bridge.api.modules;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * Describes how a {@link MatchmakingQueue} groups players and where it sends them.
+ *
+ * <p>Players are grouped with others in the same pool whose rating is within a spread of the longest-waiting
+ * player's rating. The spread starts at {@code initialSpread} and widens by {@code spreadPerSecond} for every
+ * second that player has waited, up to {@code maxSpread}. A group smaller than {@code maxPlayers} is only
+ * started once its longest-waiting player has waited {@code fillWaitMillis}.
+ *
+ * <p>Each group is sent to an empty active instance of the template tagged with {@link #getPoolTag()}, or to a
+ * new copy of the template world if there is none. New copies are tagged, capped at {@code maxPlayers} and
+ * reused by later matches once their players have left.
+ *
+ * <pre>{@code
+ * var queue = BridgeWorldManager.createMatchmakingQueue(new MatchmakingConfig("skywars", 4, 12)
+ *     .ratingSpread(100, 25, 600)
+ *     .fillWaitMillis(10_000)
+ *     .onMatch((bWorld, players) -> startRound(bWorld, players)));
+ * }</pre>
+ */
+public final class MatchmakingConfig {
+    private final String template;
+    private final int minPlayers;
+    private final int maxPlayers;
+    private int initialSpread = 100;
+    private int spreadPerSecond = 25;
+    private int maxSpread = Integer.MAX_VALUE;
+    private long fillWaitMillis = 5_000L;
+    private long matchEveryMillis = 100L;
+    private int queueCapacity = 16_384;
+    private int maxProvisioning = 4;
+    private long provisionTimeoutMillis = 60_000L;
+    private ActivationWarmup warmup;
+    private BiConsumer<BridgeWorld, List<PlayerRef>> onMatch;
+
+    /**
+     * @param template The template whose instances host the matches. The world with this name is copied
+     *                 when no pooled instance is free.
+     * @param minPlayers The smallest group that is started
+     * @param maxPlayers The largest group, also the capacity of new instances
+     *
+     * @throws IllegalArgumentException if {@code minPlayers} is below 1 or above {@code maxPlayers}
+     */
+    public MatchmakingConfig(@Nonnull String template, int minPlayers, int maxPlayers) {
+        if (minPlayers < 1 || maxPlayers < minPlayers) {
+            throw new IllegalArgumentException("Invalid match size " + minPlayers + ".." + maxPlayers);
+        }
+        this.template = template;
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+    }
+
+    /**
+     * Sets how far apart ratings in a group may be.
+     *
+     * @param initial The spread for a player who just joined the queue
+     * @param perSecond How much the spread widens per second of waiting
+     * @param max The widest spread
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig ratingSpread(int initial, int perSecond, int max) {
+        this.initialSpread = Math.max(0, initial);
+        this.spreadPerSecond = Math.max(0, perSecond);
+        this.maxSpread = Math.max(this.initialSpread, max);
+        return this;
+    }
+
+    /**
+     * Sets how long the longest-waiting player of a group that is not full waits for more players.
+     *
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig fillWaitMillis(long fillWaitMillis) {
+        this.fillWaitMillis = Math.max(0L, fillWaitMillis);
+        return this;
+    }
+
+    /**
+     * Sets how often queued players are grouped. Defaults to every 100 milliseconds.
+     *
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig matchEveryMillis(long matchEveryMillis) {
+        this.matchEveryMillis = Math.max(1L, matchEveryMillis);
+        return this;
+    }
+
+    /**
+     * Sets how many players can be waiting to be picked up by the next grouping pass.
+     * Enqueuing fails once this many are waiting.
+     *
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig queueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(2, queueCapacity);
+        return this;
+    }
+
+    /**
+     * Sets how many template copies may be in progress at once, and how long a group waits for its copy
+     * before its players are queued again.
+     *
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig provisioning(int maxConcurrent, long timeoutMillis) {
+        this.maxProvisioning = Math.max(1, maxConcurrent);
+        this.provisionTimeoutMillis = Math.max(1L, timeoutMillis);
+        return this;
+    }
+
+    /**
+     * Sets the area to load in new instances before players are moved in.
+     *
+     * @param warmup The warm-up, or null to move players in as soon as the instance has started
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig warmup(@Nullable ActivationWarmup warmup) {
+        this.warmup = warmup;
+        return this;
+    }
+
+    /**
+     * Sets a callback invoked once the players of a match have been transferred.
+     * The list only contains players whose transfer succeeded.
+     *
+     * @return This config, for chaining
+     */
+    @Nonnull
+    public MatchmakingConfig onMatch(@Nullable BiConsumer<BridgeWorld, List<PlayerRef>> onMatch) {
+        this.onMatch = onMatch;
+        return this;
+    }
+
+    @Nonnull
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return The tag on instances that belong to this queue's pool.
+     */
+    @Nonnull
+    public String getPoolTag() {
+        return "matchmaking:" + template;
+    }
+
+    public int getMinPlayers() {
+        return minPlayers;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public int getInitialSpread() {
+        return initialSpread;
+    }
+
+    public int getSpreadPerSecond() {
+        return spreadPerSecond;
+    }
+
+    public int getMaxSpread() {
+        return maxSpread;
+    }
+
+    public long getFillWaitMillis() {
+        return fillWaitMillis;
+    }
+
+    public long getMatchEveryMillis() {
+        return matchEveryMillis;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getMaxProvisioning() {
+        return maxProvisioning;
+    }
+
+    public long getProvisionTimeoutMillis() {
+        return provisionTimeoutMillis;
+    }
+
+    @Nullable
+    public ActivationWarmup getWarmup() {
+        return warmup;
+    }
+
+    @Nullable
+    public BiConsumer<BridgeWorld, List<PlayerRef>> getOnMatch() {
+        return onMatch;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bridge.api.modules;
+
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * A queue that groups players into matches and moves each group into a pooled instance of a template.
+ *
+ * <p>Enqueuing only hands the player to the matchmaking thread, so it can be called from any world thread.
+ * Every {@link MatchmakingConfig#getMatchEveryMillis()} milliseconds that thread takes everyone who joined,
+ * then walks each pool from the longest-waiting player, picking the players with the closest ratings from
+ * a rating-ordered set. Grouping costs a logarithmic lookup per group rather than a scan of the queue.
+ * Each group is moved with one grouped transfer, see {@link BridgeWorld#transferPlayers(java.util.Collection)}.
+ *
+ * <p>Players who disconnect are skipped when grouping and dropped from every queue shortly after they leave.
+ *
+ * <p>All counters can be read from any thread.
+ *
+ * @see com.bridge.api.BridgeWorldManager#createMatchmakingQueue(MatchmakingConfig)
+ */
+public interface MatchmakingQueue {
+
+    /**
+     * Queues a player in the default pool.
+     *
+     * @return false if the player is already queued, the queue is full or closed
+     */
+    boolean enqueue(@Nonnull PlayerRef playerRef, int rating);
+
+    /**
+     * Queues a player. Players are only grouped with players in the same pool, such as a game mode or region.
+     *
+     * @return false if the player is already queued, the queue is full or closed
+     */
+    boolean enqueue(@Nonnull PlayerRef playerRef, @Nonnull String pool, int rating);
+
+    /**
+     * Removes a player that has not been moved yet, including one whose group is still waiting for an instance.
+     * The rest of that group goes ahead without them, or back in line if too few remain.
+     *
+     * @return true if the player was queued
+     */
+    boolean dequeue(@Nonnull UUID playerUuid);
+
+    /**
+     * @return true if the player is waiting to be grouped or their group is waiting for an instance
+     */
+    boolean isQueued(@Nonnull UUID playerUuid);
+
+    /**
+     * @return The number of players waiting to be grouped.
+     */
+    int getQueuedPlayers();
+
+    /**
+     * @return The number of groups formed but still waiting for an instance to be copied or freed.
+     */
+    int getGroupsAwaitingWorld();
+
+    long getMatchesMade();
+
+    long getPlayersMatched();
+
+    long getMatchesPerMinute();
+
+    long getPlayersMatchedPerMinute();
+
+    /**
+     * @return The exponentially weighted moving average of the time from enqueuing to the group's transfer
+     *         starting, in milliseconds.
+     */
+    long getAverageTimeToMatchMillis();
+
+    /**
+     * @return The longest time from enqueuing to the group's transfer starting, in milliseconds.
+     */
+    long getMaxTimeToMatchMillis();
+
+    /**
+     * @return The exponentially weighted moving average of the time a grouping pass takes, in nanoseconds.
+     */
+    long getAveragePassNanos();
+
+    @Nonnull
+    MatchmakingConfig getConfig();
+
+    boolean isClosed();
+
+    /**
+     * Stops grouping and forgets every queued player, including groups still waiting for an instance, whose
+     * reserved slots are given back. Groups already being moved are not affected.
+     */
+    void close();
+}
@@ -0,0 +1,45 @@
+package com.bridge.api.modules;
+
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * A slot held in a {@link BridgeWorld} by the placement service.
+ *
+ * <p>The slot counts against the world's capacity until it is used by {@link #transfer(PlayerRef)} or given back
+ * by {@link #release()}. Reservations that are never used are released automatically after a timeout.
+ * 
+ * @see com.bridge.api.BridgeWorldManager#reservePlacement(String)
+ */
+public interface PlacementReservation {
+
+    /**
+     * @return The world the slot is held in.
+     */
+    @Nonnull
+    BridgeWorld getBridgeWorld();
+
+    /**
+     * Transfers a player into the reserved slot, consuming the reservation.
+     *
+     * @param playerRef The player to transfer
+     * @return A future completed once the player has been added to the world
+     * 
+     * @throws IllegalStateException if the reservation was already used or released
+     */
+    @Nonnull
+    CompletableFuture<PlayerRef> transfer(@Nonnull PlayerRef playerRef);
+
+    /**
+     * Gives the slot back without transferring anyone.
+     *
+     * @return true if this call released the slot, false if it was already used or released
+     */
+    boolean release();
+
+    /**
+     * @return true once the reservation has been used or released.
+     */
+    boolean isReleased();
+}
@@ -0,0 +1,301 @@
+package com.bridge.api.modules;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.core.replay.ReplayFormat;
+
+/**
+ * Plays back a replay file written by a {@link ReplayRecording}, one frame or event at a time.
+ *
+ * <pre>{@code
+ * try (var replay = ReplayReader.open(file)) {
+ *     while (replay.next()) {
+ *         if (replay.isFrame()) {
+ *             for (int i = 0; i < replay.getPlayerCount(); i++) {
+ *                 moveGhost(replay.getPlayerUuid(i), replay.getX(i), replay.getY(i), replay.getZ(i), replay.getYaw(i));
+ *             }
+ *         } else {
+ *             showEvent(replay.getTick(), replay.getEventType(), replay.getEventPlayerUuid());
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>The reader reuses its buffers between records, so values must be read before calling {@link #next()} again.
+ * A file cut short, for example by a crash, plays back up to its last complete record.
+ */
+public final class ReplayReader implements Closeable {
+    private final DataInputStream in;
+    private final String worldName;
+    private final String template;
+    private final long startedAtMillis;
+    private final int sampleEveryTicks;
+    private final BridgeEventType[] eventTypes;
+
+    private long tick;
+    private boolean frame;
+    private boolean ended;
+
+    private int count;
+    private int[] frameSlots = new int[16];
+    private UUID[] uuids = new UUID[16];
+    private String[] names = new String[16];
+    private int[] x = new int[16];
+    private int[] y = new int[16];
+    private int[] z = new int[16];
+    private int[] yaw = new int[16];
+    private int[] pitch = new int[16];
+
+    private BridgeEventType eventType;
+    private int eventSlot;
+
+    private ReplayReader(@Nonnull DataInputStream in) throws IOException {
+        this.in = in;
+        if (in.readInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a Bridge replay");
+        }
+        int version = in.readInt();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        worldName = in.readUTF();
+        template = in.readUTF();
+        startedAtMillis = in.readLong();
+        sampleEveryTicks = in.readInt();
+        if (in.readInt() != ReplayFormat.POSITION_SCALE || in.readInt() != ReplayFormat.ANGLE_STEPS) {
+            throw new IOException("Unsupported replay quantisation");
+        }
+        eventTypes = new BridgeEventType[in.readInt()];
+        for (int i = 0; i < eventTypes.length; i++) {
+            String name = in.readUTF();
+            eventTypes[i] = Arrays.stream(BridgeEventType.values()).filter(type -> type.name().equals(name)).findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * Opens a replay file and reads its header.
+     *
+     * @throws IOException if the file cannot be read or is not a Bridge replay
+     */
+    @Nonnull
+    public static ReplayReader open(@Nonnull Path file) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        try {
+            return new ReplayReader(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advances to the next frame or event.
+     *
+     * @return false at the end of the replay
+     */
+    public boolean next() throws IOException {
+        while (!ended) {
+            byte tag;
+            try {
+                tag = in.readByte();
+            } catch (EOFException e) {
+                ended = true;
+                return false;
+            }
+            try {
+                switch (tag) {
+                    case ReplayFormat.PLAYER:
+                        readPlayer();
+                        break;
+                    case ReplayFormat.RESET:
+                        Arrays.fill(uuids, null);
+                        Arrays.fill(names, null);
+                        Arrays.fill(x, 0);
+                        Arrays.fill(y, 0);
+                        Arrays.fill(z, 0);
+                        Arrays.fill(yaw, 0);
+                        Arrays.fill(pitch, 0);
+                        break;
+                    case ReplayFormat.FRAME:
+                        readFrame();
+                        return true;
+                    case ReplayFormat.EVENT:
+                        readEvent();
+                        return true;
+                    case ReplayFormat.END:
+                        tick += ReplayFormat.readVarLong(in);
+                        ended = true;
+                        return false;
+                    default:
+                        throw new IOException("Unknown replay record " + tag);
+                }
+            } catch (EOFException e) {
+                // The recording was cut short in the middle of a record.
+                ended = true;
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void readPlayer() throws IOException {
+        int slot = ReplayFormat.readVarInt(in);
+        ensureSlot(slot);
+        uuids[slot] = new UUID(in.readLong(), in.readLong());
+        byte[] name = new byte[ReplayFormat.readVarInt(in)];
+        in.readFully(name);
+        names[slot] = new String(name, StandardCharsets.UTF_8);
+        x[slot] = 0;
+        y[slot] = 0;
+        z[slot] = 0;
+        yaw[slot] = 0;
+        pitch[slot] = 0;
+    }
+
+    private void readFrame() throws IOException {
+        tick += ReplayFormat.readVarLong(in);
+        count = ReplayFormat.readVarInt(in);
+        if (frameSlots.length < count) {
+            frameSlots = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            int slot = ReplayFormat.readVarInt(in);
+            ensureSlot(slot);
+            frameSlots[i] = slot;
+            x[slot] += ReplayFormat.readZigZag(in);
+            y[slot] += ReplayFormat.readZigZag(in);
+            z[slot] += ReplayFormat.readZigZag(in);
+            yaw[slot] = (yaw[slot] + in.readByte()) & (ReplayFormat.ANGLE_STEPS - 1);
+            pitch[slot] = (pitch[slot] + in.readByte()) & (ReplayFormat.ANGLE_STEPS - 1);
+        }
+        frame = true;
+    }
+
+    private void readEvent() throws IOException {
+        tick += ReplayFormat.readVarLong(in);
+        int ordinal = in.readUnsignedByte();
+        eventType = ordinal < eventTypes.length ? eventTypes[ordinal] : null;
+        eventSlot = ReplayFormat.readVarInt(in) - 1;
+        frame = false;
+    }
+
+    private void ensureSlot(int slot) {
+        if (slot < uuids.length) {
+            return;
+        }
+        int length = Math.max(slot + 1, uuids.length * 2);
+        uuids = Arrays.copyOf(uuids, length);
+        names = Arrays.copyOf(names, length);
+        x = Arrays.copyOf(x, length);
+        y = Arrays.copyOf(y, length);
+        z = Arrays.copyOf(z, length);
+        yaw = Arrays.copyOf(yaw, length);
+        pitch = Arrays.copyOf(pitch, length);
+    }
+
+    @Nonnull
+    public String getWorldName() {
+        return worldName;
+    }
+
+    @Nonnull
+    public String getTemplate() {
+        return template;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public int getSampleEveryTicks() {
+        return sampleEveryTicks;
+    }
+
+    /**
+     * @return The world tick of the current record, counted from the start of the recording.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return true if the current record is a frame of player positions, false if it is an event
+     */
+    public boolean isFrame() {
+        return frame;
+    }
+
+    /**
+     * @return The number of players in the current frame.
+     */
+    public int getPlayerCount() {
+        return frame ? count : 0;
+    }
+
+    @Nullable
+    public UUID getPlayerUuid(int index) {
+        return uuids[frameSlots[index]];
+    }
+
+    @Nullable
+    public String getPlayerName(int index) {
+        return names[frameSlots[index]];
+    }
+
+    public double getX(int index) {
+        return ReplayFormat.position(x[frameSlots[index]]);
+    }
+
+    public double getY(int index) {
+        return ReplayFormat.position(y[frameSlots[index]]);
+    }
+
+    public double getZ(int index) {
+        return ReplayFormat.position(z[frameSlots[index]]);
+    }
+
+    /**
+     * @return The yaw in radians, between -pi and pi.
+     */
+    public float getYaw(int index) {
+        return ReplayFormat.angle(yaw[frameSlots[index]]);
+    }
+
+    /**
+     * @return The pitch in radians, between -pi and pi.
+     */
+    public float getPitch(int index) {
+        return ReplayFormat.angle(pitch[frameSlots[index]]);
+    }
+
+    /**
+     * @return The type of the current event, or null if the current record is a frame or the type no longer exists.
+     */
+    @Nullable
+    public BridgeEventType getEventType() {
+        return frame ? null : eventType;
+    }
+
+    /**
+     * @return The player of the current event, or null if it has none.
+     */
+    @Nullable
+    public UUID getEventPlayerUuid() {
+        return frame || eventSlot < 0 ? null : uuids[eventSlot];
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
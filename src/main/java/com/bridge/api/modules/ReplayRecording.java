@@ -0,0 +1,70 @@
+package com.bridge.api.modules;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+
+/**
+ * A replay being recorded from a {@link BridgeWorld}: player positions and rotations sampled every few ticks,
+ * plus player join, leave and death events.
+ *
+ * <p>Samples are quantised (1/32 block, 256 steps per turn), delta-encoded against each player's previous sample
+ * and packed into blocks of a ring allocated when recording starts, so recording a tick does not allocate.
+ * Full blocks are written to the file on a background thread. If the disk falls behind and the ring runs out,
+ * samples are dropped and counted rather than stalling the world, and the stream resynchronises with a key frame.
+ *
+ * <p>All counters can be read from any thread.
+ *
+ * @see BridgeWorld#startRecording(Path, int)
+ * @see ReplayReader
+ */
+public interface ReplayRecording {
+
+    @Nonnull
+    Path getFile();
+
+    /**
+     * @return The number of world ticks since recording started.
+     */
+    long getTicks();
+
+    /**
+     * @return The number of frames recorded; one every {@code sampleEveryTicks} ticks with players in the world.
+     */
+    long getFrames();
+
+    /**
+     * @return The number of player positions recorded over all frames.
+     */
+    long getSamples();
+
+    /**
+     * @return The number of frames and events dropped because the ring was full.
+     */
+    long getDroppedRecords();
+
+    /**
+     * @return The number of bytes written to the file so far.
+     */
+    long getBytesWritten();
+
+    /**
+     * @return The average time spent on the world thread recording a frame, in nanoseconds.
+     */
+    long getAverageRecordNanos();
+
+    /**
+     * @return The longest time spent on the world thread recording a frame, in nanoseconds.
+     */
+    long getMaxRecordNanos();
+
+    boolean isStopped();
+
+    /**
+     * Stops recording, writes the remaining samples and closes the file. Safe to call more than once.
+     *
+     * @return A future completed with this recording once the file is complete
+     */
+    @Nonnull
+    CompletableFuture<ReplayRecording> stop();
+}
@@ -0,0 +1,158 @@
+package com.bridge.api.modules;
+
+/**
+ * Outcome of a default world rotation started by
+ * {@link com.bridge.api.BridgeWorldManager#rotateDefaultWorld(BridgeWorld, ActivationWarmup, int, long)}.
+ *
+ * <p>Tick times are the exponentially weighted moving average of the time between two ticks, as reported by
+ * {@link BridgeWorldLoad#getAverageTickNanos()}. The baselines are read when the default is switched, before
+ * any player is moved; the peaks are the highest averages seen while players were being migrated.
+ *
+ * <p>Instances are immutable and are handed to the caller once the previous default world has been retired.
+ */
+public final class RotationReport {
+    private final String previousWorldName;
+    private final String newWorldName;
+    private final long prepareNanos;
+    private final long migrationNanos;
+    private final long totalNanos;
+    private final int playersMigrated;
+    private final int playersForced;
+    private final int joinsRedirected;
+    private final int ticks;
+    private final long maxBatchNanos;
+    private final long previousBaselineTickNanos;
+    private final long previousPeakTickNanos;
+    private final long newBaselineTickNanos;
+    private final long newPeakTickNanos;
+    private final boolean previousStopped;
+
+    public RotationReport(String previousWorldName, String newWorldName, long prepareNanos, long migrationNanos, long totalNanos,
+        int playersMigrated, int playersForced, int joinsRedirected, int ticks, long maxBatchNanos,
+        long previousBaselineTickNanos, long previousPeakTickNanos, long newBaselineTickNanos, long newPeakTickNanos,
+        boolean previousStopped) {
+
+        this.previousWorldName = previousWorldName;
+        this.newWorldName = newWorldName;
+        this.prepareNanos = prepareNanos;
+        this.migrationNanos = migrationNanos;
+        this.totalNanos = totalNanos;
+        this.playersMigrated = playersMigrated;
+        this.playersForced = playersForced;
+        this.joinsRedirected = joinsRedirected;
+        this.ticks = ticks;
+        this.maxBatchNanos = maxBatchNanos;
+        this.previousBaselineTickNanos = previousBaselineTickNanos;
+        this.previousPeakTickNanos = previousPeakTickNanos;
+        this.newBaselineTickNanos = newBaselineTickNanos;
+        this.newPeakTickNanos = newPeakTickNanos;
+        this.previousStopped = previousStopped;
+    }
+
+    public String getPreviousWorldName() {
+        return previousWorldName;
+    }
+
+    public String getNewWorldName() {
+        return newWorldName;
+    }
+
+    /**
+     * @return The time spent activating and warming the new default world before the switch, in nanoseconds.
+     */
+    public long getPrepareNanos() {
+        return prepareNanos;
+    }
+
+    /**
+     * @return The time between the switch and the last player leaving the previous default world, in nanoseconds.
+     */
+    public long getMigrationNanos() {
+        return migrationNanos;
+    }
+
+    /**
+     * @return The time between the rotation being requested and the previous default world being retired, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return The time between the rotation being requested and the previous default world being retired, in milliseconds.
+     */
+    public long getTotalMillis() {
+        return totalNanos / 1_000_000L;
+    }
+
+    /**
+     * @return The number of players moved in rate-limited batches.
+     */
+    public int getPlayersMigrated() {
+        return playersMigrated;
+    }
+
+    /**
+     * @return The number of players still in the previous default world when the deadline passed,
+     *         which were moved all at once.
+     */
+    public int getPlayersForced() {
+        return playersForced;
+    }
+
+    /**
+     * @return The number of players who joined the previous default world after the switch and were sent on.
+     */
+    public int getJoinsRedirected() {
+        return joinsRedirected;
+    }
+
+    /**
+     * @return The number of ticks of the previous default world the migration was spread over.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The longest time a migration batch held the previous default world's thread, in nanoseconds.
+     */
+    public long getMaxBatchNanos() {
+        return maxBatchNanos;
+    }
+
+    public long getPreviousBaselineTickNanos() {
+        return previousBaselineTickNanos;
+    }
+
+    public long getPreviousPeakTickNanos() {
+        return previousPeakTickNanos;
+    }
+
+    public long getNewBaselineTickNanos() {
+        return newBaselineTickNanos;
+    }
+
+    public long getNewPeakTickNanos() {
+        return newPeakTickNanos;
+    }
+
+    /**
+     * @return true if the previous default world was stopped, false if it was hibernated because the server
+     *         still sends new connections to it; those are then redirected to the new default world.
+     */
+    public boolean isPreviousStopped() {
+        return previousStopped;
+    }
+
+    @Override
+    public String toString() {
+        return "RotationReport{" + previousWorldName + " -> " + newWorldName + ", totalMs=" + getTotalMillis()
+            + ", prepareMs=" + prepareNanos / 1_000_000L + ", migrationMs=" + migrationNanos / 1_000_000L
+            + ", migrated=" + playersMigrated + ", forced=" + playersForced + ", redirected=" + joinsRedirected
+            + ", ticks=" + ticks + ", maxBatchUs=" + maxBatchNanos / 1_000L
+            + ", previousTickUs=" + previousBaselineTickNanos / 1_000L + "->" + previousPeakTickNanos / 1_000L
+            + ", newTickUs=" + newBaselineTickNanos / 1_000L + "->" + newPeakTickNanos / 1_000L
+            + ", previousStopped=" + previousStopped + "}";
+    }
+}
@@ -0,0 +1,28 @@
+package com.bridge.api.modules;
+
+/**
+ * Handle to a task scheduled on a {@link BridgeWorld} through {@link BridgeWorld#schedule(long, Runnable)}
+ * or {@link BridgeWorld#scheduleRepeating(long, long, Runnable)}.
+ *
+ * <p>Handles may be cancelled from any thread.
+ */
+public interface ScheduledTask {
+
+    /**
+     * Cancels the task. A repeating task will not run again; a one-shot task that has not run yet never will.
+     * Cancelling an already cancelled or completed task has no effect.
+     *
+     * @return true if this call cancelled the task, false if it was already cancelled or completed
+     */
+    boolean cancel();
+
+    /**
+     * @return true if the task was cancelled before it completed
+     */
+    boolean isCancelled();
+
+    /**
+     * @return true if a one-shot task has run, or a task has been cancelled
+     */
+    boolean isDone();
+}
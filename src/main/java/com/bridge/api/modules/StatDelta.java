@@ -0,0 +1,54 @@
+package com.bridge.api.modules;
+
+import javax.annotation.Nonnull;
+
+/**
+ * How much one stat of one world or player grew since it was last flushed.
+ *
+ * @see StatsSink
+ */
+public final class StatDelta {
+
+    public enum Scope {
+        /** {@link #getId()} is a world name. */
+        WORLD,
+        /** {@link #getId()} is a player UUID. */
+        PLAYER
+    }
+
+    private final Scope scope;
+    private final String id;
+    private final String stat;
+    private final long delta;
+
+    public StatDelta(@Nonnull Scope scope, @Nonnull String id, @Nonnull String stat, long delta) {
+        this.scope = scope;
+        this.id = id;
+        this.stat = stat;
+        this.delta = delta;
+    }
+
+    @Nonnull
+    public Scope getScope() {
+        return scope;
+    }
+
+    @Nonnull
+    public String getId() {
+        return id;
+    }
+
+    @Nonnull
+    public String getStat() {
+        return stat;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        return "StatDelta{" + scope + " " + id + " " + stat + " +" + delta + "}";
+    }
+}
@@ -0,0 +1,19 @@
+package com.bridge.api.modules;
+
+import java.io.IOException;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Persists stats. Bridge calls it on a background thread every 30 seconds and on shutdown, with every stat that
+ * changed since the last successful call; if it throws, the same deltas are included in the next call.
+ *
+ * <p>The default sink adds the deltas to lifetime totals in {@code stats.json} in Bridge's data folder.
+ *
+ * @see com.bridge.api.BridgeWorldManager#setStatsSink(StatsSink)
+ */
+@FunctionalInterface
+public interface StatsSink {
+
+    void write(@Nonnull List<StatDelta> batch) throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.bridge.api.modules;
+
+/**
+ * What Bridge does with a {@link BridgeWorldComponent} whose {@code onTick} keeps exceeding its tick budget.
+ * 
+ * @see com.bridge.api.BridgeWorldManager#setTickBudget(long, int, TickBudgetPolicy)
+ */
+public enum TickBudgetPolicy {
+    /** Only report the component; keep ticking it every tick. */
+    REPORT,
+    /** Tick the component only every few ticks, passing it the accumulated delta time. */
+    THROTTLE,
+    /** Stop ticking the component until the quarantine is lifted with {@link BridgeWorld#releaseTickQuarantine()}. */
+    QUARANTINE
+}
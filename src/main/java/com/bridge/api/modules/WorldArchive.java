@@ -0,0 +1,130 @@
+package com.bridge.api.modules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import javax.annotation.Nonnull;
+import com.bridge.core.storage.WorldArchiveFormat;
+
+/**
+ * A world packed into one compressed, indexed file, for distributing map templates between nodes.
+ *
+ * <p>Opening an archive only memory-maps and reads its index. Files are stored as independently compressed
+ * chunks, so single files can be extracted without reading the rest of the archive, and whole worlds are
+ * unpacked with all chunks decompressing in parallel.
+ *
+ * @see BridgeWorld#exportTo(Path)
+ * @see com.bridge.api.BridgeWorldManager#copyWorld(WorldArchive, String, BridgeWorldComponent, java.util.function.Consumer)
+ */
+public final class WorldArchive {
+    private final Path path;
+    private final WorldArchiveFormat.Index index;
+
+    private WorldArchive(@Nonnull Path path, @Nonnull WorldArchiveFormat.Index index) {
+        this.path = path;
+        this.index = index;
+    }
+
+    /**
+     * Opens an existing archive.
+     *
+     * @throws IOException if the file cannot be read or is not a Bridge world archive
+     */
+    @Nonnull
+    public static WorldArchive open(@Nonnull Path path) throws IOException {
+        return new WorldArchive(path, WorldArchiveFormat.open(path));
+    }
+
+    /**
+     * Packs a world folder into a new archive, replacing any file at {@code path}.
+     *
+     * <p>The folder must not change while it is packed. To archive a running world, use {@link BridgeWorld#exportTo(Path)},
+     * which packs a snapshot instead.
+     *
+     * @param folder The world's save folder
+     * @param path The archive file to write
+     * @param sourceName The world name recorded in the archive
+     * @param template The template recorded in the archive and inherited by worlds copied from it
+     */
+    @Nonnull
+    public static WorldArchive create(@Nonnull Path folder, @Nonnull Path path, @Nonnull String sourceName, @Nonnull String template)
+        throws IOException {
+        return new WorldArchive(path, WorldArchiveFormat.write(folder, path, sourceName, template));
+    }
+
+    @Nonnull
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return The name of the world the archive was made from.
+     */
+    @Nonnull
+    public String getSourceName() {
+        return index.getSourceName();
+    }
+
+    /**
+     * @return The template recorded in the archive, inherited by worlds copied from it.
+     */
+    @Nonnull
+    public String getTemplate() {
+        return index.getTemplate();
+    }
+
+    /**
+     * @return The relative paths of the archived files, using {@code /} as separator.
+     */
+    @Nonnull
+    public List<String> getEntryNames() {
+        return index.getNames();
+    }
+
+    /**
+     * @return The number of archived files.
+     */
+    public int getFiles() {
+        return index.getFiles();
+    }
+
+    /**
+     * @return The total size of the archived files once extracted, in bytes.
+     */
+    public long getBytes() {
+        return index.getBytes();
+    }
+
+    /**
+     * @return The size of the archived files as stored in the archive, in bytes.
+     */
+    public long getStoredBytes() {
+        return index.getStoredBytes();
+    }
+
+    /**
+     * Extracts a single file, reading only that file's chunks.
+     *
+     * @param entryName The relative path of the file, as listed by {@link #getEntryNames()}
+     * @param destination The file to write
+     * @return The number of bytes written
+     */
+    public long extract(@Nonnull String entryName, @Nonnull Path destination) throws IOException {
+        return WorldArchiveFormat.extract(path, index, entryName, destination);
+    }
+
+    /**
+     * Extracts every file into {@code folder}, recreating the world's folder layout.
+     *
+     * @return The number of bytes written
+     */
+    public long extractAll(@Nonnull Path folder) throws IOException {
+        return WorldArchiveFormat.extractAll(path, index, folder);
+    }
+
+    @Override
+    public String toString() {
+        return "WorldArchive{path=" + path + ", world=" + getSourceName() + ", files=" + getFiles() + ", bytes=" + getBytes()
+            + ", stored=" + getStoredBytes() + "}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.bridge.api.modules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.core.directory.InMemoryWorldDirectory;
+import com.bridge.core.directory.SharedFileWorldDirectory;
+
+/**
+ * Shares the worlds managed by several server nodes, so any node can decide where a match should be placed.
+ *
+ * <p>Bridge calls {@link #publish(List)} and then {@link #refresh()} periodically from a background thread once
+ * a directory is installed with {@link com.bridge.api.BridgeWorldManager#setWorldDirectory(WorldDirectory)}.
+ * Implementations keep a local cache of every node's listings that {@link #refresh()} updates incrementally;
+ * {@link #getListings()} and {@link #findPlacement(String)} must only read that cache and never block on I/O.
+ *
+ * @see #inMemory(String)
+ * @see #sharedFile(String, Path)
+ */
+public interface WorldDirectory {
+
+    /**
+     * @return The id this node publishes its worlds under. Unique among the nodes sharing the directory.
+     */
+    @Nonnull
+    String getNodeId();
+
+    /**
+     * Publishes this node's worlds, replacing everything it published before.
+     *
+     * @param listings The node's worlds; may be empty
+     */
+    void publish(@Nonnull List<WorldListing> listings) throws IOException;
+
+    /**
+     * Applies what other nodes published since the last call to the local cache,
+     * and drops nodes that stopped publishing.
+     */
+    void refresh() throws IOException;
+
+    /**
+     * @return Every listing in the local cache, from all nodes including this one.
+     */
+    @Nonnull
+    Collection<WorldListing> getListings();
+
+    /**
+     * Chooses the least loaded active instance of a template with a free slot, on any node, from the local cache.
+     * Hibernating instances count as active, since a transfer wakes them.
+     *
+     * <p>The result is advisory: the slot is not reserved. Once the player reaches the chosen node, use
+     * {@link com.bridge.api.BridgeWorldManager#reservePlacement(String)} there to take it.
+     *
+     * @param template The template name, see {@link BridgeWorld#getTemplate()}
+     * @return The chosen listing, or null if no known instance has a free slot
+     */
+    @Nullable
+    WorldListing findPlacement(@Nonnull String template);
+
+    /**
+     * Withdraws this node's listings. Called when the directory is replaced or the server shuts down.
+     */
+    default void close() throws IOException {
+    }
+
+    /**
+     * Creates a directory shared by every in-memory directory in this JVM, for tests and single-process setups.
+     *
+     * @param nodeId The id to publish under
+     */
+    @Nonnull
+    static WorldDirectory inMemory(@Nonnull String nodeId) {
+        return new InMemoryWorldDirectory(nodeId);
+    }
+
+    /**
+     * Creates a directory backed by a folder that every node can read and write, such as a network share.
+     * Each node writes one small file that is replaced atomically; other nodes only re-read files that changed.
+     *
+     * @param nodeId The id to publish under
+     * @param folder The shared folder; created if missing
+     */
+    @Nonnull
+    static WorldDirectory sharedFile(@Nonnull String nodeId, @Nonnull Path folder) {
+        return new SharedFileWorldDirectory(nodeId, folder);
+    }
+}
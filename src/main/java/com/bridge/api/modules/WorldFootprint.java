@@ -0,0 +1,35 @@
+package com.bridge.api.modules;
+
+/**
+ * How much a {@link BridgeWorld} costs to keep loaded: its loaded chunks, its entities and an estimate of the
+ * memory they retain.
+ *
+ * <p>Counts are updated incrementally as chunks and entities are added to and removed from the world's stores,
+ * so reading them is cheap from any thread. Values read from other threads may be slightly stale.
+ *
+ * @see BridgeWorld#getFootprint()
+ * @see com.bridge.api.BridgeWorldManager#setFootprintEstimates(long, long)
+ */
+public interface WorldFootprint {
+
+    /**
+     * @return The number of chunks currently loaded in the world.
+     */
+    int getLoadedChunks();
+
+    /**
+     * @return The number of entities currently in the world, players included.
+     */
+    int getEntities();
+
+    /**
+     * @return The highest number of chunks loaded at once since the world was first loaded.
+     */
+    int getPeakLoadedChunks();
+
+    /**
+     * @return The estimated heap retained by the world's chunks and entities, in bytes. This is computed from
+     *         the counts and per-chunk and per-entity estimates, not measured.
+     */
+    long getEstimatedBytes();
+}
@@ -0,0 +1,116 @@
+package com.bridge.api.modules;
+
+import java.util.UUID;
+import javax.annotation.Nonnull;
+
+/**
+ * A world as published by one server node in a {@link WorldDirectory}.
+ *
+ * <p>Listings are immutable copies of a world's load at the time it was published, so they may lag
+ * the world itself by up to one publish interval.
+ */
+public final class WorldListing implements BridgeWorldLoad {
+    private final String nodeId;
+    private final UUID worldUuid;
+    private final String worldName;
+    private final String template;
+    private final WorldState state;
+    private final int capacity;
+    private final int playerCount;
+    private final int pendingTransfers;
+    private final int reservedSlots;
+    private final long averageTickNanos;
+    private final long publishedAtMillis;
+
+    public WorldListing(@Nonnull String nodeId, @Nonnull UUID worldUuid, @Nonnull String worldName, @Nonnull String template,
+        @Nonnull WorldState state, int capacity, int playerCount, int pendingTransfers, int reservedSlots, long averageTickNanos,
+        long publishedAtMillis) {
+
+        this.nodeId = nodeId;
+        this.worldUuid = worldUuid;
+        this.worldName = worldName;
+        this.template = template;
+        this.state = state;
+        this.capacity = capacity;
+        this.playerCount = playerCount;
+        this.pendingTransfers = pendingTransfers;
+        this.reservedSlots = reservedSlots;
+        this.averageTickNanos = averageTickNanos;
+        this.publishedAtMillis = publishedAtMillis;
+    }
+
+    /**
+     * @return The id of the server node hosting the world.
+     */
+    @Nonnull
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Nonnull
+    public UUID getWorldUuid() {
+        return worldUuid;
+    }
+
+    @Nonnull
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * @see BridgeWorld#getTemplate()
+     */
+    @Nonnull
+    public String getTemplate() {
+        return template;
+    }
+
+    @Nonnull
+    public WorldState getState() {
+        return state;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    @Override
+    public int getPendingTransfers() {
+        return pendingTransfers;
+    }
+
+    @Override
+    public int getReservedSlots() {
+        return reservedSlots;
+    }
+
+    @Override
+    public int getFreeSlots() {
+        long used = (long) playerCount + pendingTransfers + reservedSlots;
+        return (int) Math.max(0L, capacity - used);
+    }
+
+    @Override
+    public long getAverageTickNanos() {
+        return averageTickNanos;
+    }
+
+    /**
+     * @return When the hosting node published this listing, in milliseconds since the epoch on that node's clock.
+     */
+    public long getPublishedAtMillis() {
+        return publishedAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "WorldListing{node=" + nodeId + ", world=" + worldName + ", template=" + template + ", state=" + state
+            + ", players=" + playerCount + ", free=" + getFreeSlots() + "}";
+    }
+}
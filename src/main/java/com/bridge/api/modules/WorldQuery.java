@@ -0,0 +1,201 @@
+package com.bridge.api.modules;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.factory.WorldIndex;
+import com.bridge.core.placement.WorldPlacementService;
+
+/**
+ * Finds worlds by state, component type, tag, template and player count without scanning every world.
+ *
+ * <pre>{@code
+ * List<BridgeWorld> ranked = BridgeWorldManager.query()
+ *     .inState(WorldState.ACTIVE)
+ *     .withComponent(ArenaComponent.class)
+ *     .taggedWith("ranked")
+ *     .withFreeSlots()
+ *     .list();
+ * }</pre>
+ *
+ * <p>The query starts from the smallest index matching one of its conditions and checks the remaining
+ * conditions on that set only. Results reflect the indexes at the time of the call.
+ *
+ * @see com.bridge.api.BridgeWorldManager#query()
+ */
+public final class WorldQuery {
+    private WorldState state;
+    private Class<? extends BridgeWorldComponent> componentType;
+    private final Set<String> tags = new LinkedHashSet<>();
+    private String template;
+    private boolean freeSlots;
+    private int minPlayers = 0;
+    private int maxPlayers = Integer.MAX_VALUE;
+
+    /**
+     * Only matches worlds in the given state.
+     */
+    @Nonnull
+    public WorldQuery inState(@Nonnull WorldState state) {
+        this.state = state;
+        return this;
+    }
+
+    /**
+     * Only matches worlds whose component is an instance of {@code componentType}, including subclasses.
+     */
+    @Nonnull
+    public WorldQuery withComponent(@Nonnull Class<? extends BridgeWorldComponent> componentType) {
+        this.componentType = componentType;
+        return this;
+    }
+
+    /**
+     * Only matches worlds that have all of the given tags.
+     *
+     * @see BridgeWorld#addTag(String)
+     */
+    @Nonnull
+    public WorldQuery taggedWith(@Nonnull String... tags) {
+        this.tags.addAll(List.of(tags));
+        return this;
+    }
+
+    /**
+     * Only matches instances of the given template.
+     *
+     * @see BridgeWorld#getTemplate()
+     */
+    @Nonnull
+    public WorldQuery fromTemplate(@Nonnull String template) {
+        this.template = template;
+        return this;
+    }
+
+    /**
+     * Only matches worlds with at least one free slot, counting players, pending transfers and reservations.
+     *
+     * @see BridgeWorld#setCapacity(int)
+     */
+    @Nonnull
+    public WorldQuery withFreeSlots() {
+        this.freeSlots = true;
+        return this;
+    }
+
+    /**
+     * Only matches worlds whose player count is between {@code min} and {@code max}, inclusive.
+     */
+    @Nonnull
+    public WorldQuery withPlayers(int min, int max) {
+        this.minPlayers = Math.max(0, min);
+        this.maxPlayers = max;
+        return this;
+    }
+
+    /**
+     * @return Every matching world, in no particular order.
+     */
+    @Nonnull
+    public List<BridgeWorld> list() {
+        var results = new ArrayList<BridgeWorld>();
+        for (var bWorld : candidates()) {
+            if (matches(bWorld)) {
+                results.add(bWorld);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return Any one matching world, or null if none matches.
+     */
+    @Nullable
+    public BridgeWorld first() {
+        for (var bWorld : candidates()) {
+            if (matches(bWorld)) {
+                return bWorld;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The number of matching worlds.
+     */
+    public int count() {
+        int count = 0;
+        for (var bWorld : candidates()) {
+            if (matches(bWorld)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Picks the smallest index set that holds every match. Every other condition is checked by {@link #matches(BridgeWorld)}.
+     */
+    @Nonnull
+    private Collection<BridgeWorld> candidates() {
+        Collection<BridgeWorld> best = null;
+        if (state != null) {
+            best = WorldIndex.withState(state);
+        }
+        for (String tag : tags) {
+            best = smaller(best, WorldIndex.withTag(tag));
+        }
+        if (componentType != null) {
+            var components = new ArrayList<BridgeWorld>();
+            for (var indexed : WorldIndex.byComponent().entrySet()) {
+                if (componentType.isAssignableFrom(indexed.getKey())) {
+                    components.addAll(indexed.getValue());
+                }
+            }
+            best = smaller(best, components);
+        }
+        if (minPlayers > 0 || maxPlayers < Integer.MAX_VALUE) {
+            var players = new ArrayList<BridgeWorld>();
+            int last = WorldIndex.bucketOf(Math.max(minPlayers, maxPlayers));
+            for (int bucket = WorldIndex.bucketOf(minPlayers); bucket <= last; bucket++) {
+                players.addAll(WorldIndex.withPlayerBucket(bucket));
+            }
+            best = smaller(best, players);
+        }
+        return best != null ? best : BridgeWorldFactory.GetAllBridgeWorlds();
+    }
+
+    private static Collection<BridgeWorld> smaller(@Nullable Collection<BridgeWorld> current, @Nonnull Collection<BridgeWorld> other) {
+        return current == null || other.size() < current.size() ? other : current;
+    }
+
+    private boolean matches(@Nonnull BridgeWorld bWorld) {
+        if (state != null && bWorld.getState() != state) {
+            return false;
+        }
+        if (componentType != null && !componentType.isInstance(bWorld.getBridgeWorldComponent())) {
+            return false;
+        }
+        for (String tag : tags) {
+            if (!bWorld.hasTag(tag)) {
+                return false;
+            }
+        }
+        if (template != null && !template.equals(bWorld.getTemplate())) {
+            return false;
+        }
+        if (freeSlots || minPlayers > 0 || maxPlayers < Integer.MAX_VALUE) {
+            var load = WorldPlacementService.getLoad(bWorld);
+            int players = load.getPlayerCount();
+            if (players < minPlayers || players > maxPlayers || (freeSlots && load.getFreeSlots() <= 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
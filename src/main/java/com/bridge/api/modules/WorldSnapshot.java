@@ -0,0 +1,122 @@
+package com.bridge.api.modules;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.core.systems.BridgeWorldManagerSystem;
+
+/**
+ * A consistent copy of a world's files, taken while the world kept running.
+ * Returned by {@link BridgeWorld#snapshot()}.
+ *
+ * <p>The files are never written to again, so a snapshot can be used as the source of
+ * {@link com.bridge.api.BridgeWorldManager#copyWorld(WorldSnapshot, String, BridgeWorldComponent, java.util.function.Consumer)}
+ * any number of times. Snapshots stay on disk until {@link #delete()} is called.
+ */
+public final class WorldSnapshot {
+    private final String sourceName;
+    private final UUID sourceUuid;
+    private final String template;
+    private final Path path;
+    private final long createdAtMillis;
+    private final int files;
+    private final long bytes;
+    private final int filesRecopied;
+    private final long pauseNanos;
+
+    public WorldSnapshot(@Nonnull String sourceName, @Nullable UUID sourceUuid, @Nonnull String template, @Nonnull Path path,
+        long createdAtMillis, int files, long bytes, int filesRecopied, long pauseNanos) {
+        this.sourceName = sourceName;
+        this.sourceUuid = sourceUuid;
+        this.template = template;
+        this.path = path;
+        this.createdAtMillis = createdAtMillis;
+        this.files = files;
+        this.bytes = bytes;
+        this.filesRecopied = filesRecopied;
+        this.pauseNanos = pauseNanos;
+    }
+
+    /**
+     * @return The name of the world the snapshot was taken of.
+     */
+    @Nonnull
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * @return The UUID of the world the snapshot was taken of, or null if it was unknown.
+     */
+    @Nullable
+    public UUID getSourceUuid() {
+        return sourceUuid;
+    }
+
+    /**
+     * @return The template of the source world, inherited by worlds copied from this snapshot.
+     */
+    @Nonnull
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return The folder holding the snapshot's files, laid out like a world's save folder.
+     */
+    @Nonnull
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return When the snapshot was taken, in milliseconds since the epoch.
+     */
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    /**
+     * @return The number of files in the snapshot.
+     */
+    public int getFiles() {
+        return files;
+    }
+
+    /**
+     * @return The total size of the snapshot's files, in bytes.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return The number of files that were still being written when first copied and had to be copied again.
+     */
+    public int getFilesRecopied() {
+        return filesRecopied;
+    }
+
+    /**
+     * @return How long the source world's thread was held to flush and pause saving, in nanoseconds.
+     */
+    public long getPauseNanos() {
+        return pauseNanos;
+    }
+
+    /**
+     * Deletes the snapshot's files. Worlds already copied from it are not affected.
+     *
+     * @see BridgeWorldManagerSystem#deleteSnapshot(WorldSnapshot)
+     */
+    public void delete() {
+        BridgeWorldManagerSystem.get().deleteSnapshot(this);
+    }
+
+    @Override
+    public String toString() {
+        return "WorldSnapshot{world=" + sourceName + ", path=" + path + ", files=" + files + ", bytes=" + bytes
+            + ", recopied=" + filesRecopied + ", pauseUs=" + pauseNanos / 1000L + "}";
+    }
+}
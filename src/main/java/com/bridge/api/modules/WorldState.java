@@ -0,0 +1,13 @@
+package com.bridge.api.modules;
+
+/**
+ * Run state of a world as published in a {@link WorldDirectory}.
+ */
+public enum WorldState {
+    /** Loaded and ticking normally. */
+    ACTIVE,
+    /** Loaded, but not ticking its component until a player arrives. See {@link BridgeWorld#hibernate()}. */
+    HIBERNATING,
+    /** Known to Bridge but not loaded. */
+    INACTIVE
+}
@@ -0,0 +1,69 @@
+package com.bridge.core.commands;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.WorldState;
+import com.bridge.core.factory.BridgeWorldFactory;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
+
+/**
+ * {@code /bridgeworlds}: lists every Bridge world with its state, players, loaded chunks, entities and estimated
+ * memory, most expensive first, followed by the totals.
+ */
+@Deprecated
+public final class WorldFootprintCommand extends CommandBase {
+    private static final long MIB = 1024L * 1024;
+
+    public WorldFootprintCommand() {
+        super("bridgeworlds", "Lists Bridge worlds with their chunk, entity and memory footprint");
+    }
+
+    @Override
+    protected void executeSync(@Nonnull CommandContext context) {
+        // World threads keep changing the counters, so each one is read once and the copies are sorted and printed.
+        var rows = new ArrayList<Row>();
+        for (var bWorld : BridgeWorldFactory.GetAllBridgeWorlds()) {
+            rows.add(new Row(bWorld));
+        }
+        rows.sort(Comparator.comparingLong((Row row) -> row.bytes).reversed());
+
+        int chunks = 0;
+        int entities = 0;
+        long bytes = 0;
+        context.sendMessage(Message.raw("World | state | players | chunks | entities | est. memory"));
+        for (var row : rows) {
+            chunks += row.chunks;
+            entities += row.entities;
+            bytes += row.bytes;
+            context.sendMessage(Message.raw(row.name + " | " + row.state + " | " + row.players + " | " + row.chunks
+                + " (peak " + row.peakChunks + ") | " + row.entities + " | " + row.bytes / MIB + " MiB"));
+        }
+        context.sendMessage(Message.raw(rows.size() + " worlds | " + chunks + " chunks | " + entities + " entities | "
+            + bytes / MIB + " MiB estimated"));
+    }
+
+    private static final class Row {
+        private final String name;
+        private final WorldState state;
+        private final int players;
+        private final int chunks;
+        private final int peakChunks;
+        private final int entities;
+        private final long bytes;
+
+        private Row(@Nonnull BridgeWorld bWorld) {
+            var footprint = bWorld.getFootprint();
+            this.name = bWorld.bWorldName;
+            this.state = bWorld.getState();
+            this.players = bWorld.getLoad().getPlayerCount();
+            this.chunks = footprint.getLoadedChunks();
+            this.peakChunks = footprint.getPeakLoadedChunks();
+            this.entities = footprint.getEntities();
+            this.bytes = footprint.getEstimatedBytes();
+        }
+    }
+}
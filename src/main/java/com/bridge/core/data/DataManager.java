@@ -61,7 +61,15 @@ public final class DataManager {
         return dataFolder.toPath().resolve("data.json");
     }
 
+    public static Path getStatsPath() {
+        return dataFolder.toPath().resolve("stats.json");
+    }
+
     public static Path getWorldsPath(@Nonnull String worldName) {
         return Constants.UNIVERSE_PATH.resolve("worlds/" + worldName + "/");
     }
+
+    public static Path getSnapshotsPath(@Nonnull String worldName) {
+        return Constants.UNIVERSE_PATH.resolve("snapshots/" + worldName + "/");
+    }
 }
@@ -0,0 +1,170 @@
+package com.bridge.core.diagnostics;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeEvent;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.core.plugin.BridgePlugin;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * Fixed-size, preallocated ring buffer of structured Bridge events.
+ *
+ * <p>Recording claims a sequence number with one atomic increment and writes the event's fields into
+ * preallocated parallel arrays, so it never locks. Each slot carries a sequence stamp that the
+ * writer clears before and publishes after writing; a reader keeps a slot only if it sees the same published
+ * stamp before and after copying it, so entries overwritten during a dump are skipped instead of torn.
+ *
+ * <p>Details are kept as strings of at most {@link #MAX_DETAIL_LENGTH} characters, so the journal never keeps
+ * the reports, errors or worlds they describe reachable. A string detail is stored as is; anything else is turned
+ * into its summary when recorded, which is the only allocation. The journal is dumped on demand, or automatically
+ * when an error is recorded.
+ */
+@Deprecated
+public final class EventJournal {
+    private static final int CAPACITY = 4096;
+    private static final int MASK = CAPACITY - 1;
+    /** Number of recent events written to the log when an error is recorded. */
+    private static final int ERROR_DUMP_SIZE = 64;
+    /** Minimum time between two automatic dumps, so an error storm does not flood the log. */
+    private static final long ERROR_DUMP_INTERVAL_MILLIS = 10_000L;
+    private static final BridgeEventType[] TYPES = BridgeEventType.values();
+    private static final int MAX_DETAIL_LENGTH = 256;
+
+    private static final AtomicLong cursor = new AtomicLong();
+    private static final AtomicLongArray stamps = new AtomicLongArray(CAPACITY);
+    private static final long[] timestamps = new long[CAPACITY];
+    private static final byte[] types = new byte[CAPACITY];
+    private static final long[] worldMost = new long[CAPACITY];
+    private static final long[] worldLeast = new long[CAPACITY];
+    private static final long[] playerMost = new long[CAPACITY];
+    private static final long[] playerLeast = new long[CAPACITY];
+    private static final long[] values = new long[CAPACITY];
+    private static final String[] details = new String[CAPACITY];
+    private static final AtomicLong lastErrorDump = new AtomicLong();
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            stamps.set(i, -1L);
+        }
+    }
+
+    public static void record(@Nonnull BridgeEventType type, @Nullable BridgeWorld bWorld) {
+        record(type, bWorld, null, 0L, null);
+    }
+
+    public static void record(@Nonnull BridgeEventType type, @Nullable BridgeWorld bWorld, @Nullable PlayerRef playerRef) {
+        record(type, bWorld, playerRef, 0L, null);
+    }
+
+    /**
+     * Records an event.
+     *
+     * @param type The kind of event
+     * @param bWorld The world the event belongs to, or null
+     * @param playerRef The player involved, or null
+     * @param value An event-specific number, such as a duration in nanoseconds
+     * @param detail An object describing the event, such as a world name or a report; kept as its string summary
+     */
+    public static void record(@Nonnull BridgeEventType type, @Nullable BridgeWorld bWorld, @Nullable PlayerRef playerRef,
+        long value, @Nullable Object detail) {
+
+        String summary = summarize(detail);
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) (sequence & MASK);
+        stamps.set(slot, -1L);
+        // Keep the field writes below from becoming visible before the slot is marked as being written.
+        VarHandle.releaseFence();
+
+        timestamps[slot] = System.currentTimeMillis();
+        types[slot] = (byte) type.ordinal();
+        UUID worldUuid = worldUuidOf(bWorld);
+        worldMost[slot] = worldUuid != null ? worldUuid.getMostSignificantBits() : 0L;
+        worldLeast[slot] = worldUuid != null ? worldUuid.getLeastSignificantBits() : 0L;
+        UUID playerUuid = playerRef != null ? playerRef.getUuid() : null;
+        playerMost[slot] = playerUuid != null ? playerUuid.getMostSignificantBits() : 0L;
+        playerLeast[slot] = playerUuid != null ? playerUuid.getLeastSignificantBits() : 0L;
+        values[slot] = value;
+        details[slot] = summary;
+
+        stamps.set(slot, sequence);
+    }
+
+    /**
+     * Records an error and writes the most recent events to the log, at most once every few seconds.
+     */
+    public static void recordError(@Nullable BridgeWorld bWorld, @Nonnull Throwable throwable) {
+        record(BridgeEventType.ERROR, bWorld, null, 0L, throwable);
+
+        long now = System.currentTimeMillis();
+        long last = lastErrorDump.get();
+        if (now - last >= ERROR_DUMP_INTERVAL_MILLIS && lastErrorDump.compareAndSet(last, now)) {
+            var builder = new StringBuilder("Recent Bridge events before error:");
+            for (var event : dump(ERROR_DUMP_SIZE)) {
+                builder.append("\n\t").append(event);
+            }
+            BridgePlugin.logger().atWarning().log(builder.toString());
+        }
+    }
+
+    /**
+     * Copies the most recent events out of the journal, oldest first.
+     *
+     * @param limit The maximum number of events to return
+     */
+    @Nonnull
+    public static List<BridgeEvent> dump(int limit) {
+        long end = cursor.get();
+        long start = Math.max(0L, end - Math.min(limit, CAPACITY));
+        var events = new ArrayList<BridgeEvent>((int) (end - start));
+
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) (sequence & MASK);
+            if (stamps.get(slot) != sequence) {
+                continue;
+            }
+            long timestamp = timestamps[slot];
+            int type = types[slot];
+            long wMost = worldMost[slot];
+            long wLeast = worldLeast[slot];
+            long pMost = playerMost[slot];
+            long pLeast = playerLeast[slot];
+            long value = values[slot];
+            String detail = details[slot];
+            VarHandle.acquireFence();
+            if (stamps.get(slot) != sequence) {
+                continue;
+            }
+
+            events.add(new BridgeEvent(sequence, timestamp, TYPES[type],
+                wMost == 0L && wLeast == 0L ? null : new UUID(wMost, wLeast),
+                pMost == 0L && pLeast == 0L ? null : new UUID(pMost, pLeast),
+                value, detail));
+        }
+        return events;
+    }
+
+    @Nullable
+    private static String summarize(@Nullable Object detail) {
+        if (detail == null) {
+            return null;
+        }
+        String summary = detail instanceof String string ? string : String.valueOf(detail);
+        return summary.length() > MAX_DETAIL_LENGTH ? summary.substring(0, MAX_DETAIL_LENGTH - 3) + "..." : summary;
+    }
+
+    @Nullable
+    private static UUID worldUuidOf(@Nullable BridgeWorld bWorld) {
+        if (bWorld == null || bWorld.getWorld() == null) {
+            return null;
+        }
+        return bWorld.getWorld().getWorldConfig().getUuid();
+    }
+}
@@ -0,0 +1,109 @@
+package com.bridge.core.diagnostics;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+/**
+ * Keeps a {@link WorldFootprintStats} for every loaded world, fed by the chunk and entity store hooks.
+ *
+ * <p>Counters are keyed by world UUID rather than by {@link BridgeWorld}, because a world starts loading chunks
+ * during {@code World.init()}, before Bridge has registered it. A stopping world drops its stores without removing
+ * their chunks and entities one by one, so the counts are reset when a world is stopped and again before it is
+ * started. Memory is estimated from the counts; the
+ * defaults assume a fully generated chunk with its block sections, lighting and fluid data, and an average
+ * entity with a dozen components, and can be calibrated from a heap dump of a representative world.
+ */
+@Deprecated
+public final class WorldAccounting {
+    public static final long DEFAULT_BYTES_PER_CHUNK = 192L * 1024;
+    public static final long DEFAULT_BYTES_PER_ENTITY = 2L * 1024;
+
+    private static final Map<UUID, WorldFootprintStats> footprints = new ConcurrentHashMap<>();
+    private static volatile long bytesPerChunk = DEFAULT_BYTES_PER_CHUNK;
+    private static volatile long bytesPerEntity = DEFAULT_BYTES_PER_ENTITY;
+
+    /**
+     * @return The live counters of the world, or empty counters that never change if it has no server world
+     */
+    @Nonnull
+    public static WorldFootprintStats getFootprint(@Nonnull BridgeWorld bWorld) {
+        var world = bWorld.getWorld();
+        if (world == null) {
+            return new WorldFootprintStats();
+        }
+        return footprints.computeIfAbsent(world.getWorldConfig().getUuid(), ignored -> new WorldFootprintStats());
+    }
+
+    /**
+     * Zeroes the world's chunk and entity counts, once it has stopped or before it starts.
+     */
+    public static void resetFootprint(@Nonnull BridgeWorld bWorld) {
+        var world = bWorld.getWorld();
+        if (world == null) {
+            return;
+        }
+        var stats = footprints.get(world.getWorldConfig().getUuid());
+        if (stats != null) {
+            stats.reset();
+        }
+    }
+
+    public static void releaseFootprint(@Nonnull UUID worldUuid) {
+        footprints.remove(worldUuid);
+    }
+
+    public static void setEstimates(long chunkBytes, long entityBytes) {
+        bytesPerChunk = chunkBytes > 0 ? chunkBytes : DEFAULT_BYTES_PER_CHUNK;
+        bytesPerEntity = entityBytes > 0 ? entityBytes : DEFAULT_BYTES_PER_ENTITY;
+    }
+
+    static long estimateBytes(int chunks, int entities) {
+        return chunks * bytesPerChunk + entities * bytesPerEntity;
+    }
+
+    public static void chunkAdded(@Nullable World world) {
+        var stats = statsOf(world, true);
+        if (stats != null) {
+            stats.chunkAdded();
+        }
+    }
+
+    public static void chunkRemoved(@Nullable World world) {
+        var stats = statsOf(world, false);
+        if (stats != null) {
+            stats.chunkRemoved();
+        }
+    }
+
+    public static void entityAdded(@Nullable World world) {
+        var stats = statsOf(world, true);
+        if (stats != null) {
+            stats.entityAdded();
+        }
+    }
+
+    public static void entityRemoved(@Nullable World world) {
+        var stats = statsOf(world, false);
+        if (stats != null) {
+            stats.entityRemoved();
+        }
+    }
+
+    /**
+     * @param create Whether to create the counters if the world has none. Only additions do, so a removal
+     *               arriving after {@link #releaseFootprint(UUID)} does not leave negative counters behind.
+     */
+    @Nullable
+    private static WorldFootprintStats statsOf(@Nullable World world, boolean create) {
+        if (world == null) {
+            return null;
+        }
+        var uuid = world.getWorldConfig().getUuid();
+        return create ? footprints.computeIfAbsent(uuid, ignored -> new WorldFootprintStats()) : footprints.get(uuid);
+    }
+}
@@ -0,0 +1,63 @@
+package com.bridge.core.diagnostics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import com.bridge.api.modules.WorldFootprint;
+
+@Deprecated
+public final class WorldFootprintStats implements WorldFootprint {
+    private final AtomicInteger chunks = new AtomicInteger();
+    private final AtomicInteger entities = new AtomicInteger();
+    private final AtomicInteger peakChunks = new AtomicInteger();
+
+    @Override
+    public int getLoadedChunks() {
+        return chunks.get();
+    }
+
+    @Override
+    public int getEntities() {
+        return entities.get();
+    }
+
+    @Override
+    public int getPeakLoadedChunks() {
+        return peakChunks.get();
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        return WorldAccounting.estimateBytes(chunks.get(), entities.get());
+    }
+
+    void chunkAdded() {
+        int loaded = chunks.incrementAndGet();
+        peakChunks.accumulateAndGet(loaded, Math::max);
+    }
+
+    void chunkRemoved() {
+        chunks.decrementAndGet();
+    }
+
+    void entityAdded() {
+        entities.incrementAndGet();
+    }
+
+    void entityRemoved() {
+        entities.decrementAndGet();
+    }
+
+    /**
+     * Forgets the loaded chunks and entities of a stopped world, which are dropped without removal callbacks.
+     * The peak is kept.
+     */
+    void reset() {
+        chunks.set(0);
+        entities.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "WorldFootprint{chunks=" + getLoadedChunks() + ", entities=" + getEntities() + ", peakChunks=" + getPeakLoadedChunks()
+            + ", estimatedBytes=" + getEstimatedBytes() + "}";
+    }
+}
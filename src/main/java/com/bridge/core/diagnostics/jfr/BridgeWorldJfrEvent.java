@@ -0,0 +1,38 @@
+package com.bridge.core.diagnostics.jfr;
+
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of all Bridge flight recorder events, carrying the world an event belongs to.
+ *
+ * <p>Each concrete event type can be enabled and given a threshold on its own, from a {@code .jfc} settings file
+ * or on the command line, for example {@code -XX:StartFlightRecording:bridge.ComponentTick#threshold=5ms}.
+ * While a type is disabled its {@code begin}/{@code end}/{@code shouldCommit} calls are no-ops, so callers only
+ * fill in fields after {@link #shouldCommit()} returns true.
+ */
+@Deprecated
+@Category({ "Bridge" })
+public abstract class BridgeWorldJfrEvent extends Event {
+    @Label("World Name")
+    public String worldName;
+
+    @Label("World UUID")
+    @Description("UUID of the underlying Hytale world")
+    public String worldUuid;
+
+    public void setWorld(@Nullable BridgeWorld bWorld) {
+        if (bWorld == null) {
+            return;
+        }
+        worldName = bWorld.bWorldName;
+        var world = bWorld.getWorld();
+        if (world != null) {
+            worldUuid = world.getWorldConfig().getUuid().toString();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bridge.core.diagnostics.jfr;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.ComponentCallback")
+@Label("Component Callback")
+@Category({ "Bridge", "Components" })
+@Description("A BridgeWorldComponent lifecycle or player callback")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ComponentCallbackEvent extends BridgeWorldJfrEvent {
+    @Label("Component Class")
+    public Class<?> componentClass;
+
+    @Label("Callback")
+    public String callback;
+
+    @Label("Player UUID")
+    public String playerUuid;
+
+    /**
+     * Ends the event and commits it if it is enabled and over its threshold.
+     */
+    public void commitFor(@Nonnull BridgeWorld bWorld, @Nonnull String callback, @Nullable PlayerRef playerRef) {
+        end();
+        if (shouldCommit()) {
+            setWorld(bWorld);
+            this.componentClass = bWorld.getBridgeWorldComponent().getClass();
+            this.callback = callback;
+            if (playerRef != null) {
+                this.playerUuid = playerRef.getUuid().toString();
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.ComponentTick")
+@Label("Component Tick")
+@Category({ "Bridge", "Components" })
+@Description("A BridgeWorldComponent.onTick call")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ComponentTickEvent extends BridgeWorldJfrEvent {
+    @Label("Component Class")
+    public Class<?> componentClass;
+}
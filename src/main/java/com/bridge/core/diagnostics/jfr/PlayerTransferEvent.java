@@ -0,0 +1,26 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.PlayerTransfer")
+@Label("Player Transfer")
+@Category({ "Bridge", "Players" })
+@Description("A player was moved between worlds through Bridge")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class PlayerTransferEvent extends BridgeWorldJfrEvent {
+    @Label("Player UUID")
+    public String playerUuid;
+
+    @Label("Source World")
+    public String sourceWorldName;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
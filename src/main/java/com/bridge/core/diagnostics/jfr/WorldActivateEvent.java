@@ -0,0 +1,32 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Deprecated
+@Name("bridge.WorldActivate")
+@Label("World Activate")
+@Category({ "Bridge", "World Lifecycle" })
+@Description("A world was initialized and warmed up through Bridge")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class WorldActivateEvent extends BridgeWorldJfrEvent {
+    @Label("Init Time")
+    @Timespan
+    public long initNanos;
+
+    @Label("Warm-up Time")
+    @Timespan
+    public long warmupNanos;
+
+    @Label("Chunks Warmed Up")
+    public int chunksLoaded;
+
+    @Label("Warm-up Ticks")
+    public int ticks;
+}
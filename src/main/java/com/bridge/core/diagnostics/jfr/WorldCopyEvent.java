@@ -0,0 +1,25 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.WorldCopy")
+@Label("World Copy")
+@Category({ "Bridge", "World Lifecycle" })
+@Description("A world's files were copied into a new world through Bridge")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class WorldCopyEvent extends BridgeWorldJfrEvent {
+    @Label("Source World")
+    public String sourceWorldName;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    public long bytesCopied;
+}
@@ -0,0 +1,24 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.WorldDeactivate")
+@Label("World Deactivate")
+@Category({ "Bridge", "World Lifecycle" })
+@Description("A world was stopped through Bridge, including any graceful player drain")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class WorldDeactivateEvent extends BridgeWorldJfrEvent {
+    @Label("Players Moved")
+    public int playersMoved;
+
+    @Label("Graceful")
+    @Description("Whether players were drained in batches")
+    public boolean graceful;
+}
@@ -0,0 +1,18 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.WorldDelete")
+@Label("World Delete")
+@Category({ "Bridge", "World Lifecycle" })
+@Description("A world was removed through Bridge")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class WorldDeleteEvent extends BridgeWorldJfrEvent {
+}
@@ -0,0 +1,32 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Deprecated
+@Name("bridge.WorldExport")
+@Label("World Export")
+@Category({ "Bridge", "World Lifecycle" })
+@Description("A world was packed into a single archive file")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class WorldExportEvent extends BridgeWorldJfrEvent {
+    @Label("Archive")
+    public String archivePath;
+
+    @Label("Files")
+    public int files;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Stored Bytes")
+    @DataAmount
+    public long storedBytes;
+}
@@ -0,0 +1,33 @@
+package com.bridge.core.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Deprecated
+@Name("bridge.WorldSnapshot")
+@Label("World Snapshot")
+@Category({ "Bridge", "World Lifecycle" })
+@Description("A consistent copy of a running world's files was taken")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class WorldSnapshotEvent extends BridgeWorldJfrEvent {
+    @Label("World Thread Pause")
+    @Timespan
+    public long pauseNanos;
+
+    @Label("Files")
+    public int files;
+
+    @Label("Files Copied Again")
+    public int filesRecopied;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    public long bytesCopied;
+}
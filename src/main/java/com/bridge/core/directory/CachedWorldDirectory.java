@@ -0,0 +1,135 @@
+package com.bridge.core.directory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.WorldDirectory;
+import com.bridge.api.modules.WorldListing;
+import com.bridge.api.modules.WorldState;
+import com.bridge.core.placement.WorldPlacementService;
+
+/**
+ * Local cache shared by the bundled {@link WorldDirectory} implementations.
+ *
+ * <p>Subclasses report changed and vanished nodes from {@link #pollUpdates()}. When anything changed, the cache
+ * builds a new immutable view, indexed by template, and publishes it through a volatile field; lookups only
+ * read that view, so they never lock or wait on a refresh. Nodes that have not published anything new for
+ * {@link #STALE_AFTER_MILLIS}, measured on this node's clock, are dropped as crashed.
+ */
+@Deprecated
+public abstract class CachedWorldDirectory implements WorldDirectory {
+    protected static final long STALE_AFTER_MILLIS = 15_000L;
+
+    private final String nodeId;
+    // Guarded by this.
+    private final Map<String, List<WorldListing>> nodes = new HashMap<>();
+    private final Map<String, Long> lastChanged = new HashMap<>();
+    private boolean dirty;
+
+    private volatile View view = new View(Map.of());
+
+    protected CachedWorldDirectory(@Nonnull String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    @Nonnull
+    @Override
+    public final String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public final synchronized void refresh() throws IOException {
+        pollUpdates();
+
+        long now = System.currentTimeMillis();
+        var iterator = lastChanged.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (now - entry.getValue() > STALE_AFTER_MILLIS) {
+                nodes.remove(entry.getKey());
+                iterator.remove();
+                dirty = true;
+            }
+        }
+
+        if (dirty) {
+            view = new View(nodes);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Reports what changed since the last call through {@link #applyNode(String, List)} and {@link #removeNode(String)}.
+     * Only called from {@link #refresh()}.
+     */
+    protected abstract void pollUpdates() throws IOException;
+
+    protected final void applyNode(@Nonnull String nodeId, @Nonnull List<WorldListing> listings) {
+        nodes.put(nodeId, List.copyOf(listings));
+        lastChanged.put(nodeId, System.currentTimeMillis());
+        dirty = true;
+    }
+
+    protected final void removeNode(@Nonnull String nodeId) {
+        if (nodes.remove(nodeId) != null) {
+            dirty = true;
+        }
+        lastChanged.remove(nodeId);
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<WorldListing> getListings() {
+        return view.all;
+    }
+
+    @Nullable
+    @Override
+    public final WorldListing findPlacement(@Nonnull String template) {
+        var candidates = view.byTemplate.get(template);
+        if (candidates == null) {
+            return null;
+        }
+
+        WorldListing best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (var listing : candidates) {
+            if (listing.getState() == WorldState.INACTIVE || listing.getFreeSlots() <= 0) {
+                continue;
+            }
+            double score = WorldPlacementService.score(listing);
+            if (score < bestScore) {
+                bestScore = score;
+                best = listing;
+            }
+        }
+        return best;
+    }
+
+    private static final class View {
+        private final List<WorldListing> all;
+        private final Map<String, WorldListing[]> byTemplate;
+
+        private View(Map<String, List<WorldListing>> nodes) {
+            var listings = new ArrayList<WorldListing>();
+            var grouped = new HashMap<String, List<WorldListing>>();
+            for (var nodeListings : nodes.values()) {
+                for (var listing : nodeListings) {
+                    listings.add(listing);
+                    grouped.computeIfAbsent(listing.getTemplate(), ignored -> new ArrayList<>()).add(listing);
+                }
+            }
+
+            var index = new HashMap<String, WorldListing[]>();
+            grouped.forEach((template, group) -> index.put(template, group.toArray(new WorldListing[0])));
+            all = List.copyOf(listings);
+            byTemplate = Map.copyOf(index);
+        }
+    }
+}
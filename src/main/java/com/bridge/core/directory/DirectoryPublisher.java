@@ -0,0 +1,88 @@
+package com.bridge.core.directory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.WorldDirectory;
+import com.bridge.api.modules.WorldListing;
+import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.placement.WorldPlacementService;
+import com.bridge.core.plugin.BridgePlugin;
+
+/**
+ * Publishes this node's worlds to the installed {@link WorldDirectory} and refreshes its cache,
+ * once per {@link #INTERVAL_MILLIS} on a daemon thread.
+ */
+@Deprecated
+public final class DirectoryPublisher {
+    private static final long INTERVAL_MILLIS = 1000L;
+
+    private static volatile WorldDirectory directory;
+    private static ScheduledExecutorService executor;
+
+    @Nullable
+    public static WorldDirectory getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Installs a directory, closing the previous one. Passing null stops publishing.
+     */
+    public static synchronized void setDirectory(@Nullable WorldDirectory newDirectory) {
+        var previous = directory;
+        directory = newDirectory;
+        if (previous != null && previous != newDirectory) {
+            try {
+                previous.close();
+            } catch (Exception e) {
+                BridgePlugin.logger().atWarning().withCause(e).log("Failed to close world directory of node " + previous.getNodeId());
+            }
+        }
+
+        if (newDirectory != null && executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "Bridge-Directory");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(DirectoryPublisher::run, 0L, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } else if (newDirectory == null && executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private static void run() {
+        var current = directory;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.publish(collectListings(current.getNodeId()));
+            current.refresh();
+        } catch (Exception e) {
+            BridgePlugin.logger().atWarning().withCause(e).log("Failed to sync world directory of node " + current.getNodeId());
+        }
+    }
+
+    @Nonnull
+    private static List<WorldListing> collectListings(@Nonnull String nodeId) {
+        long now = System.currentTimeMillis();
+        var listings = new ArrayList<WorldListing>();
+        for (var bWorld : BridgeWorldFactory.GetAllBridgeWorlds()) {
+            var world = bWorld.getWorld();
+            if (world == null) {
+                continue;
+            }
+            var load = WorldPlacementService.getLoad(bWorld);
+            listings.add(new WorldListing(nodeId, world.getWorldConfig().getUuid(), bWorld.bWorldName, bWorld.getTemplate(), bWorld.getState(),
+                load.getCapacity(), load.getPlayerCount(), load.getPendingTransfers(), load.getReservedSlots(),
+                load.getAverageTickNanos(), now));
+        }
+        return listings;
+    }
+}
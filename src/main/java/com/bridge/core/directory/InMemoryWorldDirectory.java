@@ -0,0 +1,88 @@
+package com.bridge.core.directory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.WorldListing;
+
+/**
+ * World directory kept in memory, for tests and for several nodes running in one JVM.
+ *
+ * <p>Every publish stores the node's listings under a new version from a shared counter; a refresh only copies
+ * the nodes whose version moved since it last looked.
+ */
+@Deprecated
+public final class InMemoryWorldDirectory extends CachedWorldDirectory {
+    private static final Registry SHARED = new Registry();
+
+    private final Registry registry;
+    // Only used from refresh().
+    private final Map<String, Long> seenVersions = new HashMap<>();
+
+    /**
+     * Creates a directory shared with every other directory created by this constructor in the JVM.
+     */
+    public InMemoryWorldDirectory(@Nonnull String nodeId) {
+        this(nodeId, SHARED);
+    }
+
+    /**
+     * Creates a directory shared only with directories created on the same registry.
+     */
+    public InMemoryWorldDirectory(@Nonnull String nodeId, @Nonnull Registry registry) {
+        super(nodeId);
+        this.registry = registry;
+    }
+
+    @Override
+    public void publish(@Nonnull List<WorldListing> listings) {
+        registry.nodes.put(getNodeId(), new Entry(registry.versions.incrementAndGet(), List.copyOf(listings)));
+    }
+
+    @Override
+    public void close() {
+        registry.nodes.remove(getNodeId());
+    }
+
+    @Override
+    protected void pollUpdates() {
+        for (var node : registry.nodes.entrySet()) {
+            var entry = node.getValue();
+            Long seen = seenVersions.get(node.getKey());
+            if (seen == null || seen != entry.version) {
+                seenVersions.put(node.getKey(), entry.version);
+                applyNode(node.getKey(), entry.listings);
+            }
+        }
+
+        var iterator = seenVersions.keySet().iterator();
+        while (iterator.hasNext()) {
+            var nodeId = iterator.next();
+            if (!registry.nodes.containsKey(nodeId)) {
+                iterator.remove();
+                removeNode(nodeId);
+            }
+        }
+    }
+
+    /**
+     * The published listings of a group of in-memory directories.
+     */
+    public static final class Registry {
+        private final AtomicLong versions = new AtomicLong();
+        private final Map<String, Entry> nodes = new ConcurrentHashMap<>();
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final List<WorldListing> listings;
+
+        private Entry(long version, List<WorldListing> listings) {
+            this.version = version;
+            this.listings = listings;
+        }
+    }
+}
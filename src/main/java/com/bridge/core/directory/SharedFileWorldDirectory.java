@@ -0,0 +1,114 @@
+package com.bridge.core.directory;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.WorldListing;
+import com.bridge.core.plugin.BridgePlugin;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * World directory backed by a folder shared between nodes, such as a network share.
+ *
+ * <p>Each node owns one {@code <nodeId>.node.json} file that it replaces atomically on every publish, so readers
+ * never see a half-written file. A refresh lists the folder and only parses files whose size or modification
+ * time changed since they were last read; files that disappeared are removed from the cache.
+ */
+@Deprecated
+public final class SharedFileWorldDirectory extends CachedWorldDirectory {
+    private static final String SUFFIX = ".node.json";
+    private static final Gson gson = new Gson();
+
+    private final Path folder;
+    // Only used from refresh().
+    private final Map<String, String> seenStamps = new HashMap<>();
+
+    public SharedFileWorldDirectory(@Nonnull String nodeId, @Nonnull Path folder) {
+        super(nodeId);
+        this.folder = folder;
+    }
+
+    @Override
+    public void publish(@Nonnull List<WorldListing> listings) throws IOException {
+        Files.createDirectories(folder);
+        var file = new NodeFile();
+        file.nodeId = getNodeId();
+        file.worlds = listings.toArray(new WorldListing[0]);
+
+        Path target = folder.resolve(getNodeId() + SUFFIX);
+        Path temp = folder.resolve(getNodeId() + SUFFIX + ".tmp");
+        Files.writeString(temp, gson.toJson(file));
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(folder.resolve(getNodeId() + SUFFIX));
+    }
+
+    @Override
+    protected void pollUpdates() throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+
+        var present = new HashSet<String>();
+        try (var files = Files.newDirectoryStream(folder, "*" + SUFFIX)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                String nodeId = name.substring(0, name.length() - SUFFIX.length());
+                present.add(nodeId);
+
+                String stamp;
+                try {
+                    var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    stamp = attributes.size() + "@" + attributes.lastModifiedTime().toMillis();
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                if (stamp.equals(seenStamps.get(nodeId))) {
+                    continue;
+                }
+
+                try {
+                    var file = gson.fromJson(Files.readString(path), NodeFile.class);
+                    seenStamps.put(nodeId, stamp);
+                    applyNode(nodeId, file != null && file.worlds != null ? List.of(file.worlds) : List.of());
+                } catch (NoSuchFileException e) {
+                    // Removed between listing and reading; handled on the next refresh.
+                } catch (JsonParseException e) {
+                    BridgePlugin.logger().atWarning().withCause(e).log("Ignoring unreadable directory file " + path);
+                    seenStamps.put(nodeId, stamp);
+                }
+            }
+        }
+
+        var iterator = seenStamps.keySet().iterator();
+        while (iterator.hasNext()) {
+            var nodeId = iterator.next();
+            if (!present.contains(nodeId)) {
+                iterator.remove();
+                removeNode(nodeId);
+            }
+        }
+    }
+
+    private static final class NodeFile {
+        private String nodeId;
+        private WorldListing[] worlds;
+    }
+}
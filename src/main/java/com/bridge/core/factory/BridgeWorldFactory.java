@@ -14,7 +14,9 @@ import com.hypixel.hytale.server.core.universe.world.World;
 @Deprecated
 public class BridgeWorldFactory {
     private static Map<UUID, BridgeWorld> map = new ConcurrentHashMap<>();
-    private static BridgeWorld defaultWBWorld;
+    private static volatile BridgeWorld defaultWBWorld;
+    // Set once a rotation has chosen the default, so it no longer follows the server's configured default world.
+    private static volatile boolean defaultRotated;
 
     public static BridgeWorld getDefaultWorldAsBridgeWorld() {
         return defaultWBWorld;
@@ -30,6 +32,9 @@ public class BridgeWorldFactory {
     }
 
     public static void updateDefaultWorld() {
+        if (defaultRotated) {
+            return;
+        }
         var defaultWorld = Universe.get().getDefaultWorld();
         if (defaultWorld != null) {
             defaultWBWorld = getBridgeWorldFromWorld(defaultWorld, defaultWorld.getName(), null);
@@ -37,6 +42,26 @@ public class BridgeWorldFactory {
         }
     }
 
+    /**
+     * Switches the default world, which new joins and deactivation fallbacks are routed to, in one write.
+     */
+    public static void setDefaultWorld(@Nonnull BridgeWorld bWorld) {
+        defaultRotated = true;
+        defaultWBWorld = bWorld;
+    }
+
+    /**
+     * @return The world players are routed to by default: the rotated default world if there is one,
+     *         otherwise the server's configured default world.
+     */
+    public static World getDefaultWorld() {
+        var bWorld = defaultWBWorld;
+        if (bWorld != null && bWorld.getWorld() != null) {
+            return bWorld.getWorld();
+        }
+        return Universe.get().getDefaultWorld();
+    }
+
     public static Collection<BridgeWorld> GetAllBridgeWorlds() {
         return map.values();
     }
@@ -49,6 +74,7 @@ public class BridgeWorldFactory {
         if (bridgeWorld == null) {
             bridgeWorld = new BridgeWorld(name, bridgeWorldComponent);
             map.put(worldUuid, bridgeWorld);
+            WorldIndex.add(bridgeWorld);
         }
         
         return bridgeWorld;
@@ -62,6 +88,7 @@ public class BridgeWorldFactory {
 
     public static void releaseBridgeWorld(@Nonnull BridgeWorld bWorld) {
         map.remove(bWorld.getWorld().getWorldConfig().getUuid());
+        WorldIndex.remove(bWorld);
     }
     
     public static boolean hasBridgeWorld(@Nonnull World world) {
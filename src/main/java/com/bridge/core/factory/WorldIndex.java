@@ -0,0 +1,159 @@
+package com.bridge.core.factory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.BridgeWorldComponent;
+import com.bridge.api.modules.WorldState;
+import com.bridge.core.placement.WorldPlacementService;
+
+/**
+ * Secondary indexes over the worlds registered in {@link BridgeWorldFactory}: by component class, tag,
+ * lifecycle state and player-count bucket.
+ *
+ * <p>Indexes are concurrent sets updated incrementally whenever a world is registered, tagged, changes state
+ * or gains or loses a player, so queries read them without locks or scans. Player counts are bucketed by
+ * powers of two: bucket 0 holds empty worlds, bucket {@code b} holds worlds with 2^(b-1) to 2^b - 1 players.
+ */
+@Deprecated
+public final class WorldIndex {
+    public static final int PLAYER_BUCKETS = 32;
+
+    private static final Map<BridgeWorld, Entry> entries = new ConcurrentHashMap<>();
+    private static final Map<WorldState, Set<BridgeWorld>> byState = new EnumMap<>(WorldState.class);
+    private static final Map<Class<? extends BridgeWorldComponent>, Set<BridgeWorld>> byComponent = new ConcurrentHashMap<>();
+    private static final Map<String, Set<BridgeWorld>> byTag = new ConcurrentHashMap<>();
+    private static final List<Set<BridgeWorld>> byPlayerBucket;
+
+    static {
+        for (var state : WorldState.values()) {
+            byState.put(state, ConcurrentHashMap.newKeySet());
+        }
+        var buckets = new ArrayList<Set<BridgeWorld>>(PLAYER_BUCKETS);
+        for (int i = 0; i < PLAYER_BUCKETS; i++) {
+            buckets.add(ConcurrentHashMap.newKeySet());
+        }
+        byPlayerBucket = List.copyOf(buckets);
+    }
+
+    static void add(@Nonnull BridgeWorld bWorld) {
+        var entry = new Entry();
+        if (entries.putIfAbsent(bWorld, entry) != null) {
+            return;
+        }
+        synchronized (entry) {
+            byComponent.computeIfAbsent(bWorld.getBridgeWorldComponent().getClass(), ignored -> ConcurrentHashMap.newKeySet()).add(bWorld);
+            for (String tag : bWorld.getTags()) {
+                byTag.computeIfAbsent(tag, ignored -> ConcurrentHashMap.newKeySet()).add(bWorld);
+            }
+            entry.state = bWorld.getState();
+            entry.bucket = bucketOf(WorldPlacementService.getLoad(bWorld).getPlayerCount());
+            byState.get(entry.state).add(bWorld);
+            byPlayerBucket.get(entry.bucket).add(bWorld);
+        }
+    }
+
+    static void remove(@Nonnull BridgeWorld bWorld) {
+        var entry = entries.remove(bWorld);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            var components = byComponent.get(bWorld.getBridgeWorldComponent().getClass());
+            if (components != null) {
+                components.remove(bWorld);
+            }
+            for (var tagged : byTag.values()) {
+                tagged.remove(bWorld);
+            }
+            byState.get(entry.state).remove(bWorld);
+            byPlayerBucket.get(entry.bucket).remove(bWorld);
+        }
+    }
+
+    /**
+     * Moves the world to the state and player bucket it is in now. Cheap when nothing changed.
+     */
+    public static void refresh(@Nonnull BridgeWorld bWorld) {
+        var entry = entries.get(bWorld);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entries.get(bWorld) != entry) {
+                return;
+            }
+            var state = bWorld.getState();
+            if (state != entry.state) {
+                byState.get(state).add(bWorld);
+                byState.get(entry.state).remove(bWorld);
+                entry.state = state;
+            }
+            int bucket = bucketOf(WorldPlacementService.getLoad(bWorld).getPlayerCount());
+            if (bucket != entry.bucket) {
+                byPlayerBucket.get(bucket).add(bWorld);
+                byPlayerBucket.get(entry.bucket).remove(bWorld);
+                entry.bucket = bucket;
+            }
+        }
+    }
+
+    public static void tagAdded(@Nonnull BridgeWorld bWorld, @Nonnull String tag) {
+        var entry = entries.get(bWorld);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            // A concurrent remove takes the entry out of the map before clearing the tags under its monitor.
+            if (entries.get(bWorld) == entry) {
+                byTag.computeIfAbsent(tag, ignored -> ConcurrentHashMap.newKeySet()).add(bWorld);
+            }
+        }
+    }
+
+    public static void tagRemoved(@Nonnull BridgeWorld bWorld, @Nonnull String tag) {
+        var tagged = byTag.get(tag);
+        if (tagged != null) {
+            tagged.remove(bWorld);
+        }
+    }
+
+    @Nonnull
+    public static Set<BridgeWorld> withState(@Nonnull WorldState state) {
+        return byState.get(state);
+    }
+
+    @Nonnull
+    public static Set<BridgeWorld> withTag(@Nonnull String tag) {
+        var tagged = byTag.get(tag);
+        return tagged != null ? tagged : Set.of();
+    }
+
+    /**
+     * @return The component classes worlds are indexed under, each mapped to its worlds.
+     */
+    @Nonnull
+    public static Map<Class<? extends BridgeWorldComponent>, Set<BridgeWorld>> byComponent() {
+        return byComponent;
+    }
+
+    @Nonnull
+    public static Set<BridgeWorld> withPlayerBucket(int bucket) {
+        return byPlayerBucket.get(bucket);
+    }
+
+    public static int bucketOf(int players) {
+        return players <= 0 ? 0 : Math.min(PLAYER_BUCKETS - 1, 32 - Integer.numberOfLeadingZeros(players));
+    }
+
+    private static final class Entry {
+        // Guarded by the entry itself.
+        private WorldState state;
+        private int bucket;
+    }
+}
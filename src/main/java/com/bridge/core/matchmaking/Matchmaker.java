@@ -0,0 +1,635 @@
+package com.bridge.core.matchmaking;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.MatchmakingConfig;
+import com.bridge.api.modules.MatchmakingQueue;
+import com.bridge.api.modules.WorldQuery;
+import com.bridge.api.modules.WorldState;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.messaging.MpscArrayQueue;
+import com.bridge.core.placement.WorldLoadStats;
+import com.bridge.core.placement.WorldPlacementService;
+import com.bridge.core.plugin.BridgePlugin;
+import com.bridge.core.systems.BridgeWorldManagerSystem;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+
+/**
+ * Groups queued players on the matchmaking thread and moves each group into a pooled instance.
+ *
+ * <p>Enqueued tickets are claimed in {@link #queued} and handed over through a lock-free inbox. Each pass drains
+ * the inbox into per-pool sets ordered by wait time and by rating, then takes the longest-waiting ticket of each
+ * pool as an anchor and walks outwards from its rating for the closest live tickets. A ticket leaves the queue
+ * when its entry in {@link #queued} is removed, either by a dequeue or by the pass claiming it for a group, so
+ * the two can never both win; stale tickets are dropped from the sets when a pass comes across them.
+ *
+ * <p>A grouped ticket stays in {@link #claimed} until its player is moved, so a dequeue still takes the player out
+ * of a group that waits for an instance. Players whose entity is not in any world, such as during a transfer, are
+ * skipped by grouping and put back in line instead of being moved. Players who left the server are dequeued from
+ * every open queue once they have not come back within {@link #DISCONNECT_GRACE_MILLIS}.
+ */
+@Deprecated
+public final class Matchmaker implements MatchmakingQueue {
+    private static final String DEFAULT_POOL = "";
+    private static final int EWMA_SHIFT = 3;
+    /** How long a player removed from a world may take to appear in another before their tickets are dropped. */
+    private static final long DISCONNECT_GRACE_MILLIS = 10_000L;
+
+    private static final Set<Matchmaker> open = ConcurrentHashMap.newKeySet();
+
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "Bridge-Matchmaking");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Comparator<Ticket> BY_WAIT = Comparator.<Ticket>comparingLong(ticket -> ticket.enqueuedNanos)
+        .thenComparingLong(ticket -> ticket.sequence);
+    private static final Comparator<Ticket> BY_RATING = Comparator.<Ticket>comparingInt(ticket -> ticket.rating)
+        .thenComparingLong(ticket -> ticket.sequence);
+
+    private final MatchmakingConfig config;
+    private final MpscArrayQueue<Ticket> inbox;
+    private final Map<UUID, Ticket> queued = new ConcurrentHashMap<>();
+    /** Tickets grouped but not moved yet, waiting for an instance. */
+    private final Map<UUID, Ticket> claimed = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger provisioning = new AtomicInteger();
+    private final ScheduledFuture<?> passes;
+
+    // Only touched on the matchmaking thread.
+    private final Map<String, Pool> pools = new HashMap<>();
+    private final ArrayDeque<List<Ticket>> unplaced = new ArrayDeque<>();
+    private final List<Ticket> arrivals = new ArrayList<>();
+
+    private final Throughput matches = new Throughput();
+    private final Throughput players = new Throughput();
+    // Guarded by this.
+    private long averageTimeToMatchNanos;
+    private long maxTimeToMatchNanos;
+    private volatile long averagePassNanos;
+    private volatile int unplacedGroups;
+    private volatile boolean closed;
+
+    public Matchmaker(@Nonnull MatchmakingConfig config) {
+        this.config = config;
+        this.inbox = new MpscArrayQueue<>(config.getQueueCapacity());
+        this.passes = executor.scheduleWithFixedDelay(this::pass, config.getMatchEveryMillis(), config.getMatchEveryMillis(),
+            TimeUnit.MILLISECONDS);
+        open.add(this);
+    }
+
+    /**
+     * Called when a player's entity is removed from a world. If the player is not in a world again after the grace
+     * period, they have left the server and are dequeued from every open queue.
+     */
+    public static void playerRemoved(@Nonnull UUID playerUuid) {
+        for (var matchmaker : open) {
+            if (matchmaker.isQueued(playerUuid)) {
+                executor.schedule(() -> matchmaker.dropIfDisconnected(playerUuid), DISCONNECT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void dropIfDisconnected(@Nonnull UUID playerUuid) {
+        var ticket = queued.get(playerUuid);
+        if (ticket == null) {
+            ticket = claimed.get(playerUuid);
+        }
+        if (ticket != null && !isConnected(ticket.playerRef)) {
+            dequeue(playerUuid);
+        }
+    }
+
+    private static boolean isConnected(@Nonnull PlayerRef playerRef) {
+        var ref = playerRef.getReference();
+        return ref != null && ref.isValid();
+    }
+
+    @Override
+    public boolean enqueue(@Nonnull PlayerRef playerRef, int rating) {
+        return enqueue(playerRef, DEFAULT_POOL, rating);
+    }
+
+    @Override
+    public boolean enqueue(@Nonnull PlayerRef playerRef, @Nonnull String pool, int rating) {
+        if (closed) {
+            return false;
+        }
+        var ticket = new Ticket(playerRef, pool, rating, System.nanoTime(), sequence.getAndIncrement());
+        if (queued.putIfAbsent(ticket.uuid, ticket) != null) {
+            return false;
+        }
+        if (!inbox.offer(ticket)) {
+            queued.remove(ticket.uuid, ticket);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean dequeue(@Nonnull UUID playerUuid) {
+        // A pass claims a ticket before it leaves queued, so one of the two removals always finds it.
+        return queued.remove(playerUuid) != null | claimed.remove(playerUuid) != null;
+    }
+
+    @Override
+    public boolean isQueued(@Nonnull UUID playerUuid) {
+        return queued.containsKey(playerUuid) || claimed.containsKey(playerUuid);
+    }
+
+    @Override
+    public int getQueuedPlayers() {
+        return queued.size();
+    }
+
+    @Override
+    public int getGroupsAwaitingWorld() {
+        return unplacedGroups + provisioning.get();
+    }
+
+    @Override
+    public long getMatchesMade() {
+        return matches.total.get();
+    }
+
+    @Override
+    public long getPlayersMatched() {
+        return players.total.get();
+    }
+
+    @Override
+    public long getMatchesPerMinute() {
+        return matches.perMinute();
+    }
+
+    @Override
+    public long getPlayersMatchedPerMinute() {
+        return players.perMinute();
+    }
+
+    @Override
+    public synchronized long getAverageTimeToMatchMillis() {
+        return averageTimeToMatchNanos / 1_000_000L;
+    }
+
+    @Override
+    public synchronized long getMaxTimeToMatchMillis() {
+        return maxTimeToMatchNanos / 1_000_000L;
+    }
+
+    @Override
+    public long getAveragePassNanos() {
+        return averagePassNanos;
+    }
+
+    @Nonnull
+    @Override
+    public MatchmakingConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        open.remove(this);
+        passes.cancel(false);
+        queued.clear();
+        // Groups still waiting for an instance are dropped when they would be placed, which releases their slots.
+        claimed.clear();
+        executor.execute(() -> {
+            unplaced.clear();
+            unplacedGroups = 0;
+            pools.clear();
+        });
+    }
+
+    /**
+     * Runs on the matchmaking thread.
+     */
+    private void pass() {
+        try {
+            long start = System.nanoTime();
+            arrivals.clear();
+            inbox.drainTo(arrivals, inbox.capacity());
+            for (var ticket : arrivals) {
+                if (queued.get(ticket.uuid) == ticket) {
+                    ticket.grouped = false;
+                    pools.computeIfAbsent(ticket.pool, ignored -> new Pool()).add(ticket);
+                }
+            }
+
+            placeUnplaced();
+
+            var groups = new ArrayList<List<Ticket>>();
+            for (var remaining = pools.values().iterator(); remaining.hasNext();) {
+                var pool = remaining.next();
+                pool.match(start, groups);
+                if (pool.isEmpty()) {
+                    remaining.remove();
+                }
+            }
+            for (var group : groups) {
+                if (!unplaced.isEmpty() || !assign(group)) {
+                    unplaced.add(group);
+                }
+            }
+            unplacedGroups = unplaced.size();
+
+            long now = System.nanoTime();
+            matches.sample(now);
+            players.sample(now);
+            long average = averagePassNanos;
+            averagePassNanos = average == 0 ? now - start : average + ((now - start - average) >> EWMA_SHIFT);
+        } catch (Exception e) {
+            BridgePlugin.logger().atSevere().withCause(e).log("Matchmaking pass failed for " + config.getTemplate());
+            EventJournal.recordError(null, e);
+        }
+    }
+
+    /**
+     * Retries groups that found no world, oldest first, so later groups never overtake them.
+     */
+    private void placeUnplaced() {
+        while (!unplaced.isEmpty()) {
+            if (!assign(unplaced.peek())) {
+                return;
+            }
+            unplaced.poll();
+        }
+    }
+
+    /**
+     * @return false if the group has to wait, because no pooled instance is free and enough copies are in progress
+     */
+    private boolean assign(@Nonnull List<Ticket> group) {
+        var bWorld = reservePooledWorld(group.size());
+        if (bWorld != null) {
+            place(group, bWorld);
+            return true;
+        }
+        if (provisioning.get() >= config.getMaxProvisioning()) {
+            return false;
+        }
+        provision(group);
+        return true;
+    }
+
+    @Nullable
+    private BridgeWorld reservePooledWorld(int slots) {
+        var candidates = new WorldQuery()
+            .inState(WorldState.ACTIVE)
+            .fromTemplate(config.getTemplate())
+            .taggedWith(config.getPoolTag())
+            .withPlayers(0, 0)
+            .list();
+        for (var bWorld : candidates) {
+            var load = WorldPlacementService.getLoad(bWorld);
+            // A world with transfers or reservations in flight was just given to another group.
+            if (load.getPendingTransfers() == 0 && load.getReservedSlots() == 0 && reserve(load, slots)) {
+                return bWorld;
+            }
+        }
+        return null;
+    }
+
+    private static boolean reserve(@Nonnull WorldLoadStats load, int slots) {
+        for (int i = 0; i < slots; i++) {
+            if (!load.tryReserve()) {
+                for (int j = 0; j < i; j++) {
+                    load.releaseReservation();
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the template world for a group. The copy joins the pool even if the group gave up on it.
+     */
+    private void provision(@Nonnull List<Ticket> group) {
+        var source = Universe.get().getWorld(config.getTemplate());
+        if (source == null) {
+            BridgePlugin.logger().atWarning().log("Matchmaking template world " + config.getTemplate() + " is not loaded");
+            requeue(unclaim(group));
+            return;
+        }
+
+        provisioning.incrementAndGet();
+        var settled = new AtomicBoolean();
+        var timeout = executor.schedule(() -> {
+            if (settled.compareAndSet(false, true)) {
+                provisioning.decrementAndGet();
+                BridgePlugin.logger().atWarning().log("Timed out copying " + config.getTemplate() + " for a match, requeueing "
+                    + group.size() + " players");
+                requeue(unclaim(group));
+            }
+        }, config.getProvisionTimeoutMillis(), TimeUnit.MILLISECONDS);
+
+        var system = BridgeWorldManagerSystem.get();
+        String name = config.getTemplate() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        system.copyWorld(source, name, null, bWorld -> {
+            bWorld.addTag(config.getPoolTag());
+            bWorld.setCapacity(config.getMaxPlayers());
+            system.activateWorldWithWarmup(bWorld, config.getWarmup()).whenComplete((report, throwable) -> {
+                if (!settled.compareAndSet(false, true)) {
+                    return;
+                }
+                timeout.cancel(false);
+                provisioning.decrementAndGet();
+                if (throwable != null) {
+                    BridgePlugin.logger().atSevere().withCause(throwable).log("Failed to activate match world " + name);
+                    EventJournal.recordError(bWorld, throwable);
+                    requeue(unclaim(group));
+                } else if (!reserve(WorldPlacementService.getLoad(bWorld), group.size())) {
+                    requeue(unclaim(group));
+                } else {
+                    place(group, bWorld);
+                }
+            });
+        });
+    }
+
+    /**
+     * Moves a group into a world in which its slots are already reserved. Players dequeued while the group waited
+     * are left out; players not in a world right now are put back in line. If too few remain, the rest are put
+     * back in line too and the slots are given back.
+     */
+    private void place(@Nonnull List<Ticket> group, @Nonnull BridgeWorld bWorld) {
+        var moving = new ArrayList<Ticket>(group.size());
+        var away = new ArrayList<Ticket>();
+        for (var ticket : group) {
+            if (claimed.remove(ticket.uuid, ticket)) {
+                (isConnected(ticket.playerRef) ? moving : away).add(ticket);
+            }
+        }
+        requeue(away);
+
+        var load = WorldPlacementService.getLoad(bWorld);
+        if (moving.size() < config.getMinPlayers()) {
+            for (int i = 0; i < group.size(); i++) {
+                load.releaseReservation();
+            }
+            requeue(moving);
+            return;
+        }
+
+        var playerRefs = new ArrayList<PlayerRef>(moving.size());
+        for (var ticket : moving) {
+            playerRefs.add(ticket.playerRef);
+        }
+        // The transfers are counted as pending before the slots are given back, so the world never looks free.
+        var future = BridgeWorldManagerSystem.get().transferPlayers(playerRefs, bWorld.getWorld());
+        for (int i = 0; i < group.size(); i++) {
+            load.releaseReservation();
+        }
+
+        long now = System.nanoTime();
+        recordMatch(moving, now);
+        EventJournal.record(BridgeEventType.MATCH_ASSIGNED, bWorld, null, moving.size(), config.getTemplate());
+
+        var onMatch = config.getOnMatch();
+        if (onMatch != null) {
+            future.thenAccept(moved -> {
+                try {
+                    onMatch.accept(bWorld, moved);
+                } catch (Exception e) {
+                    BridgePlugin.logger().atSevere().withCause(e).log("Match callback failed in " + bWorld.bWorldName);
+                    EventJournal.recordError(bWorld, e);
+                }
+            });
+        }
+    }
+
+    private synchronized void recordMatch(@Nonnull List<Ticket> group, long now) {
+        matches.total.incrementAndGet();
+        players.total.addAndGet(group.size());
+        for (var ticket : group) {
+            long waited = now - ticket.enqueuedNanos;
+            long average = averageTimeToMatchNanos;
+            averageTimeToMatchNanos = average == 0 ? waited : average + ((waited - average) >> EWMA_SHIFT);
+            maxTimeToMatchNanos = Math.max(maxTimeToMatchNanos, waited);
+        }
+    }
+
+    /**
+     * Puts players that are no longer claimed back in the queue, keeping their place in line.
+     */
+    private void requeue(@Nonnull List<Ticket> tickets) {
+        if (closed) {
+            return;
+        }
+        for (var ticket : tickets) {
+            if (queued.putIfAbsent(ticket.uuid, ticket) == null && !inbox.offer(ticket)) {
+                queued.remove(ticket.uuid, ticket);
+            }
+        }
+    }
+
+    /**
+     * @return The tickets of a waiting group that no dequeue took out of it, no longer claimed
+     */
+    @Nonnull
+    private List<Ticket> unclaim(@Nonnull List<Ticket> group) {
+        var kept = new ArrayList<Ticket>(group.size());
+        for (var ticket : group) {
+            if (claimed.remove(ticket.uuid, ticket)) {
+                kept.add(ticket);
+            }
+        }
+        return kept;
+    }
+
+    private int spread(long waitedNanos) {
+        long spread = config.getInitialSpread() + config.getSpreadPerSecond() * (waitedNanos / 1_000_000_000L);
+        return (int) Math.min(spread, config.getMaxSpread());
+    }
+
+    private final class Pool {
+        private final TreeSet<Ticket> byWait = new TreeSet<>(BY_WAIT);
+        private final TreeSet<Ticket> byRating = new TreeSet<>(BY_RATING);
+
+        void add(@Nonnull Ticket ticket) {
+            byWait.add(ticket);
+            byRating.add(ticket);
+        }
+
+        boolean isEmpty() {
+            return byWait.isEmpty();
+        }
+
+        /**
+         * Groups the tickets of this pool, longest-waiting first. Grouped tickets leave the rating set at once
+         * and the wait set when the anchor walk reaches them.
+         */
+        void match(long now, @Nonnull List<List<Ticket>> groups) {
+            int minPlayers = config.getMinPlayers();
+            int maxPlayers = config.getMaxPlayers();
+            long fillWaitNanos = config.getFillWaitMillis() * 1_000_000L;
+
+            for (var anchors = byWait.iterator(); anchors.hasNext();) {
+                var anchor = anchors.next();
+                if (anchor.grouped) {
+                    anchors.remove();
+                    continue;
+                }
+                if (queued.get(anchor.uuid) != anchor) {
+                    anchors.remove();
+                    byRating.remove(anchor);
+                    continue;
+                }
+                if (byRating.size() < minPlayers) {
+                    continue;
+                }
+
+                if (!isConnected(anchor.playerRef)) {
+                    continue;
+                }
+
+                long waited = now - anchor.enqueuedNanos;
+                var group = gather(anchor, spread(waited), maxPlayers);
+                if (group.size() < minPlayers || (group.size() < maxPlayers && waited < fillWaitNanos)) {
+                    continue;
+                }
+
+                var taken = new ArrayList<Ticket>(group.size());
+                for (var ticket : group) {
+                    ticket.grouped = true;
+                    byRating.remove(ticket);
+                    claimed.put(ticket.uuid, ticket);
+                    if (queued.remove(ticket.uuid, ticket)) {
+                        taken.add(ticket);
+                    } else {
+                        claimed.remove(ticket.uuid, ticket);
+                    }
+                }
+                anchors.remove();
+                if (taken.size() >= minPlayers) {
+                    groups.add(taken);
+                } else {
+                    // Lost players to dequeues since the walk; the rest wait for the next pass.
+                    requeue(unclaim(taken));
+                }
+            }
+        }
+
+        /**
+         * Collects the anchor and the live tickets closest to its rating, within the spread.
+         */
+        @Nonnull
+        private List<Ticket> gather(@Nonnull Ticket anchor, int spread, int maxPlayers) {
+            var group = new ArrayList<Ticket>(maxPlayers);
+            group.add(anchor);
+            var below = byRating.headSet(anchor, false).descendingIterator();
+            var above = byRating.tailSet(anchor, false).iterator();
+            var lower = nextLive(below);
+            var upper = nextLive(above);
+            while (group.size() < maxPlayers) {
+                long lowerGap = lower != null ? (long) anchor.rating - lower.rating : Long.MAX_VALUE;
+                long upperGap = upper != null ? (long) upper.rating - anchor.rating : Long.MAX_VALUE;
+                if (Math.min(lowerGap, upperGap) > spread) {
+                    break;
+                }
+                if (lowerGap <= upperGap) {
+                    group.add(lower);
+                    lower = nextLive(below);
+                } else {
+                    group.add(upper);
+                    upper = nextLive(above);
+                }
+            }
+            return group;
+        }
+
+        @Nullable
+        private Ticket nextLive(@Nonnull Iterator<Ticket> tickets) {
+            while (tickets.hasNext()) {
+                var ticket = tickets.next();
+                if (queued.get(ticket.uuid) == ticket && isConnected(ticket.playerRef)) {
+                    return ticket;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Ticket {
+        final PlayerRef playerRef;
+        final UUID uuid;
+        final String pool;
+        final int rating;
+        final long enqueuedNanos;
+        final long sequence;
+        // Only touched on the matchmaking thread.
+        boolean grouped;
+
+        Ticket(@Nonnull PlayerRef playerRef, @Nonnull String pool, int rating, long enqueuedNanos, long sequence) {
+            this.playerRef = playerRef;
+            this.uuid = playerRef.getUuid();
+            this.pool = pool;
+            this.rating = rating;
+            this.enqueuedNanos = enqueuedNanos;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * A running total with a per-second window over the last minute, sampled by the matchmaking thread.
+     */
+    private static final class Throughput {
+        private static final int WINDOW = 60;
+
+        final AtomicLong total = new AtomicLong();
+        // Guarded by this.
+        private final long[] seconds = new long[WINDOW + 1];
+        private long samples = 1;
+        private long nextSampleNanos;
+
+        synchronized void sample(long now) {
+            if (nextSampleNanos == 0) {
+                nextSampleNanos = now + 1_000_000_000L;
+                return;
+            }
+            while (now - nextSampleNanos >= 0) {
+                seconds[(int) (samples % seconds.length)] = total.get();
+                samples++;
+                nextSampleNanos += 1_000_000_000L;
+            }
+        }
+
+        /**
+         * @return The increments over the last minute, or since the queue was created if that is more recent.
+         */
+        synchronized long perMinute() {
+            long oldest = samples > WINDOW ? samples - WINDOW - 1 : 0;
+            return total.get() - seconds[(int) (oldest % seconds.length)];
+        }
+    }
+}
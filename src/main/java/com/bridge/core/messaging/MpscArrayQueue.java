@@ -0,0 +1,84 @@
+package com.bridge.core.messaging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nonnull;
+
+/**
+ * Bounded lock-free multi-producer single-consumer queue backed by a power-of-two ring.
+ *
+ * <p>Producers claim a sequence with a CAS on the producer index and then publish their element into the
+ * claimed slot; the single consumer reads slots in sequence order and frees them by advancing the consumer
+ * index. Offers fail instead of blocking when the ring is full, which is what callers use as backpressure.
+ */
+@Deprecated
+public final class MpscArrayQueue<E> {
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    public MpscArrayQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        buffer = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an element. Safe to call from any number of threads.
+     *
+     * @return false if the queue is full
+     */
+    public boolean offer(@Nonnull E element) {
+        long capacity = mask + 1L;
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+
+        buffer.lazySet((int) (index & mask), element);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code limit} elements into {@code sink}, in the order they were claimed.
+     * Must only be called by the consumer thread.
+     *
+     * @return The number of elements moved
+     */
+    public int drainTo(@Nonnull List<? super E> sink, int limit) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < limit) {
+            int offset = (int) (index & mask);
+            E element = buffer.get(offset);
+            if (element == null) {
+                // Either empty, or a producer has claimed this slot but not published yet;
+                // the element is picked up on the next drain rather than spinning on the world thread.
+                break;
+            }
+            buffer.lazySet(offset, null);
+            sink.add(element);
+            index++;
+            drained++;
+        }
+        consumerIndex.lazySet(index);
+        return drained;
+    }
+
+    /**
+     * @return An estimate of the number of queued elements, including claimed but unpublished slots.
+     */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0L, Math.min(size, mask + 1L));
+    }
+}
@@ -0,0 +1,118 @@
+package com.bridge.core.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.BridgeChannel;
+import com.bridge.api.modules.BridgeMessageHandler;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.core.plugin.BridgePlugin;
+
+@Deprecated
+public final class WorldChannel<T> implements BridgeChannel<T> {
+    private final String name;
+    private final Class<T> type;
+    private final BridgeWorld receiver;
+    private final BridgeMessageHandler<T> handler;
+    private final MpscArrayQueue<T> queue;
+    private final int maxPerTick;
+    private final int highWatermark;
+    private final LongAdder rejected = new LongAdder();
+    /** Reused for every delivery; only touched on the receiver's thread. */
+    private final List<T> batch;
+    private volatile boolean closed;
+
+    public WorldChannel(@Nonnull String name, @Nonnull Class<T> type, @Nonnull BridgeWorld receiver, int capacity, int maxPerTick,
+        @Nonnull BridgeMessageHandler<T> handler) {
+
+        this.name = name;
+        this.type = type;
+        this.receiver = receiver;
+        this.handler = handler;
+        this.queue = new MpscArrayQueue<>(capacity);
+        this.maxPerTick = Math.max(1, maxPerTick);
+        this.highWatermark = queue.capacity() - queue.capacity() / 4;
+        this.batch = new ArrayList<>(Math.min(this.maxPerTick, queue.capacity()));
+    }
+
+    @Nonnull
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Nonnull
+    @Override
+    public BridgeWorld getReceiver() {
+        return receiver;
+    }
+
+    @Override
+    public boolean send(@Nonnull T message) {
+        if (closed) {
+            return false;
+        }
+        if (!queue.offer(message)) {
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isBackpressured() {
+        return queue.size() >= highWatermark;
+    }
+
+    @Override
+    public int getPending() {
+        return queue.size();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public int getMaxPerTick() {
+        return maxPerTick;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Delivers up to {@link #getMaxPerTick()} queued messages. Must only be called on the receiver's thread.
+     *
+     * @return The number of messages delivered
+     */
+    public int deliver() {
+        if (queue.drainTo(batch, maxPerTick) == 0) {
+            return 0;
+        }
+        int delivered = batch.size();
+        try {
+            handler.onMessages(receiver, batch);
+        } catch (Exception e) {
+            BridgePlugin.logger().atSevere().withCause(e)
+                .log("Message handler failed on channel " + name + " in world " + receiver.bWorldName);
+        } finally {
+            batch.clear();
+        }
+        return delivered;
+    }
+}
@@ -0,0 +1,106 @@
+package com.bridge.core.placement;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import com.bridge.api.modules.BridgeWorldLoad;
+
+@Deprecated
+public final class WorldLoadStats implements BridgeWorldLoad {
+    /** Weight of the newest tick in the moving average, as a right shift: 1/8. */
+    private static final int EWMA_SHIFT = 3;
+
+    private final AtomicInteger players = new AtomicInteger();
+    private final AtomicInteger pendingTransfers = new AtomicInteger();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private volatile int capacity = Integer.MAX_VALUE;
+    private volatile long averageTickNanos;
+    // Only written on the world thread.
+    private long lastTickNanos;
+
+    @Override
+    public int getPlayerCount() {
+        return players.get();
+    }
+
+    @Override
+    public int getPendingTransfers() {
+        return pendingTransfers.get();
+    }
+
+    @Override
+    public int getReservedSlots() {
+        return reserved.get();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity <= 0 ? Integer.MAX_VALUE : capacity;
+    }
+
+    @Override
+    public int getFreeSlots() {
+        long used = (long) players.get() + pendingTransfers.get() + reserved.get();
+        return (int) Math.max(0L, capacity - used);
+    }
+
+    @Override
+    public long getAverageTickNanos() {
+        return averageTickNanos;
+    }
+
+    /**
+     * Records a tick of the world. Must only be called on the world thread.
+     *
+     * @param stride The number of ticks at the world's normal rate this tick stands in for; above 1 while the
+     *               tick rate is lowered, so a slowed-down world is not mistaken for a lagging one
+     */
+    public void recordTick(long now, int stride) {
+        if (lastTickNanos != 0) {
+            long sample = (now - lastTickNanos) / Math.max(1, stride);
+            long average = averageTickNanos;
+            averageTickNanos = average == 0 ? sample : average + ((sample - average) >> EWMA_SHIFT);
+        }
+        lastTickNanos = now;
+    }
+
+    /**
+     * Takes one slot if players, pending transfers and reservations together are below capacity.
+     *
+     * <p>Players only ever move from pending to joined, or leave, so competing reservations only need to
+     * agree on the reserved count for the check to never overfill the world.
+     */
+    public boolean tryReserve() {
+        while (true) {
+            int current = reserved.get();
+            if ((long) players.get() + pendingTransfers.get() + current >= capacity) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void releaseReservation() {
+        reserved.decrementAndGet();
+    }
+
+    public void transferStarted() {
+        pendingTransfers.incrementAndGet();
+    }
+
+    public void transferFinished() {
+        pendingTransfers.decrementAndGet();
+    }
+
+    public void playerJoined() {
+        players.incrementAndGet();
+    }
+
+    public void playerLeft() {
+        players.decrementAndGet();
+    }
+}
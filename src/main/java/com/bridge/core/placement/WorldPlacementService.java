@@ -0,0 +1,160 @@
+package com.bridge.core.placement;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.BridgeWorldLoad;
+import com.bridge.api.modules.PlacementReservation;
+import com.bridge.api.modules.ScheduledTask;
+import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.systems.BridgeWorldManagerSystem;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * Chooses which instance of a template a joining player should be sent to.
+ *
+ * <p>Instances are scored from their {@link WorldLoadStats}: how full they are, counting pending transfers
+ * and reservations, plus a penalty for ticking slower than the nominal rate. The lowest score wins.
+ * The chosen slot is reserved with a CAS so concurrent joins cannot overfill an instance; if the reservation
+ * loses a race, the next best instance is tried.
+ */
+@Deprecated
+public final class WorldPlacementService {
+    /** Nominal tick interval at 30 TPS. */
+    private static final long NOMINAL_TICK_NANOS = 1_000_000_000L / 30;
+    /** How much one nominal tick of lag weighs against a completely full instance. */
+    private static final double TICK_PENALTY = 2.0;
+    /** Player count treated as "full" when scoring instances without a capacity. */
+    private static final int UNBOUNDED_SCALE = 100;
+    /** Unused reservations are released after this many ticks of the reserved world (30 seconds at 30 TPS). */
+    private static final long RESERVATION_TIMEOUT_TICKS = 30L * 30;
+
+    private static final Map<BridgeWorld, WorldLoadStats> loads = new ConcurrentHashMap<>();
+
+    @Nonnull
+    public static WorldLoadStats getLoad(@Nonnull BridgeWorld bWorld) {
+        return loads.computeIfAbsent(bWorld, ignored -> new WorldLoadStats());
+    }
+
+    public static void releaseLoad(@Nonnull BridgeWorld bWorld) {
+        loads.remove(bWorld);
+    }
+
+    /**
+     * Reserves a slot in the least loaded active instance of a template.
+     *
+     * @param template The template name the instances were created from
+     * @return A reservation, or null if no active instance has a free slot
+     */
+    @Nullable
+    public static PlacementReservation reserve(@Nonnull String template) {
+        while (true) {
+            BridgeWorld best = null;
+            double bestScore = Double.MAX_VALUE;
+            for (var bWorld : BridgeWorldFactory.GetAllBridgeWorlds()) {
+                if (!bWorld.active || !template.equals(bWorld.getTemplate())) {
+                    continue;
+                }
+                var load = getLoad(bWorld);
+                if (load.getFreeSlots() <= 0) {
+                    continue;
+                }
+                double score = score(load);
+                if (score < bestScore) {
+                    bestScore = score;
+                    best = bWorld;
+                }
+            }
+
+            if (best == null) {
+                return null;
+            }
+            if (getLoad(best).tryReserve()) {
+                var reservation = new Reservation(best);
+                reservation.setTimeout(best.schedule(RESERVATION_TIMEOUT_TICKS, reservation::release));
+                return reservation;
+            }
+            // Lost the last slot to a concurrent join; rescore with fresh numbers.
+        }
+    }
+
+    /**
+     * Scores an instance for placement; lower is better. Shared with the world directory so local and
+     * cross-node placement agree on what "least loaded" means.
+     */
+    public static double score(@Nonnull BridgeWorldLoad load) {
+        long occupied = (long) load.getPlayerCount() + load.getPendingTransfers() + load.getReservedSlots();
+        int capacity = load.getCapacity();
+        double fill = (double) occupied / (capacity == Integer.MAX_VALUE ? UNBOUNDED_SCALE : capacity);
+
+        long lag = load.getAverageTickNanos() - NOMINAL_TICK_NANOS;
+        double tickPressure = lag > 0 ? (double) lag / NOMINAL_TICK_NANOS : 0.0;
+        return fill + TICK_PENALTY * tickPressure;
+    }
+
+    private static final class Reservation implements PlacementReservation {
+        private final BridgeWorld bWorld;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile ScheduledTask timeout;
+
+        private Reservation(BridgeWorld bWorld) {
+            this.bWorld = bWorld;
+        }
+
+        private void setTimeout(@Nonnull ScheduledTask timeout) {
+            this.timeout = timeout;
+            // Used or released before the timeout was known.
+            if (released.get()) {
+                timeout.cancel();
+            }
+        }
+
+        /**
+         * Cancels the timeout, so a hibernating world is not woken just to release a slot that is already free.
+         */
+        private void cancelTimeout() {
+            var task = timeout;
+            if (task != null) {
+                task.cancel();
+            }
+        }
+
+        @Nonnull
+        @Override
+        public BridgeWorld getBridgeWorld() {
+            return bWorld;
+        }
+
+        @Nonnull
+        @Override
+        public CompletableFuture<PlayerRef> transfer(@Nonnull PlayerRef playerRef) {
+            if (!released.compareAndSet(false, true)) {
+                throw new IllegalStateException("Reservation in " + bWorld.bWorldName + " was already used or released");
+            }
+            // The transfer is counted as pending before the slot is given back, so the world never looks emptier than it is.
+            cancelTimeout();
+            var future = BridgeWorldManagerSystem.get().transferPlayer(playerRef, bWorld.getWorld());
+            getLoad(bWorld).releaseReservation();
+            return future;
+        }
+
+        @Override
+        public boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            cancelTimeout();
+            getLoad(bWorld).releaseReservation();
+            return true;
+        }
+
+        @Override
+        public boolean isReleased() {
+            return released.get();
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package com.bridge.core.plugin;
 
+import java.util.concurrent.TimeUnit;
 import com.bridge.api.utilities.BridgeUtil;
+import com.bridge.core.commands.WorldFootprintCommand;
 import com.bridge.core.data.DataManager;
+import com.bridge.core.directory.DirectoryPublisher;
 import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.replay.WorldReplays;
+import com.bridge.core.stats.StatsService;
+import com.bridge.core.systems.BlockBreakRuleSystem;
+import com.bridge.core.systems.BlockDamageRuleSystem;
+import com.bridge.core.systems.BlockPlaceRuleSystem;
 import com.bridge.core.systems.BridgeWorldManagerSystem;
+import com.bridge.core.systems.ChunkFootprintSystem;
+import com.bridge.core.systems.EntityFootprintSystem;
 import com.bridge.core.systems.PlayerDeathSystem;
 import com.bridge.core.systems.PlayerJoinAndLeaveSystem;
 import com.hypixel.hytale.logger.HytaleLogger;
@@ -13,6 +23,8 @@ import javax.annotation.Nonnull;
 
 @Deprecated
 public final class BridgePlugin extends JavaPlugin {
+    private static final long SHUTDOWN_SAVE_TIMEOUT_SECONDS = 10L;
+
     @Nonnull
     private static HytaleLogger logger;
 
@@ -37,9 +49,37 @@ public final class BridgePlugin extends JavaPlugin {
         });
     }
 
+    @Override
+    protected void shutdown() {
+        try {
+            WorldReplays.stopAll().get(SHUTDOWN_SAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Failed to finish replay recordings on shutdown");
+        }
+        try {
+            BridgeWorldManagerSystem.get().saveComponentStates().get(SHUTDOWN_SAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Failed to save component states on shutdown");
+        }
+        try {
+            StatsService.flushAsync().get(SHUTDOWN_SAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Failed to flush stats on shutdown");
+        }
+        // Withdraws this node's worlds from a shared directory.
+        DirectoryPublisher.setDirectory(null);
+        super.shutdown();
+    }
+
     private void registerSystems() {
         getChunkStoreRegistry().registerSystem(new BridgeWorldManagerSystem());
         getEntityStoreRegistry().registerSystem(new PlayerJoinAndLeaveSystem());
         getEntityStoreRegistry().registerSystem(new PlayerDeathSystem());
+        getChunkStoreRegistry().registerSystem(new ChunkFootprintSystem());
+        getEntityStoreRegistry().registerSystem(new EntityFootprintSystem());
+        getEntityStoreRegistry().registerSystem(new BlockBreakRuleSystem());
+        getEntityStoreRegistry().registerSystem(new BlockDamageRuleSystem());
+        getEntityStoreRegistry().registerSystem(new BlockPlaceRuleSystem());
+        getCommandRegistry().registerCommand(new WorldFootprintCommand());
     }
 }
\ No newline at end of file
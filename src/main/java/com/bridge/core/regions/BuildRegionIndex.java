@@ -0,0 +1,285 @@
+package com.bridge.core.regions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BuildAction;
+import com.bridge.api.modules.BuildRegion;
+
+/**
+ * An immutable spatial index over the build regions of one world.
+ *
+ * <p>Regions are bucketed by the 32x32 block columns they overlap, in an open-addressing table keyed by column,
+ * and each bucket is sorted by priority. A lookup hashes the block's column once and walks the few regions in
+ * that bucket, highest priority first. Regions spanning more than {@link #MAX_CELLS_PER_REGION} columns, such as
+ * a map-wide default, are bucketed the same way by 1024x1024 block cells instead of being copied into every
+ * column, and the rare region too large even for that is kept in one sorted list checked on every lookup. A
+ * lookup therefore walks the regions near the block rather than every region of the world.
+ *
+ * <p>Edits build a new index, so the block event systems read it without locks; bulk edits rebuild it once.
+ */
+@Deprecated
+public final class BuildRegionIndex {
+    private static final int COLUMN_SHIFT = 5;
+    private static final int CELL_SHIFT = 10;
+    private static final int MAX_CELLS_PER_REGION = 1024;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    public static final BuildRegionIndex EMPTY = new BuildRegionIndex(new LinkedHashMap<>(), 0);
+
+    private final Map<String, Entry> byId;
+    private final int nextOrder;
+    private final Grid columns;
+    private final Grid cells;
+    private final Entry[] huge;
+
+    private BuildRegionIndex(@Nonnull LinkedHashMap<String, Entry> byId, int nextOrder) {
+        this.byId = byId;
+        this.nextOrder = nextOrder;
+
+        var columnBuckets = new HashMap<Long, List<Entry>>();
+        var cellBuckets = new HashMap<Long, List<Entry>>();
+        var hugeEntries = new ArrayList<Entry>();
+        for (var entry : byId.values()) {
+            if (!bucket(entry, COLUMN_SHIFT, columnBuckets) && !bucket(entry, CELL_SHIFT, cellBuckets)) {
+                hugeEntries.add(entry);
+            }
+        }
+        this.columns = new Grid(columnBuckets);
+        this.cells = new Grid(cellBuckets);
+        this.huge = sorted(hugeEntries);
+    }
+
+    /**
+     * Adds a region to every bucket it overlaps, unless it overlaps more than {@link #MAX_CELLS_PER_REGION}.
+     *
+     * @return false if the region was too large to bucket at this granularity
+     */
+    private static boolean bucket(@Nonnull Entry entry, int shift, @Nonnull Map<Long, List<Entry>> buckets) {
+        int minCx = entry.minX >> shift;
+        int maxCx = entry.maxX >> shift;
+        int minCz = entry.minZ >> shift;
+        int maxCz = entry.maxZ >> shift;
+        if ((long) (maxCx - minCx + 1) * (maxCz - minCz + 1) > MAX_CELLS_PER_REGION) {
+            return false;
+        }
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                buckets.computeIfAbsent(cellKey(cx, cz), ignored -> new ArrayList<>()).add(entry);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return A new index with the given regions added, replacing regions with the same id
+     */
+    @Nonnull
+    public BuildRegionIndex with(@Nonnull Collection<BuildRegion> regions) {
+        var next = new LinkedHashMap<>(byId);
+        int order = nextOrder;
+        for (var region : regions) {
+            next.remove(region.getId());
+            next.put(region.getId(), new Entry(region, order++));
+        }
+        return new BuildRegionIndex(next, order);
+    }
+
+    /**
+     * @return A new index without the regions with the given ids, or this index if none of them exist
+     */
+    @Nonnull
+    public BuildRegionIndex without(@Nonnull Collection<String> ids) {
+        var next = new LinkedHashMap<>(byId);
+        if (!next.keySet().removeAll(ids)) {
+            return this;
+        }
+        return next.isEmpty() ? EMPTY : new BuildRegionIndex(next, nextOrder);
+    }
+
+    public boolean isEmpty() {
+        return byId.isEmpty();
+    }
+
+    @Nonnull
+    public List<BuildRegion> getRegions() {
+        var regions = new ArrayList<BuildRegion>(byId.size());
+        for (var entry : byId.values()) {
+            regions.add(entry.region);
+        }
+        return regions;
+    }
+
+    @Nullable
+    public BuildRegion getRegion(@Nonnull String id) {
+        var entry = byId.get(id);
+        return entry != null ? entry.region : null;
+    }
+
+    /**
+     * Resolves whether a player may perform an action on a block. Allocation-free.
+     *
+     * @param playerUuid The acting player, or null for actions not caused by a player
+     * @return false if the highest priority region deciding the action denies it to this player;
+     *         true if it allows it or no region decides it
+     */
+    public boolean isAllowed(@Nullable UUID playerUuid, @Nonnull BuildAction action, int x, int y, int z) {
+        if (byId.isEmpty()) {
+            return true;
+        }
+        int bit = 1 << action.ordinal();
+        Entry[] local = columns.get(x >> COLUMN_SHIFT, z >> COLUMN_SHIFT);
+        Entry[] wide = cells.get(x >> CELL_SHIFT, z >> CELL_SHIFT);
+
+        // The three lists are sorted highest priority first; walk them as one.
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (true) {
+            Entry entry = i < local.length ? local[i] : null;
+            if (j < wide.length && (entry == null || wide[j].precedes(entry))) {
+                entry = wide[j];
+            }
+            if (k < huge.length && (entry == null || huge[k].precedes(entry))) {
+                entry = huge[k];
+            }
+            if (entry == null) {
+                return true;
+            }
+            if (i < local.length && entry == local[i]) {
+                i++;
+            } else if (j < wide.length && entry == wide[j]) {
+                j++;
+            } else {
+                k++;
+            }
+            if (((entry.allowMask | entry.denyMask) & bit) == 0 || !entry.contains(x, y, z)) {
+                continue;
+            }
+            if ((entry.allowMask & bit) != 0) {
+                return true;
+            }
+            return playerUuid != null && entry.members.contains(playerUuid);
+        }
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Nonnull
+    private static Entry[] sorted(@Nonnull List<Entry> entries) {
+        var array = entries.toArray(NO_ENTRIES);
+        Arrays.sort(array, (a, b) -> a.precedes(b) ? -1 : b.precedes(a) ? 1 : 0);
+        return array;
+    }
+
+    /**
+     * Buckets keyed by cell, each sorted by priority, in an open-addressing table.
+     */
+    private static final class Grid {
+        private final long[] keys;
+        private final Entry[][] buckets;
+        private final int mask;
+
+        private Grid(@Nonnull Map<Long, List<Entry>> entries) {
+            int capacity = Integer.highestOneBit(Math.max(1, entries.size()) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.buckets = new Entry[capacity][];
+            this.mask = capacity - 1;
+            for (var bucket : entries.entrySet()) {
+                long key = bucket.getKey();
+                int slot = hash(key) & mask;
+                while (buckets[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                buckets[slot] = sorted(bucket.getValue());
+            }
+        }
+
+        @Nonnull
+        private Entry[] get(int cx, int cz) {
+            long key = cellKey(cx, cz);
+            int slot = hash(key) & mask;
+            Entry[] entries;
+            while ((entries = buckets[slot]) != null) {
+                if (keys[slot] == key) {
+                    return entries;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NO_ENTRIES;
+        }
+    }
+
+    private static final class Entry {
+        private final BuildRegion region;
+        private final int order;
+        private final int priority;
+        private final int minX, minY, minZ;
+        private final int maxX, maxY, maxZ;
+        private final int allowMask;
+        private final int denyMask;
+        private final Set<UUID> members;
+
+        private Entry(@Nonnull BuildRegion source, int order) {
+            this.region = copyOf(source);
+            this.order = order;
+            this.priority = source.getPriority();
+            this.minX = source.getMinX();
+            this.minY = source.getMinY();
+            this.minZ = source.getMinZ();
+            this.maxX = source.getMaxX();
+            this.maxY = source.getMaxY();
+            this.maxZ = source.getMaxZ();
+            this.allowMask = maskOf(source.getAllowed());
+            this.denyMask = maskOf(source.getDenied());
+            this.members = Set.copyOf(source.getMembers());
+        }
+
+        /**
+         * Higher priority first; among equal priorities, the region added last wins.
+         */
+        private boolean precedes(@Nonnull Entry other) {
+            return priority != other.priority ? priority > other.priority : order > other.order;
+        }
+
+        private boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        private static int maskOf(@Nonnull Set<BuildAction> actions) {
+            int mask = 0;
+            for (var action : actions) {
+                mask |= 1 << action.ordinal();
+            }
+            return mask;
+        }
+
+        @Nonnull
+        private static BuildRegion copyOf(@Nonnull BuildRegion source) {
+            var copy = new BuildRegion(source.getId(), source.getMinX(), source.getMinY(), source.getMinZ(),
+                source.getMaxX(), source.getMaxY(), source.getMaxZ()).priority(source.getPriority());
+            copy.allow(source.getAllowed().toArray(new BuildAction[0]));
+            copy.deny(source.getDenied().toArray(new BuildAction[0]));
+            for (var member : source.getMembers()) {
+                copy.addMember(member);
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bridge.core.regions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BuildAction;
+import com.bridge.core.factory.BridgeWorldFactory;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Shared check of the block event systems against the build regions of the world the event happens in.
+ */
+@Deprecated
+public final class BuildRules {
+
+    /**
+     * @return false if a build region of the player's world denies the action on the target block
+     */
+    public static boolean isAllowed(int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store,
+        @Nonnull BuildAction action, @Nullable Vector3i target) {
+
+        var entityStore = store.getExternalData();
+        if (target == null || entityStore == null || entityStore.getWorld() == null) {
+            return true;
+        }
+        var bWorld = BridgeWorldFactory.getBridgeWorldByUUID(entityStore.getWorld().getWorldConfig().getUuid());
+        if (bWorld == null) {
+            return true;
+        }
+        var playerRef = chunk.getComponent(index, PlayerRef.getComponentType());
+        return bWorld.canBuild(playerRef != null ? playerRef.getUuid() : null, action, target.getX(), target.getY(), target.getZ());
+    }
+}
@@ -0,0 +1,197 @@
+package com.bridge.core.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeEventType;
+
+/**
+ * Encodes the records of one recording into two scratch buffers: {@link #declarations}, holding an optional
+ * reset, player declarations and the record header, and {@link #entries}, holding the per-player frame entries.
+ * A record is written by concatenating the two. Takes plain positions and rotations rather than server types,
+ * and keeps the slot and delta baselines between records.
+ *
+ * <p>Not thread-safe; {@link WorldReplayRecorder} calls it under its monitor.
+ *
+ * @see ReplayFormat
+ */
+@Deprecated
+final class ReplayEncoder {
+    static final int SCRATCH_BYTES = 32 * 1024;
+    private static final int MAX_ENTRY_BYTES = 32;
+    private static final int MAX_DECLARATION_BYTES = 128;
+    private static final int MAX_NAME_BYTES = 64;
+
+    final byte[] declarations = new byte[SCRATCH_BYTES];
+    final byte[] entries = new byte[SCRATCH_BYTES];
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private int[] lastX = new int[16];
+    private int[] lastY = new int[16];
+    private int[] lastZ = new int[16];
+    private int[] lastYaw = new int[16];
+    private int[] lastPitch = new int[16];
+    private int declared;
+    private int written;
+    private int count;
+
+    /**
+     * @return The file header, up to the first record.
+     */
+    @Nonnull
+    static byte[] header(@Nonnull String worldName, @Nonnull String template, long startedAtMillis, int sampleEveryTicks) {
+        var header = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(header)) {
+            out.writeInt(ReplayFormat.MAGIC);
+            out.writeInt(ReplayFormat.VERSION);
+            out.writeUTF(worldName);
+            out.writeUTF(template);
+            out.writeLong(startedAtMillis);
+            out.writeInt(sampleEveryTicks);
+            out.writeInt(ReplayFormat.POSITION_SCALE);
+            out.writeInt(ReplayFormat.ANGLE_STEPS);
+            var types = BridgeEventType.values();
+            out.writeInt(types.length);
+            for (var type : types) {
+                out.writeUTF(type.name());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return header.toByteArray();
+    }
+
+    /**
+     * Starts a record.
+     *
+     * @param reset Whether to forget every slot and baseline first and write a {@link ReplayFormat#RESET},
+     *              because the records since the last one written were dropped
+     */
+    void begin(boolean reset) {
+        declared = 0;
+        written = 0;
+        count = 0;
+        if (reset) {
+            slots.clear();
+            Arrays.fill(lastX, 0);
+            Arrays.fill(lastY, 0);
+            Arrays.fill(lastZ, 0);
+            Arrays.fill(lastYaw, 0);
+            Arrays.fill(lastPitch, 0);
+            declarations[declared++] = ReplayFormat.RESET;
+        }
+    }
+
+    /**
+     * Adds a player to the frame being encoded, declaring it first if it has no slot yet.
+     *
+     * @param yaw Rotation around the vertical axis, in radians
+     * @param pitch Rotation around the horizontal axis, in radians
+     * @return false if the scratch buffers are full; the player was not added and the frame should be ended
+     */
+    boolean player(@Nonnull UUID uuid, @Nullable String name, double x, double y, double z, float yaw, float pitch) {
+        if (written > SCRATCH_BYTES - MAX_ENTRY_BYTES || declared > SCRATCH_BYTES - MAX_DECLARATION_BYTES) {
+            return false;
+        }
+        int slot = slotOf(uuid, name);
+        int qx = ReplayFormat.quantizePosition(x);
+        int qy = ReplayFormat.quantizePosition(y);
+        int qz = ReplayFormat.quantizePosition(z);
+        int qYaw = ReplayFormat.quantizeAngle(yaw);
+        int qPitch = ReplayFormat.quantizeAngle(pitch);
+
+        written = ReplayFormat.writeVarLong(entries, written, slot);
+        written = ReplayFormat.writeZigZag(entries, written, qx - lastX[slot]);
+        written = ReplayFormat.writeZigZag(entries, written, qy - lastY[slot]);
+        written = ReplayFormat.writeZigZag(entries, written, qz - lastZ[slot]);
+        entries[written++] = (byte) (qYaw - lastYaw[slot]);
+        entries[written++] = (byte) (qPitch - lastPitch[slot]);
+        lastX[slot] = qx;
+        lastY[slot] = qy;
+        lastZ[slot] = qz;
+        lastYaw[slot] = qYaw;
+        lastPitch[slot] = qPitch;
+        count++;
+        return true;
+    }
+
+    /**
+     * Writes the frame header after the declarations, so the entries can follow.
+     */
+    void endFrame(long tickDelta) {
+        declarations[declared++] = ReplayFormat.FRAME;
+        declared = ReplayFormat.writeVarLong(declarations, declared, tickDelta);
+        declared = ReplayFormat.writeVarLong(declarations, declared, count);
+    }
+
+    /**
+     * Encodes an event record, declaring the player first if it has no slot yet.
+     */
+    void event(long tickDelta, @Nonnull BridgeEventType type, @Nullable UUID uuid, @Nullable String name) {
+        int slot = uuid != null ? slotOf(uuid, name) : -1;
+        declarations[declared++] = ReplayFormat.EVENT;
+        declared = ReplayFormat.writeVarLong(declarations, declared, tickDelta);
+        declarations[declared++] = (byte) type.ordinal();
+        declared = ReplayFormat.writeVarLong(declarations, declared, slot + 1);
+    }
+
+    void end(long tickDelta) {
+        declarations[declared++] = ReplayFormat.END;
+        declared = ReplayFormat.writeVarLong(declarations, declared, tickDelta);
+    }
+
+    /**
+     * @return The number of players in the frame being encoded.
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return The length of the record's part in {@link #declarations}.
+     */
+    int getDeclaredLength() {
+        return declared;
+    }
+
+    /**
+     * @return The length of the record's part in {@link #entries}; 0 for anything but a frame.
+     */
+    int getEntriesLength() {
+        return written;
+    }
+
+    private int slotOf(@Nonnull UUID uuid, @Nullable String name) {
+        var slot = slots.get(uuid);
+        if (slot != null) {
+            return slot;
+        }
+        int next = slots.size();
+        slots.put(uuid, next);
+        if (next == lastX.length) {
+            int length = next * 2;
+            lastX = Arrays.copyOf(lastX, length);
+            lastY = Arrays.copyOf(lastY, length);
+            lastZ = Arrays.copyOf(lastZ, length);
+            lastYaw = Arrays.copyOf(lastYaw, length);
+            lastPitch = Arrays.copyOf(lastPitch, length);
+        }
+
+        declarations[declared++] = ReplayFormat.PLAYER;
+        declared = ReplayFormat.writeVarLong(declarations, declared, next);
+        declared = ReplayFormat.writeLong(declarations, declared, uuid.getMostSignificantBits());
+        declared = ReplayFormat.writeLong(declarations, declared, uuid.getLeastSignificantBits());
+        byte[] bytes = name != null ? name.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = Math.min(bytes.length, MAX_NAME_BYTES);
+        declared = ReplayFormat.writeVarLong(declarations, declared, length);
+        System.arraycopy(bytes, 0, declarations, declared, length);
+        declared += length;
+        return next;
+    }
+}
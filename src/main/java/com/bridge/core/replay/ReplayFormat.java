@@ -0,0 +1,105 @@
+package com.bridge.core.replay;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Layout of Bridge replay files.
+ *
+ * <p>Header: int magic, int version, UTF world name, UTF template, long start time in epoch millis, int sample
+ * interval in ticks, int position scale, int angle steps, int event type count and the event type names, so
+ * event ordinals stay readable when {@link com.bridge.api.modules.BridgeEventType} changes.
+ *
+ * <p>Records follow, each starting with a tag byte. Integers are unsigned LEB128 varints; signed deltas are
+ * zigzag-encoded first. Ticks are written as deltas from the previous record that carries one.
+ * <ul>
+ * <li>{@link #PLAYER}: varint slot, long UUID most, long UUID least, varint name length, UTF-8 name.</li>
+ * <li>{@link #FRAME}: varint tick delta, varint count, then per player: varint slot, zigzag x, y and z deltas
+ *     in 1/{@link #POSITION_SCALE} blocks, byte yaw delta and byte pitch delta in 1/{@link #ANGLE_STEPS} turns.</li>
+ * <li>{@link #EVENT}: varint tick delta, byte event type, varint slot + 1, or 0 without a player.</li>
+ * <li>{@link #RESET}: forget every slot and baseline; written after dropped records.</li>
+ * <li>{@link #END}: varint tick delta to the last recorded tick.</li>
+ * </ul>
+ */
+@Deprecated
+public final class ReplayFormat {
+    public static final int MAGIC = 0x4252504C;
+    public static final int VERSION = 1;
+    public static final int POSITION_SCALE = 32;
+    public static final int ANGLE_STEPS = 256;
+
+    public static final byte PLAYER = 1;
+    public static final byte FRAME = 2;
+    public static final byte EVENT = 3;
+    public static final byte RESET = 4;
+    public static final byte END = 5;
+
+    private static final double RADIANS_TO_STEPS = ANGLE_STEPS / (2 * Math.PI);
+
+    public static int quantizePosition(double blocks) {
+        return (int) Math.round(blocks * POSITION_SCALE);
+    }
+
+    public static double position(int quantized) {
+        return (double) quantized / POSITION_SCALE;
+    }
+
+    public static int quantizeAngle(float radians) {
+        return (int) Math.round(radians * RADIANS_TO_STEPS) & (ANGLE_STEPS - 1);
+    }
+
+    /**
+     * @return The angle in radians, between -pi and pi.
+     */
+    public static float angle(int quantized) {
+        return (float) ((byte) quantized / RADIANS_TO_STEPS);
+    }
+
+    /**
+     * @return The position after {@code value}
+     */
+    public static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    public static int writeZigZag(byte[] buffer, int position, int value) {
+        return writeVarLong(buffer, position, ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    public static int writeLong(byte[] buffer, int position, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return position;
+    }
+
+    public static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    public static int readZigZag(DataInput in) throws IOException {
+        int value = (int) readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
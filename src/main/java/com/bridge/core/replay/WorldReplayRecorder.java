@@ -0,0 +1,309 @@
+package com.bridge.core.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.ReplayRecording;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.plugin.BridgePlugin;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * Records one world's replay. Frames and events are encoded on the world thread by a {@link ReplayEncoder} and
+ * copied into the current block of a ring allocated up front; full blocks are handed to a shared writer thread
+ * and come back to the ring once written.
+ *
+ * <p>Encoding is guarded by the recorder's monitor, which is uncontended except when {@link #stop()} is
+ * called from another thread.
+ *
+ * @see ReplayFormat
+ */
+@Deprecated
+public final class WorldReplayRecorder implements ReplayRecording {
+    private static final int BLOCK_BYTES = 2 * ReplayEncoder.SCRATCH_BYTES + 64;
+    private static final int RING_BLOCKS = 8;
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "Bridge-Replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final BridgeWorld bWorld;
+    private final Path file;
+    private final int sampleEveryTicks;
+    private final FileChannel channel;
+    private final ArrayBlockingQueue<byte[]> freeBlocks = new ArrayBlockingQueue<>(RING_BLOCKS);
+    private final CompletableFuture<ReplayRecording> closed = new CompletableFuture<>();
+
+    // Guarded by this.
+    private final ReplayEncoder encoder = new ReplayEncoder();
+    private byte[] block;
+    private int blockPosition;
+    private long tick;
+    private long lastWrittenTick;
+    private boolean resync;
+    private boolean stopped;
+
+    private volatile long ticks;
+    private volatile long frames;
+    private volatile long samples;
+    private volatile long dropped;
+    private volatile long timedFrames;
+    private volatile long recordNanos;
+    private volatile long maxRecordNanos;
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private volatile IOException failure;
+
+    private WorldReplayRecorder(@Nonnull BridgeWorld bWorld, @Nonnull Path file, int sampleEveryTicks, @Nonnull FileChannel channel) {
+        this.bWorld = bWorld;
+        this.file = file;
+        this.sampleEveryTicks = sampleEveryTicks;
+        this.channel = channel;
+        for (int i = 0; i < RING_BLOCKS; i++) {
+            freeBlocks.add(new byte[BLOCK_BYTES]);
+        }
+    }
+
+    /**
+     * Creates the file, writes its header and allocates the ring.
+     */
+    @Nonnull
+    static WorldReplayRecorder start(@Nonnull BridgeWorld bWorld, @Nonnull Path file, int sampleEveryTicks) throws IOException {
+        sampleEveryTicks = Math.max(1, sampleEveryTicks);
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        byte[] header = ReplayEncoder.header(bWorld.bWorldName, bWorld.getTemplate(), System.currentTimeMillis(), sampleEveryTicks);
+        var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        var recorder = new WorldReplayRecorder(bWorld, file, sampleEveryTicks, channel);
+        writer.execute(() -> recorder.write(header, header.length, false));
+        return recorder;
+    }
+
+    /**
+     * Records a frame if this tick is sampled. Must only be called on the world thread.
+     */
+    void tick(@Nonnull Collection<PlayerRef> players) {
+        ticks = ++tick;
+        if (tick % sampleEveryTicks != 0 || players.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            encoder.begin(resync);
+            for (var playerRef : players) {
+                var transform = playerRef.getTransform();
+                if (transform == null) {
+                    continue;
+                }
+                var position = transform.getPosition();
+                var rotation = transform.getRotation();
+                if (!encoder.player(playerRef.getUuid(), playerRef.getUsername(), position.getX(), position.getY(), position.getZ(),
+                    rotation.getY(), rotation.getX())) {
+                    break;
+                }
+            }
+            int count = encoder.getCount();
+            if (count == 0) {
+                return;
+            }
+
+            encoder.endFrame(tick - lastWrittenTick);
+            if (append(encoder.declarations, encoder.getDeclaredLength(), encoder.entries, encoder.getEntriesLength())) {
+                lastWrittenTick = tick;
+                frames++;
+                samples += count;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        timedFrames++;
+        recordNanos += elapsed;
+        if (elapsed > maxRecordNanos) {
+            maxRecordNanos = elapsed;
+        }
+    }
+
+    /**
+     * Records a player event. Must only be called on the world thread.
+     */
+    synchronized void event(@Nonnull BridgeEventType type, @Nullable PlayerRef playerRef) {
+        if (stopped) {
+            return;
+        }
+        encoder.begin(resync);
+        encoder.event(tick - lastWrittenTick, type, playerRef != null ? playerRef.getUuid() : null,
+            playerRef != null ? playerRef.getUsername() : null);
+        if (append(encoder.declarations, encoder.getDeclaredLength(), encoder.entries, 0)) {
+            lastWrittenTick = tick;
+        }
+    }
+
+    @Override
+    @Nonnull
+    public CompletableFuture<ReplayRecording> stop() {
+        synchronized (this) {
+            if (stopped) {
+                return closed;
+            }
+            encoder.begin(resync);
+            encoder.end(tick - lastWrittenTick);
+            append(encoder.declarations, encoder.getDeclaredLength(), encoder.entries, 0);
+            stopped = true;
+            if (block != null && blockPosition > 0) {
+                submit(block, blockPosition);
+            }
+            block = null;
+        }
+        WorldReplays.remove(bWorld, this);
+        writer.execute(this::close);
+        return closed;
+    }
+
+    /**
+     * Copies a record into the current block, moving to a free block if it does not fit.
+     *
+     * @return false if the record was dropped because no block was free
+     */
+    private boolean append(@Nonnull byte[] head, int headLength, @Nonnull byte[] tail, int tailLength) {
+        int length = headLength + tailLength;
+        if (block != null && blockPosition + length > BLOCK_BYTES) {
+            submit(block, blockPosition);
+            block = null;
+        }
+        if (block == null) {
+            block = freeBlocks.poll();
+            blockPosition = 0;
+            if (block == null) {
+                dropped++;
+                // Later deltas and slots would refer to what was dropped.
+                resync = true;
+                return false;
+            }
+        }
+        System.arraycopy(head, 0, block, blockPosition, headLength);
+        System.arraycopy(tail, 0, block, blockPosition + headLength, tailLength);
+        blockPosition += length;
+        resync = false;
+        return true;
+    }
+
+    private void submit(@Nonnull byte[] full, int length) {
+        writer.execute(() -> write(full, length, true));
+    }
+
+    /**
+     * Runs on the writer thread.
+     */
+    private void write(@Nonnull byte[] bytes, int length, boolean recycle) {
+        try {
+            if (failure == null) {
+                var buffer = ByteBuffer.wrap(bytes, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                bytesWritten.addAndGet(length);
+            }
+        } catch (IOException e) {
+            failure = e;
+            BridgePlugin.logger().atSevere().withCause(e).log("Failed to write replay " + file + " of world " + bWorld.bWorldName);
+            EventJournal.recordError(bWorld, e);
+        } finally {
+            if (recycle) {
+                freeBlocks.offer(bytes);
+            }
+        }
+    }
+
+    /**
+     * Runs on the writer thread, after every block of this recording.
+     */
+    private void close() {
+        try {
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            closed.completeExceptionally(failure);
+        } else {
+            closed.complete(this);
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public long getTicks() {
+        return ticks;
+    }
+
+    @Override
+    public long getFrames() {
+        return frames;
+    }
+
+    @Override
+    public long getSamples() {
+        return samples;
+    }
+
+    @Override
+    public long getDroppedRecords() {
+        return dropped;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public long getAverageRecordNanos() {
+        long count = timedFrames;
+        return count == 0 ? 0 : recordNanos / count;
+    }
+
+    @Override
+    public long getMaxRecordNanos() {
+        return maxRecordNanos;
+    }
+
+    @Override
+    public boolean isStopped() {
+        return closed.isDone();
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayRecording{file=" + file + ", ticks=" + getTicks() + ", frames=" + getFrames() + ", samples=" + getSamples()
+            + ", dropped=" + getDroppedRecords() + ", bytes=" + getBytesWritten() + ", avgRecordNanos=" + getAverageRecordNanos() + "}";
+    }
+}
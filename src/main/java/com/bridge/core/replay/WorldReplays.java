@@ -0,0 +1,94 @@
+package com.bridge.core.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.ReplayRecording;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+/**
+ * The replay recorders of all worlds, fed by the world tick and the player systems.
+ */
+@Deprecated
+public final class WorldReplays {
+    private static final Map<BridgeWorld, WorldReplayRecorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * @throws IllegalStateException if the world is already being recorded
+     */
+    @Nonnull
+    public static ReplayRecording start(@Nonnull BridgeWorld bWorld, @Nonnull Path file, int sampleEveryTicks) throws IOException {
+        synchronized (recorders) {
+            if (recorders.containsKey(bWorld)) {
+                throw new IllegalStateException("World " + bWorld.bWorldName + " is already being recorded");
+            }
+            var recorder = WorldReplayRecorder.start(bWorld, file, sampleEveryTicks);
+            recorders.put(bWorld, recorder);
+            return recorder;
+        }
+    }
+
+    @Nullable
+    public static ReplayRecording get(@Nonnull BridgeWorld bWorld) {
+        return recorders.get(bWorld);
+    }
+
+    /**
+     * Samples the world's players if it is being recorded. Must only be called on the world thread.
+     */
+    public static void tick(@Nonnull BridgeWorld bWorld, @Nonnull World world) {
+        if (recorders.isEmpty()) {
+            return;
+        }
+        var recorder = recorders.get(bWorld);
+        if (recorder != null) {
+            recorder.tick(world.getPlayerRefs());
+        }
+    }
+
+    /**
+     * Records a player event if the world is being recorded. Must only be called on the world thread.
+     */
+    public static void event(@Nonnull BridgeWorld bWorld, @Nonnull BridgeEventType type, @Nullable PlayerRef playerRef) {
+        if (recorders.isEmpty()) {
+            return;
+        }
+        var recorder = recorders.get(bWorld);
+        if (recorder != null) {
+            recorder.event(type, playerRef);
+        }
+    }
+
+    /**
+     * Stops the world's recording, if any.
+     */
+    public static void stop(@Nonnull BridgeWorld bWorld) {
+        var recorder = recorders.get(bWorld);
+        if (recorder != null) {
+            recorder.stop();
+        }
+    }
+
+    /**
+     * Stops every recording, as on shutdown.
+     *
+     * @return Completes once every recording has been written and closed
+     */
+    @Nonnull
+    public static CompletableFuture<Void> stopAll() {
+        return CompletableFuture.allOf(recorders.values().stream()
+            .map(WorldReplayRecorder::stop)
+            .toArray(CompletableFuture<?>[]::new));
+    }
+
+    static void remove(@Nonnull BridgeWorld bWorld, @Nonnull WorldReplayRecorder recorder) {
+        recorders.remove(bWorld, recorder);
+    }
+}
@@ -0,0 +1,236 @@
+package com.bridge.core.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.ScheduledTask;
+import com.bridge.core.plugin.BridgePlugin;
+
+/**
+ * Hierarchical timing wheel driven by world ticks.
+ *
+ * <p>Four levels of 64 slots cover 2^24 ticks (about 6 days at 30 TPS) exactly; longer delays are parked in the
+ * last slot of the top level and re-filed when they cascade. Scheduling and cancellation are O(1), and a tick
+ * only touches the slot that expires plus, every 64^n ticks, one slot of level n.
+ *
+ * <p>{@link #advance()} must always be called from the same thread, the owning world's thread. Tasks run on
+ * that thread. {@link #schedule(long, long, Runnable)} and {@link ScheduledTask#cancel()} may be called from
+ * any thread: calls from other threads are handed over through a lock-free queue, and cancelled tasks are
+ * unlinked lazily when their slot is reached.
+ */
+@Deprecated
+public final class TimerWheel {
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private static final int STATE_WAITING = 0;
+    private static final int STATE_DONE = 1;
+    private static final int STATE_CANCELLED = 2;
+
+    private final Task[][] wheel = new Task[LEVELS][SLOTS];
+    private final Queue<Task> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile Thread owner;
+    private long currentTick;
+
+    /**
+     * Schedules a task.
+     *
+     * @param delayTicks Ticks until the first run. Values below 1 run the task on the next tick.
+     * @param periodTicks Ticks between runs, or 0 for a one-shot task
+     * @param runnable The work to run on the owning world's thread
+     * @return A handle that can cancel the task
+     */
+    @Nonnull
+    public ScheduledTask schedule(long delayTicks, long periodTicks, @Nonnull Runnable runnable) {
+        var task = new Task(this, Math.max(1L, delayTicks), Math.max(0L, periodTicks), runnable);
+        size.incrementAndGet();
+        if (Thread.currentThread() == owner) {
+            task.deadline = currentTick + task.delay;
+            insert(task);
+        } else {
+            incoming.add(task);
+        }
+        return task;
+    }
+
+    /**
+     * @return The number of tasks that are scheduled and not yet done or cancelled.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return The number of ticks this wheel has been advanced.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs every task that expires on it.
+     *
+     * @return The number of tasks that ran
+     */
+    public int advance() {
+        owner = Thread.currentThread();
+
+        Task handedOver;
+        while ((handedOver = incoming.poll()) != null) {
+            if (handedOver.state.get() == STATE_WAITING) {
+                handedOver.deadline = currentTick + handedOver.delay;
+                insert(handedOver);
+            }
+        }
+
+        long tick = ++currentTick;
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            cascade(level, (int) ((tick >>> shift) & SLOT_MASK));
+        }
+
+        // Tasks are popped one at a time so that a running task may safely cancel others in the same slot.
+        // Re-filed periodic tasks always land in another slot or level.
+        int slot = (int) (tick & SLOT_MASK);
+        int ran = 0;
+        Task task;
+        while ((task = wheel[0][slot]) != null) {
+            unlink(task);
+            if (task.run()) {
+                ran++;
+                if (task.period > 0 && task.state.get() == STATE_WAITING) {
+                    task.deadline = tick + task.period;
+                    insert(task);
+                }
+            }
+        }
+        return ran;
+    }
+
+    private void cascade(int level, int slot) {
+        Task task;
+        while ((task = wheel[level][slot]) != null) {
+            unlink(task);
+            if (task.state.get() == STATE_WAITING) {
+                insert(task);
+            }
+        }
+    }
+
+    private void insert(Task task) {
+        // A deadline equal to the current tick only occurs while cascading, and lands in the slot about to expire.
+        int level = 0;
+        while (level < LEVELS - 1 && (task.deadline >>> (level * SLOT_BITS)) - (currentTick >>> (level * SLOT_BITS)) >= SLOTS) {
+            level++;
+        }
+        int shift = level * SLOT_BITS;
+        long slotIndex = task.deadline >>> shift;
+        long now = currentTick >>> shift;
+        if (slotIndex - now >= SLOTS) {
+            // Beyond the wheel's range: park in the furthest slot and re-file on cascade.
+            slotIndex = now + SLOTS - 1;
+        }
+
+        int slot = (int) (slotIndex & SLOT_MASK);
+        Task head = wheel[level][slot];
+        task.level = level;
+        task.slot = slot;
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        wheel[level][slot] = task;
+    }
+
+    private void unlink(Task task) {
+        if (task.level < 0) {
+            return;
+        }
+
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            wheel[task.level][task.slot] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.unlinked();
+    }
+
+    private static final class Task implements ScheduledTask {
+        private final TimerWheel wheel;
+        private final long delay;
+        private final long period;
+        private final Runnable runnable;
+        private final AtomicInteger state = new AtomicInteger(STATE_WAITING);
+
+        // Owned by the wheel's thread.
+        private long deadline;
+        private int level = -1;
+        private int slot;
+        private Task prev;
+        private Task next;
+
+        private Task(TimerWheel wheel, long delay, long period, Runnable runnable) {
+            this.wheel = wheel;
+            this.delay = delay;
+            this.period = period;
+            this.runnable = runnable;
+        }
+
+        private boolean run() {
+            if (state.get() != STATE_WAITING) {
+                return false;
+            }
+            if (period == 0 && !state.compareAndSet(STATE_WAITING, STATE_DONE)) {
+                return false;
+            }
+            if (period == 0) {
+                wheel.size.decrementAndGet();
+            }
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                BridgePlugin.logger().atSevere().withCause(e).log("Scheduled task failed");
+            }
+            return true;
+        }
+
+        private void unlinked() {
+            level = -1;
+            prev = null;
+            next = null;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_WAITING, STATE_CANCELLED)) {
+                return false;
+            }
+            wheel.size.decrementAndGet();
+            if (Thread.currentThread() == wheel.owner) {
+                wheel.unlink(this);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state.get() != STATE_WAITING;
+        }
+    }
+}
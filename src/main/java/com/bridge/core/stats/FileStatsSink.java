@@ -0,0 +1,187 @@
+package com.bridge.core.stats;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.StatDelta;
+import com.bridge.api.modules.StatsSink;
+import com.bridge.core.data.DataManager;
+import com.bridge.core.plugin.BridgePlugin;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The default {@link StatsSink}: keeps lifetime totals in {@code stats.json}.
+ *
+ * <p>A batch only appends its deltas, as one compact JSON line, to the log of the current generation, so a flush
+ * costs the size of what changed rather than of every total. Once the log outgrows {@link #COMPACT_BYTES}, it is
+ * folded into {@code stats.json}, which is rewritten atomically with the next generation number, and a new log is
+ * started. Logs of generations the totals already include are ignored and deleted, so a crash between the two
+ * steps never counts a batch twice.
+ *
+ * <p>Each line starts with a line break, so a line torn by a crash stays on its own and is skipped. A totals file
+ * that cannot be read is moved aside and the totals start again from zero, rather than failing every flush.
+ */
+@Deprecated
+final class FileStatsSink implements StatsSink {
+    private static final Gson gson = new Gson();
+    /** Log size above which it is folded into the totals. */
+    private static final long COMPACT_BYTES = 4L * 1024 * 1024;
+
+    /** The generation whose log new batches go to; -1 until the totals have been read. */
+    private long generation = -1L;
+
+    @Override
+    public void write(@Nonnull List<StatDelta> batch) throws IOException {
+        var totalsPath = DataManager.getStatsPath();
+        Files.createDirectories(totalsPath.getParent());
+        if (generation < 0) {
+            generation = readTotals(totalsPath).generation;
+        }
+
+        var deltas = new JsonArray(batch.size());
+        for (var delta : batch) {
+            var entry = new JsonArray(4);
+            entry.add(delta.getScope().name().toLowerCase());
+            entry.add(delta.getId());
+            entry.add(delta.getStat());
+            entry.add(delta.getDelta());
+            deltas.add(entry);
+        }
+        Path log = logPath(totalsPath, generation);
+        try (var channel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            var buffer = ByteBuffer.wrap(("\n" + gson.toJson(deltas)).getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        // The batch is stored once appended, so a failed compaction must not make it be sent again.
+        try {
+            if (Files.size(log) > COMPACT_BYTES) {
+                compact(totalsPath);
+            }
+        } catch (IOException e) {
+            BridgePlugin.logger().atWarning().withCause(e).log("Failed to compact " + log + ", retrying after the next batch");
+        }
+    }
+
+    /**
+     * Folds the current log into the totals and starts the next generation.
+     */
+    private void compact(@Nonnull Path totalsPath) throws IOException {
+        var totals = readTotals(totalsPath);
+        Path log = logPath(totalsPath, generation);
+        if (Files.exists(log)) {
+            int skipped = 0;
+            for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    for (var element : JsonParser.parseString(line).getAsJsonArray()) {
+                        var entry = element.getAsJsonArray();
+                        totals.values.computeIfAbsent(entry.get(0).getAsString(), ignored -> new TreeMap<>())
+                            .computeIfAbsent(entry.get(1).getAsString(), ignored -> new TreeMap<>())
+                            .merge(entry.get(2).getAsString(), entry.get(3).getAsLong(), Long::sum);
+                    }
+                } catch (JsonParseException | IllegalStateException | IndexOutOfBoundsException | UnsupportedOperationException e) {
+                    skipped++;
+                }
+            }
+            if (skipped > 0) {
+                BridgePlugin.logger().atWarning().log("Skipped " + skipped + " unreadable stat batches in " + log);
+            }
+        }
+
+        var json = new JsonObject();
+        json.addProperty("generation", generation + 1);
+        json.add("totals", gson.toJsonTree(totals.values));
+        var temp = totalsPath.resolveSibling(totalsPath.getFileName() + ".tmp");
+        Files.writeString(temp, gson.toJson(json));
+        try {
+            Files.move(temp, totalsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, totalsPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        generation++;
+        Files.deleteIfExists(log);
+    }
+
+    /**
+     * Reads the totals, deleting logs they already include. A file that cannot be parsed is moved aside.
+     */
+    @Nonnull
+    private static Totals readTotals(@Nonnull Path totalsPath) throws IOException {
+        var totals = new Totals();
+        if (Files.exists(totalsPath)) {
+            try {
+                var json = JsonParser.parseString(Files.readString(totalsPath)).getAsJsonObject();
+                // Files written before generations were added hold the totals at the top level.
+                var values = json.has("totals") ? json.get("totals") : json;
+                totals.generation = json.has("generation") ? json.get("generation").getAsLong() : 0L;
+                Map<String, Map<String, Map<String, Long>>> parsed =
+                    gson.fromJson(values, new TypeToken<TreeMap<String, Map<String, Map<String, Long>>>>() {}.getType());
+                if (parsed != null) {
+                    totals.values = parsed;
+                }
+            } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+                var aside = totalsPath.resolveSibling(totalsPath.getFileName() + ".corrupt-" + System.currentTimeMillis());
+                Files.move(totalsPath, aside, StandardCopyOption.REPLACE_EXISTING);
+                BridgePlugin.logger().atWarning().withCause(e).log("Stats file " + totalsPath + " is unreadable, moved it to "
+                    + aside + " and started new totals");
+                totals = new Totals();
+                // Keep appending to the newest log, so the batches it holds are folded in rather than lost.
+                totals.generation = newestLog(totalsPath);
+            }
+        }
+
+        for (long stale = totals.generation - 1; stale >= 0 && Files.deleteIfExists(logPath(totalsPath, stale)); stale--) {
+            // A crash after the totals were written left the folded log behind.
+        }
+        return totals;
+    }
+
+    private static long newestLog(@Nonnull Path totalsPath) throws IOException {
+        long newest = 0L;
+        try (var files = Files.list(totalsPath.getParent())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("stats-") && name.endsWith(".log")) {
+                    try {
+                        newest = Math.max(newest, Long.parseLong(name.substring(6, name.length() - 4)));
+                    } catch (NumberFormatException e) {
+                        // Not one of ours.
+                    }
+                }
+            }
+        }
+        return newest;
+    }
+
+    @Nonnull
+    private static Path logPath(@Nonnull Path totalsPath, long generation) {
+        return totalsPath.resolveSibling("stats-" + generation + ".log");
+    }
+
+    private static final class Totals {
+        private long generation;
+        /** Scope, then world name or player UUID, then stat name. */
+        private Map<String, Map<String, Map<String, Long>>> values = new TreeMap<>();
+    }
+}
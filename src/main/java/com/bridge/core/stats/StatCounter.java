@@ -0,0 +1,76 @@
+package com.bridge.core.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A striped counter, so world threads incrementing the same stat do not contend, with optional sliding windows
+ * for per-minute and per-hour rates.
+ *
+ * <p>Windows hold the running total once per second for the last minute and once per minute for the last hour,
+ * sampled by the stats thread; a rate is the current total minus the oldest total still in the window.
+ */
+@Deprecated
+final class StatCounter {
+    private static final int WINDOW = 60;
+
+    private final LongAdder adder = new LongAdder();
+    // Guarded by this; null if the counter has no windows.
+    private final long[] seconds;
+    private final long[] minutes;
+    // The counter starts with a sample of 0, so increments before the first real sample count towards the rates.
+    private long samples = 1;
+    // Only used by the stats thread: the total already persisted, and the total of the batch being written.
+    long flushed;
+    long flushing;
+
+    StatCounter(boolean windowed) {
+        seconds = windowed ? new long[WINDOW + 1] : null;
+        minutes = windowed ? new long[WINDOW + 1] : null;
+    }
+
+    void add(long amount) {
+        adder.add(amount);
+    }
+
+    long sum() {
+        return adder.sum();
+    }
+
+    /**
+     * Records the running total. Called once per second by the stats thread.
+     */
+    synchronized void sample() {
+        if (seconds == null) {
+            return;
+        }
+        long total = adder.sum();
+        seconds[(int) (samples % seconds.length)] = total;
+        if (samples % WINDOW == 0) {
+            minutes[(int) (samples / WINDOW % minutes.length)] = total;
+        }
+        samples++;
+    }
+
+    /**
+     * @return The increments over the last minute, or since the counter was created if that is more recent.
+     */
+    synchronized long perMinute() {
+        if (seconds == null) {
+            return 0;
+        }
+        long oldest = samples > WINDOW ? samples - WINDOW - 1 : 0;
+        return adder.sum() - seconds[(int) (oldest % seconds.length)];
+    }
+
+    /**
+     * @return The increments over the last hour, or since the counter was created if that is more recent.
+     */
+    synchronized long perHour() {
+        if (minutes == null) {
+            return 0;
+        }
+        long minuteSamples = (samples - 1) / WINDOW + 1;
+        long oldest = minuteSamples > WINDOW ? minuteSamples - WINDOW - 1 : 0;
+        return adder.sum() - minutes[(int) (oldest % minutes.length)];
+    }
+}
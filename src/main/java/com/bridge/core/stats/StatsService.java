@@ -0,0 +1,236 @@
+package com.bridge.core.stats;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.StatDelta;
+import com.bridge.api.modules.StatsSink;
+import com.bridge.core.plugin.BridgePlugin;
+
+/**
+ * Counts stats per world, per player and across all worlds.
+ *
+ * <p>An increment looks up three {@link StatCounter}s in concurrent maps and adds to their striped cells, so
+ * world threads never block each other. Reading a total sums the cells of one counter, whatever the number of
+ * worlds. A daemon thread samples the world and global windows every second and flushes everything that
+ * changed to the {@link StatsSink} every {@link #FLUSH_INTERVAL_SECONDS} seconds, as one batch. Player counters
+ * that did not change over a whole flush interval are dropped once flushed, so players who left do not stay in
+ * memory; their lifetime totals are in the sink.
+ */
+@Deprecated
+public final class StatsService {
+    private static final long FLUSH_INTERVAL_SECONDS = 30L;
+
+    private static final Map<BridgeWorld, Map<String, StatCounter>> worlds = new ConcurrentHashMap<>();
+    private static final Map<UUID, Map<String, StatCounter>> players = new ConcurrentHashMap<>();
+    private static final Map<String, StatCounter> global = new ConcurrentHashMap<>();
+    private static final Set<BridgeWorld> released = ConcurrentHashMap.newKeySet();
+    /** Players whose counters had nothing to flush at the last flush. Only used by the stats thread. */
+    private static final Set<UUID> idlePlayers = new HashSet<>();
+    private static volatile StatsSink sink = new FileStatsSink();
+    private static volatile ScheduledExecutorService executor;
+
+    public static void increment(@Nonnull BridgeWorld bWorld, @Nullable UUID playerUuid, @Nonnull String stat, long amount) {
+        var worldCounters = worlds.get(bWorld);
+        if (worldCounters == null) {
+            worldCounters = worlds.computeIfAbsent(bWorld, ignored -> new ConcurrentHashMap<>());
+        }
+        counter(worldCounters, stat, true).add(amount);
+        counter(global, stat, true).add(amount);
+        if (playerUuid != null) {
+            var playerCounters = players.get(playerUuid);
+            if (playerCounters == null) {
+                playerCounters = players.computeIfAbsent(playerUuid, ignored -> new ConcurrentHashMap<>());
+            }
+            counter(playerCounters, stat, false).add(amount);
+        }
+        if (executor == null) {
+            start();
+        }
+    }
+
+    public static long get(@Nonnull BridgeWorld bWorld, @Nonnull String stat) {
+        var counter = find(worlds.get(bWorld), stat);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    public static long get(@Nonnull UUID playerUuid, @Nonnull String stat) {
+        var counter = find(players.get(playerUuid), stat);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    public static long getTotal(@Nonnull String stat) {
+        var counter = global.get(stat);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    /**
+     * @param bWorld The world, or null for all worlds
+     */
+    public static long perMinute(@Nullable BridgeWorld bWorld, @Nonnull String stat) {
+        var counter = bWorld != null ? find(worlds.get(bWorld), stat) : global.get(stat);
+        return counter != null ? counter.perMinute() : 0L;
+    }
+
+    /**
+     * @param bWorld The world, or null for all worlds
+     */
+    public static long perHour(@Nullable BridgeWorld bWorld, @Nonnull String stat) {
+        var counter = bWorld != null ? find(worlds.get(bWorld), stat) : global.get(stat);
+        return counter != null ? counter.perHour() : 0L;
+    }
+
+    public static void setSink(@Nullable StatsSink newSink) {
+        sink = newSink != null ? newSink : new FileStatsSink();
+    }
+
+    /**
+     * Forgets a deleted world's counters once their last deltas have been flushed.
+     */
+    public static void release(@Nonnull BridgeWorld bWorld) {
+        if (worlds.containsKey(bWorld)) {
+            released.add(bWorld);
+        }
+    }
+
+    /**
+     * Flushes on the stats thread, after any flush already running.
+     *
+     * @return A future completed once the flush has run
+     */
+    @Nonnull
+    public static synchronized Future<?> flushAsync() {
+        if (executor == null) {
+            start();
+        }
+        return executor.submit(StatsService::flush);
+    }
+
+    private static synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        var started = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "Bridge-Stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        started.scheduleAtFixedRate(StatsService::sample, 1L, 1L, TimeUnit.SECONDS);
+        started.scheduleWithFixedDelay(StatsService::flush, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        executor = started;
+    }
+
+    private static void sample() {
+        for (var counters : worlds.values()) {
+            for (var counter : counters.values()) {
+                counter.sample();
+            }
+        }
+        for (var counter : global.values()) {
+            counter.sample();
+        }
+    }
+
+    /**
+     * Runs on the stats thread.
+     */
+    private static void flush() {
+        var batch = new ArrayList<StatDelta>();
+        var pending = new ArrayList<StatCounter>();
+        for (var world : worlds.entrySet()) {
+            collect(StatDelta.Scope.WORLD, world.getKey().bWorldName, world.getValue(), batch, pending);
+        }
+        for (var player : players.entrySet()) {
+            collect(StatDelta.Scope.PLAYER, player.getKey().toString(), player.getValue(), batch, pending);
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                sink.write(batch);
+            } catch (Exception e) {
+                BridgePlugin.logger().atWarning().withCause(e).log("Failed to flush " + batch.size() + " stats, retrying with the next flush");
+                return;
+            }
+            for (var counter : pending) {
+                counter.flushed = counter.flushing;
+            }
+        }
+
+        for (var bWorld : released) {
+            worlds.remove(bWorld);
+            released.remove(bWorld);
+        }
+        evictIdlePlayers();
+    }
+
+    /**
+     * Runs on the stats thread after a successful flush: drops the counters of players that were already fully
+     * flushed at the previous flush and have not changed since.
+     */
+    private static void evictIdlePlayers() {
+        for (var player : players.entrySet()) {
+            UUID uuid = player.getKey();
+            var counters = player.getValue();
+            if (!isFlushed(counters)) {
+                idlePlayers.remove(uuid);
+                continue;
+            }
+            if (idlePlayers.add(uuid) || !players.remove(uuid, counters)) {
+                continue;
+            }
+            idlePlayers.remove(uuid);
+            // An increment racing with the removal may have landed in the dropped counters; carry it over.
+            for (var stat : counters.entrySet()) {
+                long unflushed = stat.getValue().sum() - stat.getValue().flushed;
+                if (unflushed != 0) {
+                    counter(players.computeIfAbsent(uuid, ignored -> new ConcurrentHashMap<>()), stat.getKey(), false).add(unflushed);
+                }
+            }
+        }
+    }
+
+    private static boolean isFlushed(@Nonnull Map<String, StatCounter> counters) {
+        for (var counter : counters.values()) {
+            if (counter.sum() != counter.flushed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void collect(@Nonnull StatDelta.Scope scope, @Nonnull String id, @Nonnull Map<String, StatCounter> counters,
+        @Nonnull List<StatDelta> batch, @Nonnull List<StatCounter> pending) {
+
+        for (var stat : counters.entrySet()) {
+            var counter = stat.getValue();
+            long total = counter.sum();
+            if (total != counter.flushed) {
+                batch.add(new StatDelta(scope, id, stat.getKey(), total - counter.flushed));
+                counter.flushing = total;
+                pending.add(counter);
+            }
+        }
+    }
+
+    @Nonnull
+    private static StatCounter counter(@Nonnull Map<String, StatCounter> counters, @Nonnull String stat, boolean windowed) {
+        var counter = counters.get(stat);
+        return counter != null ? counter : counters.computeIfAbsent(stat, ignored -> new StatCounter(windowed));
+    }
+
+    @Nullable
+    private static StatCounter find(@Nullable Map<String, StatCounter> counters, @Nonnull String stat) {
+        return counters != null ? counters.get(stat) : null;
+    }
+}
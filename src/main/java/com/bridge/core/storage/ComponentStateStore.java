@@ -0,0 +1,248 @@
+package com.bridge.core.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.core.data.DataManager;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.plugin.BridgePlugin;
+
+/**
+ * Persists component state through {@link com.bridge.api.modules.ComponentStateCodec}s.
+ *
+ * <p>A state file holds: int magic, int codec version, UTF component class name, int payload length, payload,
+ * int CRC32 of the payload. Saving encodes into memory on the calling thread and hands the bytes to a write
+ * chain per world, so writes of one world never overtake each other; each write goes to a temporary file that
+ * is forced to disk and moved over the previous one. Writes never create the world folder, and writes still
+ * queued when the world is released are dropped, so a deleted world is not brought back.
+ *
+ * <p>Restoring reads the file in the background when the world is activated; activation completes once the
+ * read has. The state is decoded the first time {@link #ensureRestored(BridgeWorld)} runs on the world thread
+ * after that, which never waits for the disk.
+ */
+@Deprecated
+public final class ComponentStateStore {
+    public static final String FILE_NAME = "bridge-component.state";
+    private static final int MAGIC = 0x42435331;
+
+    private static final Map<BridgeWorld, CompletableFuture<byte[]>> restores = new ConcurrentHashMap<>();
+    private static final Map<BridgeWorld, WriteChain> writes = new ConcurrentHashMap<>();
+
+    @Nonnull
+    public static Path stateFile(@Nonnull Path worldFolder) {
+        return worldFolder.resolve(FILE_NAME);
+    }
+
+    /**
+     * Starts reading the world's saved state in the background, to be decoded by {@link #ensureRestored(BridgeWorld)}.
+     *
+     * @return A future completed once the file has been read, or has failed to be; never completed exceptionally
+     */
+    @Nonnull
+    public static CompletableFuture<Void> prepareRestore(@Nonnull BridgeWorld bWorld) {
+        if (bWorld.getBridgeWorldComponent().getStateCodec() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Path file = stateFile(folderOf(bWorld));
+        // Wait for a pending save of this world, so the restore never reads an older state.
+        var chain = writes.get(bWorld);
+        var pendingWrite = chain != null ? chain.tail() : CompletableFuture.<Void>completedFuture(null);
+        var read = pendingWrite.exceptionally(ignored -> null).thenApplyAsync(ignored -> {
+            try {
+                return Files.exists(file) ? Files.readAllBytes(file) : null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        restores.put(bWorld, read);
+        return read.handle((bytes, throwable) -> null);
+    }
+
+    /**
+     * Decodes the world's saved state into its component if a restore has been read. Must run on the world thread
+     * before any component callback; after the first call it only costs a map lookup. Never waits for the disk.
+     *
+     * @return false while the saved state is still being read, so the component does not hold it yet
+     */
+    public static boolean ensureRestored(@Nonnull BridgeWorld bWorld) {
+        if (restores.isEmpty()) {
+            return true;
+        }
+        var pending = restores.get(bWorld);
+        if (pending == null) {
+            return true;
+        }
+        if (!pending.isDone()) {
+            return false;
+        }
+        if (!restores.remove(bWorld, pending)) {
+            return true;
+        }
+
+        var codec = bWorld.getBridgeWorldComponent().getStateCodec();
+        try {
+            byte[] bytes = pending.join();
+            if (codec == null || bytes == null) {
+                return true;
+            }
+
+            var in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a component state file");
+            }
+            int version = in.readInt();
+            String className = in.readUTF();
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            var crc = new CRC32();
+            crc.update(payload);
+            if (in.readInt() != (int) crc.getValue()) {
+                throw new IOException("Component state checksum mismatch");
+            }
+
+            var componentClass = bWorld.getBridgeWorldComponent().getClass().getName();
+            if (!componentClass.equals(className)) {
+                BridgePlugin.logger().atWarning().log("Not restoring state of " + className + " into " + componentClass
+                    + " in world " + bWorld.bWorldName);
+                return true;
+            }
+            if (version > codec.getVersion()) {
+                BridgePlugin.logger().atWarning().log("Not restoring state version " + version + " of world " + bWorld.bWorldName
+                    + " with codec version " + codec.getVersion());
+                return true;
+            }
+            codec.read(bWorld, version, new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (Exception e) {
+            BridgePlugin.logger().atSevere().withCause(e).log("Failed to restore component state of world " + bWorld.bWorldName);
+            EventJournal.recordError(bWorld, e);
+        }
+        return true;
+    }
+
+    /**
+     * Encodes the world's component state on the calling thread and writes it in the background.
+     *
+     * @return A future completed once the state is on disk; already completed if the component has no codec
+     */
+    @Nonnull
+    public static CompletableFuture<Void> save(@Nonnull BridgeWorld bWorld) {
+        var codec = bWorld.getBridgeWorldComponent().getStateCodec();
+        if (codec == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // A state that was never restored must not be overwritten with a fresh component's. While it is still
+        // being read, the file on disk is already the latest state.
+        if (!ensureRestored(bWorld)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        byte[] bytes;
+        try {
+            var payload = new ByteArrayOutputStream();
+            codec.write(bWorld, new DataOutputStream(payload));
+            var crc = new CRC32();
+            crc.update(payload.toByteArray());
+
+            var buffer = new ByteArrayOutputStream(payload.size() + 64);
+            var out = new DataOutputStream(buffer);
+            out.writeInt(MAGIC);
+            out.writeInt(codec.getVersion());
+            out.writeUTF(bWorld.getBridgeWorldComponent().getClass().getName());
+            out.writeInt(payload.size());
+            payload.writeTo(out);
+            out.writeInt((int) crc.getValue());
+            bytes = buffer.toByteArray();
+        } catch (Exception e) {
+            BridgePlugin.logger().atSevere().withCause(e).log("Failed to encode component state of world " + bWorld.bWorldName);
+            EventJournal.recordError(bWorld, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Path file = stateFile(folderOf(bWorld));
+        return writes.computeIfAbsent(bWorld, ignored -> new WriteChain())
+            .append(() -> write(bWorld, file, bytes));
+    }
+
+    /**
+     * Forgets the world's pending restore and drops its queued writes, then waits for a write already in progress.
+     * Must be called before the world folder is deleted.
+     */
+    public static void release(@Nonnull BridgeWorld bWorld) {
+        restores.remove(bWorld);
+        var chain = writes.remove(bWorld);
+        if (chain != null) {
+            chain.cancelled = true;
+            chain.tail().handle((ignored, throwable) -> null).join();
+        }
+    }
+
+    private static void write(@Nonnull BridgeWorld bWorld, @Nonnull Path file, @Nonnull byte[] bytes) {
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+                var buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            BridgePlugin.logger().atSevere().withCause(e).log("Failed to write component state of world " + bWorld.bWorldName);
+            EventJournal.recordError(bWorld, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The writes of one world, run one after another.
+     */
+    private static final class WriteChain {
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        /** Set once the world is released; writes that have not started yet are then skipped. */
+        private volatile boolean cancelled;
+
+        @Nonnull
+        private synchronized CompletableFuture<Void> tail() {
+            return tail;
+        }
+
+        @Nonnull
+        private synchronized CompletableFuture<Void> append(@Nonnull Runnable write) {
+            tail = tail.exceptionally(ignored -> null).thenRunAsync(() -> {
+                if (!cancelled) {
+                    write.run();
+                }
+            });
+            return tail;
+        }
+    }
+
+    @Nonnull
+    private static Path folderOf(@Nonnull BridgeWorld bWorld) {
+        var world = bWorld.getWorld();
+        Path savePath = world != null ? world.getSavePath() : null;
+        return savePath != null ? savePath : DataManager.getWorldsPath(bWorld.bWorldName);
+    }
+}
@@ -0,0 +1,529 @@
+package com.bridge.core.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nonnull;
+
+/**
+ * Reads and writes Bridge world archives: a whole world folder in one file.
+ *
+ * <p>Layout, all numbers big-endian:
+ * <pre>
+ * header   int magic "BWA1", int version
+ * chunks   zlib-compressed slices of at most {@link #CHUNK_SIZE} bytes of one file each, back to back;
+ *          a chunk whose stored length equals its raw length was not compressible and is stored as is
+ * index    str sourceName, str template, int entryCount,
+ *          entryCount x (str path, int chunkCount, chunkCount x (long offset, int storedLength, int rawLength))
+ * footer   long indexOffset, int indexLength, int indexCrc32, int magic
+ * </pre>
+ * Strings are an unsigned short length followed by UTF-8 bytes. Paths are relative and use {@code /}.
+ *
+ * <p>Chunks are compressed and decompressed in parallel on a pool of daemon threads of Bridge's own, with one
+ * thread per core, so their blocking file I/O never occupies the common pool. The index is memory-mapped on open,
+ * so a single file can be extracted by reading only its own chunks.
+ */
+@Deprecated
+public final class WorldArchiveFormat {
+    public static final int CHUNK_SIZE = 1 << 20;
+    private static final int MAGIC = 0x42574131;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FOOTER_SIZE = 20;
+    /** Chunks compressed ahead of the writer; bounds the memory an export holds. */
+    private static final int WRITE_WINDOW = Runtime.getRuntime().availableProcessors() * 2;
+    private static final ExecutorService workers = newWorkers(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Writes every file under {@code sourceFolder} into a new archive, replacing {@code archiveFile} atomically.
+     */
+    @Nonnull
+    public static Index write(@Nonnull Path sourceFolder, @Nonnull Path archiveFile, @Nonnull String sourceName,
+        @Nonnull String template) throws IOException {
+
+        List<Path> files = new ArrayList<>();
+        try (var paths = Files.walk(sourceFolder)) {
+            paths.filter(Files::isRegularFile).sorted().forEach(files::add);
+        }
+
+        if (archiveFile.getParent() != null) {
+            Files.createDirectories(archiveFile.getParent());
+        }
+        Path temp = archiveFile.resolveSibling(archiveFile.getFileName() + ".tmp");
+        try (var out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(out, ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip());
+
+            var entries = new LinkedHashMap<String, Entry>();
+            var window = new ArrayDeque<PendingChunk>();
+            long position = HEADER_SIZE;
+            for (Path file : files) {
+                String name = sourceFolder.relativize(file).toString().replace('\\', '/');
+                var entry = new Entry(name);
+                entries.put(name, entry);
+
+                try (var in = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long offset = 0;
+                    while (true) {
+                        var raw = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, Math.max(0L, in.size() - offset)));
+                        while (raw.hasRemaining() && in.read(raw, offset + raw.position()) > 0) {
+                            // Read until the chunk is full or the file ends.
+                        }
+                        if (raw.position() == 0) {
+                            break;
+                        }
+                        offset += raw.position();
+                        byte[] bytes = raw.position() == raw.capacity() ? raw.array() : Arrays.copyOf(raw.array(), raw.position());
+                        var compressed = CompletableFuture.supplyAsync(() -> compress(bytes), workers);
+                        window.add(new PendingChunk(entry, bytes.length, compressed));
+                        while (window.size() >= WRITE_WINDOW) {
+                            position = writeChunk(out, window.poll(), position);
+                        }
+                    }
+                }
+            }
+            while (!window.isEmpty()) {
+                position = writeChunk(out, window.poll(), position);
+            }
+
+            var index = new Index(sourceName, template, entries);
+            ByteBuffer encoded = index.encode();
+            var crc = new CRC32();
+            crc.update(encoded.duplicate());
+            int indexLength = encoded.remaining();
+            writeFully(out, encoded);
+            writeFully(out, ByteBuffer.allocate(FOOTER_SIZE).putLong(position).putInt(indexLength).putInt((int) crc.getValue())
+                .putInt(MAGIC).flip());
+            out.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        try {
+            Files.move(temp, archiveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, archiveFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return open(archiveFile);
+    }
+
+    /**
+     * Maps and parses the index of an archive. No chunk data is read.
+     */
+    @Nonnull
+    public static Index open(@Nonnull Path archiveFile) throws IOException {
+        try (var channel = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + FOOTER_SIZE) {
+                throw new IOException(archiveFile + " is not a Bridge world archive");
+            }
+            var footer = ByteBuffer.allocate(FOOTER_SIZE);
+            readFully(channel, footer, size - FOOTER_SIZE);
+            footer.flip();
+            long indexOffset = footer.getLong();
+            int indexLength = footer.getInt();
+            int indexCrc = footer.getInt();
+            if (footer.getInt() != MAGIC || indexOffset < HEADER_SIZE || indexOffset + indexLength > size - FOOTER_SIZE) {
+                throw new IOException(archiveFile + " is not a Bridge world archive");
+            }
+
+            var mapped = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, indexLength);
+            var crc = new CRC32();
+            crc.update(mapped.duplicate());
+            if ((int) crc.getValue() != indexCrc) {
+                throw new IOException("Index of " + archiveFile + " is corrupt");
+            }
+            return Index.decode(mapped.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    /**
+     * Extracts one file of the archive, decompressing its chunks in parallel.
+     *
+     * @return The number of bytes written
+     */
+    public static long extract(@Nonnull Path archiveFile, @Nonnull Index index, @Nonnull String name, @Nonnull Path destination)
+        throws IOException {
+
+        var entry = index.entries.get(name);
+        if (entry == null) {
+            throw new IOException("No file " + name + " in " + archiveFile);
+        }
+        var tasks = new ArrayList<CompletableFuture<Void>>();
+        try (var in = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            prepare(entry, destination);
+            submit(in, entry, destination, tasks);
+            join(tasks);
+        } catch (IOException | RuntimeException e) {
+            settle(tasks);
+            Files.deleteIfExists(destination);
+            throw e;
+        }
+        return entry.size;
+    }
+
+    /**
+     * Extracts every file of the archive into {@code folder}, decompressing all chunks in parallel. On failure
+     * nothing is left behind: the folder is deleted if this call created it, and the files written so far otherwise.
+     *
+     * @return The number of bytes written
+     */
+    public static long extractAll(@Nonnull Path archiveFile, @Nonnull Index index, @Nonnull Path folder) throws IOException {
+        boolean created = Files.notExists(folder);
+        Files.createDirectories(folder);
+        long bytes = 0L;
+        var tasks = new ArrayList<CompletableFuture<Void>>();
+        var written = new ArrayList<Path>();
+        try (var in = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+            for (var entry : index.entries.values()) {
+                Path destination = folder.resolve(entry.name).normalize();
+                if (!destination.startsWith(folder.normalize())) {
+                    throw new IOException("Archive entry " + entry.name + " points outside " + folder);
+                }
+                written.add(destination);
+                prepare(entry, destination);
+                submit(in, entry, destination, tasks);
+                bytes += entry.size;
+            }
+            join(tasks);
+        } catch (IOException | RuntimeException e) {
+            // Chunks still being written would recreate what is deleted.
+            settle(tasks);
+            try {
+                if (created) {
+                    try (var paths = Files.walk(folder)) {
+                        for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                            Files.deleteIfExists(path);
+                        }
+                    }
+                } else {
+                    for (Path path : written) {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            } catch (IOException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+        return bytes;
+    }
+
+    private static void prepare(@Nonnull Entry entry, @Nonnull Path destination) throws IOException {
+        if (destination.getParent() != null) {
+            Files.createDirectories(destination.getParent());
+        }
+        // Created empty up front so zero-length files exist and chunks can be written at any offset.
+        Files.write(destination, new byte[0]);
+    }
+
+    private static void submit(@Nonnull FileChannel in, @Nonnull Entry entry, @Nonnull Path destination,
+        @Nonnull List<CompletableFuture<Void>> tasks) {
+
+        for (int i = 0; i < entry.count; i++) {
+            long offset = entry.offsets[i];
+            int storedLength = entry.storedLengths[i];
+            int rawLength = entry.rawLengths[i];
+            long rawOffset = entry.rawOffsets[i];
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    var stored = ByteBuffer.allocate(storedLength);
+                    readFully(in, stored, offset);
+                    byte[] raw = storedLength == rawLength ? stored.array() : decompress(stored.array(), rawLength);
+                    try (var out = FileChannel.open(destination, StandardOpenOption.WRITE)) {
+                        var buffer = ByteBuffer.wrap(raw);
+                        long position = rawOffset;
+                        while (buffer.hasRemaining()) {
+                            position += out.write(buffer, position);
+                        }
+                    }
+                } catch (IOException | DataFormatException e) {
+                    throw new CompletionException(new IOException("Failed to extract " + entry.name, e));
+                }
+            }, workers));
+        }
+    }
+
+    private static void join(@Nonnull List<CompletableFuture<Void>> tasks) throws IOException {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for every task to finish, successfully or not.
+     */
+    private static void settle(@Nonnull List<CompletableFuture<Void>> tasks) {
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).handle((ignored, throwable) -> null).join();
+    }
+
+    @Nonnull
+    private static ExecutorService newWorkers(int threads) {
+        var counter = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            var thread = new Thread(runnable, "Bridge-Archive-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Archives are written and extracted rarely, so idle threads go away.
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static long writeChunk(@Nonnull FileChannel out, @Nonnull PendingChunk chunk, long position) throws IOException {
+        byte[] stored;
+        try {
+            stored = chunk.compressed.join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to compress " + chunk.entry.name, e.getCause());
+        }
+        writeFully(out, ByteBuffer.wrap(stored));
+        chunk.entry.add(position, stored.length, chunk.rawLength);
+        return position + stored.length;
+    }
+
+    /**
+     * @return The compressed bytes, or {@code raw} itself if compression would not make it smaller
+     */
+    @Nonnull
+    private static byte[] compress(@Nonnull byte[] raw) {
+        var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] out = new byte[raw.length];
+            int length = 0;
+            while (!deflater.finished() && length < out.length) {
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            // Equal lengths mean "stored" to the reader, so compression has to win by at least one byte.
+            return deflater.finished() && length < raw.length ? Arrays.copyOf(out, length) : raw;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Nonnull
+    private static byte[] decompress(@Nonnull byte[] stored, int rawLength) throws DataFormatException {
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (!inflater.finished() && length < rawLength) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != rawLength || !inflater.finished()) {
+                throw new DataFormatException("Chunk decompressed to " + length + " bytes, expected " + rawLength);
+            }
+            return raw;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeFully(@Nonnull FileChannel channel, @Nonnull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(@Nonnull FileChannel channel, @Nonnull ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of archive");
+            }
+        }
+    }
+
+    private static final class PendingChunk {
+        private final Entry entry;
+        private final int rawLength;
+        private final CompletableFuture<byte[]> compressed;
+
+        private PendingChunk(Entry entry, int rawLength, CompletableFuture<byte[]> compressed) {
+            this.entry = entry;
+            this.rawLength = rawLength;
+            this.compressed = compressed;
+        }
+    }
+
+    /**
+     * Parsed archive index: the files in an archive and where their chunks are.
+     */
+    public static final class Index {
+        private final String sourceName;
+        private final String template;
+        private final Map<String, Entry> entries;
+
+        private Index(String sourceName, String template, Map<String, Entry> entries) {
+            this.sourceName = sourceName;
+            this.template = template;
+            this.entries = entries;
+        }
+
+        @Nonnull
+        public String getSourceName() {
+            return sourceName;
+        }
+
+        @Nonnull
+        public String getTemplate() {
+            return template;
+        }
+
+        @Nonnull
+        public List<String> getNames() {
+            return Collections.unmodifiableList(new ArrayList<>(entries.keySet()));
+        }
+
+        public long getBytes() {
+            long bytes = 0L;
+            for (var entry : entries.values()) {
+                bytes += entry.size;
+            }
+            return bytes;
+        }
+
+        public long getStoredBytes() {
+            long bytes = 0L;
+            for (var entry : entries.values()) {
+                for (int i = 0; i < entry.count; i++) {
+                    bytes += entry.storedLengths[i];
+                }
+            }
+            return bytes;
+        }
+
+        public int getFiles() {
+            return entries.size();
+        }
+
+        @Nonnull
+        private ByteBuffer encode() {
+            var strings = new ArrayList<byte[]>();
+            int length = 4;
+            for (String value : List.of(sourceName, template)) {
+                byte[] bytes = utf8(value);
+                strings.add(bytes);
+                length += 2 + bytes.length;
+            }
+            for (var entry : entries.values()) {
+                byte[] bytes = utf8(entry.name);
+                strings.add(bytes);
+                length += 2 + bytes.length + 4 + entry.count * 16;
+            }
+
+            var buffer = ByteBuffer.allocate(length);
+            buffer.putShort((short) strings.get(0).length).put(strings.get(0));
+            buffer.putShort((short) strings.get(1).length).put(strings.get(1));
+            buffer.putInt(entries.size());
+            int i = 2;
+            for (var entry : entries.values()) {
+                byte[] name = strings.get(i++);
+                buffer.putShort((short) name.length).put(name);
+                buffer.putInt(entry.count);
+                for (int chunk = 0; chunk < entry.count; chunk++) {
+                    buffer.putLong(entry.offsets[chunk]).putInt(entry.storedLengths[chunk]).putInt(entry.rawLengths[chunk]);
+                }
+            }
+            return buffer.flip();
+        }
+
+        @Nonnull
+        private static Index decode(@Nonnull ByteBuffer buffer) {
+            String sourceName = readString(buffer);
+            String template = readString(buffer);
+            int count = buffer.getInt();
+            var entries = new LinkedHashMap<String, Entry>(count * 2);
+            for (int i = 0; i < count; i++) {
+                var entry = new Entry(readString(buffer));
+                int chunks = buffer.getInt();
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    entry.add(buffer.getLong(), buffer.getInt(), buffer.getInt());
+                }
+                entries.put(entry.name, entry);
+            }
+            return new Index(sourceName, template, entries);
+        }
+
+        private static byte[] utf8(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new IllegalArgumentException("Name too long for archive: " + value);
+            }
+            return bytes;
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Entry {
+        private final String name;
+        private long size;
+        private int count;
+        private long[] offsets = new long[1];
+        private int[] storedLengths = new int[1];
+        private int[] rawLengths = new int[1];
+        private long[] rawOffsets = new long[1];
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        private void add(long offset, int storedLength, int rawLength) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                storedLengths = Arrays.copyOf(storedLengths, count * 2);
+                rawLengths = Arrays.copyOf(rawLengths, count * 2);
+                rawOffsets = Arrays.copyOf(rawOffsets, count * 2);
+            }
+            offsets[count] = offset;
+            storedLengths[count] = storedLength;
+            rawLengths[count] = rawLength;
+            rawOffsets[count] = size;
+            size += rawLength;
+            count++;
+        }
+    }
+}
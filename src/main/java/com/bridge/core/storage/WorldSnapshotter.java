@@ -0,0 +1,324 @@
+package com.bridge.core.storage;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.WorldSnapshot;
+import com.bridge.core.data.DataManager;
+import com.bridge.core.plugin.BridgePlugin;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.WorldConfig;
+
+/**
+ * Takes consistent copies of running worlds.
+ *
+ * <p>The world thread is only held long enough to start a flush of pending saves and switch saving off. Only
+ * a flush that returns a future is started, and it is waited for on a background thread, so the pause is bounded
+ * by the server starting that save and the flags being switched, never by disk I/O. Without such a flush the copy
+ * holds the world as last saved. The files are then copied on a background thread while the world keeps ticking
+ * with its changes held in memory, and saving is switched back on once the copy is complete, whether or not the
+ * world is still running. Writes that were already in flight when saving stopped are caught by comparing every
+ * file's size and modification time with the values seen just before it was copied, and copying the files that
+ * changed again until the set is stable.
+ *
+ * <p>If the server exposes none of the saving flags, saving cannot be paused and the copy could mix region files
+ * from different moments, so the snapshot fails instead.
+ *
+ * <p>Hardlinking is not used: region files are rewritten in place, so a link would keep changing with the world.
+ */
+@Deprecated
+public final class WorldSnapshotter {
+    /** Passes over the file set after the first copy before giving up on files that keep changing. */
+    private static final int MAX_RECOPY_PASSES = 3;
+    /** WorldConfig flags that are switched off while copying, where the server has them. */
+    private static final String[] SAVE_FLAGS = { "canSaveChunks", "isSavingChunks", "isSavingPlayers" };
+    /**
+     * No-argument World methods tried, in order, to start writing out pending changes before saving is paused.
+     * Only one returning a {@link CompletableFuture} is used; a synchronous save would hold the world thread.
+     */
+    private static final String[] FLUSH_METHODS = { "saveAllChunks", "saveAll", "save" };
+    /** How long the copy waits for a flush that completes asynchronously. */
+    private static final long FLUSH_TIMEOUT_SECONDS = 30L;
+
+    private static final Map<BridgeWorld, CompletableFuture<WorldSnapshot>> running = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a snapshot of the world. If one is already being taken, its future is returned instead.
+     */
+    @Nonnull
+    public static CompletableFuture<WorldSnapshot> snapshot(@Nonnull BridgeWorld bWorld) {
+        var future = new CompletableFuture<WorldSnapshot>();
+        var existing = running.putIfAbsent(bWorld, future);
+        if (existing != null) {
+            return existing;
+        }
+        future.whenComplete((snapshot, throwable) -> running.remove(bWorld, future));
+
+        var world = bWorld.getWorld();
+        if (world == null) {
+            future.completeExceptionally(new IllegalStateException("World " + bWorld.bWorldName + " is not loaded"));
+            return future;
+        }
+
+        world.execute(() -> {
+            long pauseStart = System.nanoTime();
+            CompletableFuture<?> flushed;
+            var gate = new SaveGate(world.getWorldConfig());
+            try {
+                flushed = flush(world);
+                gate.close();
+            } catch (Exception e) {
+                // Flags switched off before the failure would otherwise keep the world from ever saving again.
+                gate.open();
+                future.completeExceptionally(e);
+                return;
+            }
+            if (gate.isEmpty()) {
+                future.completeExceptionally(new IllegalStateException("Saving of world " + bWorld.bWorldName
+                    + " cannot be paused on this server version, a live copy would not be consistent"));
+                return;
+            }
+            long pauseNanos = System.nanoTime() - pauseStart;
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    flushed.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    future.complete(capture(bWorld, world, pauseNanos));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    // Not handed to the world thread: if the world stopped meanwhile, that task would never run.
+                    gate.open();
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Deletes a folder and everything in it. Does nothing if it does not exist.
+     */
+    public static void deleteDirectory(@Nonnull Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (var paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Nonnull
+    private static WorldSnapshot capture(@Nonnull BridgeWorld bWorld, @Nonnull World world, long pauseNanos) throws IOException {
+        Path source = world.getSavePath();
+        long createdAt = System.currentTimeMillis();
+        Path target = DataManager.getSnapshotsPath(bWorld.bWorldName).resolve(Long.toString(createdAt));
+
+        try {
+            // Maps each source file to its state just before it was last copied.
+            Map<Path, FileState> copied = new HashMap<>();
+            try (var paths = Files.walk(source)) {
+                for (Path file : (Iterable<Path>) paths::iterator) {
+                    Path destination = target.resolve(source.relativize(file));
+                    if (Files.isDirectory(file)) {
+                        Files.createDirectories(destination);
+                    } else {
+                        var state = copy(file, destination);
+                        if (state != null) {
+                            copied.put(file, state);
+                        }
+                    }
+                }
+            }
+
+            int recopied = 0;
+            for (int pass = 0; ; pass++) {
+                List<Path> changed = new ArrayList<>();
+                for (var entry : copied.entrySet()) {
+                    if (!entry.getValue().equals(FileState.of(entry.getKey()))) {
+                        changed.add(entry.getKey());
+                    }
+                }
+                if (changed.isEmpty()) {
+                    break;
+                }
+                if (pass == MAX_RECOPY_PASSES) {
+                    throw new IOException(changed.size() + " files in " + source + " kept changing while saving was paused");
+                }
+                for (Path file : changed) {
+                    Path destination = target.resolve(source.relativize(file));
+                    var state = copy(file, destination);
+                    if (state != null) {
+                        copied.put(file, state);
+                    } else {
+                        copied.remove(file);
+                        Files.deleteIfExists(destination);
+                    }
+                    recopied++;
+                }
+            }
+
+            long bytes = 0L;
+            for (var state : copied.values()) {
+                bytes += state.size;
+            }
+            var uuid = world.getWorldConfig() != null ? world.getWorldConfig().getUuid() : null;
+            return new WorldSnapshot(bWorld.bWorldName, uuid, bWorld.getTemplate(), target, createdAt, copied.size(), bytes,
+                recopied, pauseNanos);
+        } catch (IOException | RuntimeException e) {
+            try {
+                deleteDirectory(target);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Copies a file and returns its state from just before the copy, or null if it no longer exists.
+     */
+    @Nullable
+    private static FileState copy(@Nonnull Path file, @Nonnull Path destination) throws IOException {
+        var state = FileState.of(file);
+        if (state == null) {
+            return null;
+        }
+        try {
+            Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return state;
+    }
+
+    /**
+     * Starts writing out pending changes and returns a future completed once they are on disk, or a completed
+     * future if the server has no asynchronous flush.
+     */
+    @Nonnull
+    private static CompletableFuture<?> flush(@Nonnull World world) {
+        for (String name : FLUSH_METHODS) {
+            try {
+                var method = world.getClass().getMethod(name);
+                if (!CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+                    continue;
+                }
+                var result = method.invoke(world);
+                return result instanceof CompletableFuture<?> pending ? pending : CompletableFuture.completedFuture(null);
+            } catch (NoSuchMethodException e) {
+                // Try the next name.
+            } catch (ReflectiveOperationException e) {
+                BridgePlugin.logger().atWarning().withCause(e).log("Failed to flush world " + world.getName() + " before snapshot");
+                break;
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static final class FileState {
+        private final long size;
+        private final long modifiedMillis;
+
+        private FileState(long size, long modifiedMillis) {
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+        }
+
+        @Nullable
+        private static FileState of(@Nonnull Path file) throws IOException {
+            try {
+                var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof FileState state && state.size == size && state.modifiedMillis == modifiedMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(modifiedMillis);
+        }
+    }
+
+    /**
+     * Saving flags of one world that were switched off, and their previous values.
+     */
+    private static final class SaveGate {
+        private final WorldConfig config;
+        private final List<Field> fields = new ArrayList<>();
+        private final List<Boolean> previous = new ArrayList<>();
+        private final AtomicBoolean opened = new AtomicBoolean();
+
+        private SaveGate(@Nonnull WorldConfig config) {
+            this.config = config;
+        }
+
+        /**
+         * Switches the flags off. If this throws, the flags switched off so far are recorded, so
+         * {@link #open()} still restores them.
+         */
+        private void close() throws IllegalAccessException {
+            for (String name : SAVE_FLAGS) {
+                try {
+                    Field field = WorldConfig.class.getDeclaredField(name);
+                    if (field.getType() != boolean.class) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    boolean value = field.getBoolean(config);
+                    field.setBoolean(config, false);
+                    fields.add(field);
+                    previous.add(value);
+                } catch (NoSuchFieldException e) {
+                    // Not present in this server version.
+                }
+            }
+        }
+
+        /**
+         * @return true if no flag was found, so saving was never paused
+         */
+        private boolean isEmpty() {
+            return fields.isEmpty();
+        }
+
+        /**
+         * Restores the flags. Only the first call has an effect, so it is safe from any thread.
+         */
+        private void open() {
+            if (!opened.compareAndSet(false, true)) {
+                return;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                try {
+                    fields.get(i).setBoolean(config, previous.get(i));
+                } catch (IllegalAccessException e) {
+                    BridgePlugin.logger().atSevere().withCause(e).log("Failed to resume saving after snapshot");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.bridge.core.systems;
+
+import com.bridge.api.modules.BuildAction;
+import com.bridge.core.regions.BuildRules;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.event.events.ecs.DamageBlockEvent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Cancels block damage where the build regions of the player's world deny breaking, so protected blocks cannot be mined down.
+ */
+@Deprecated
+public final class BlockDamageRuleSystem extends EntityEventSystem<EntityStore, DamageBlockEvent> {
+
+    public BlockDamageRuleSystem() {
+        super(DamageBlockEvent.class);
+    }
+
+    @Override
+    public final Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public final void handle(int index, ArchetypeChunk<EntityStore> chunk, Store<EntityStore> store, CommandBuffer<EntityStore> cmd,
+        DamageBlockEvent event) {
+
+        if (!event.isCancelled() && !BuildRules.isAllowed(index, chunk, store, BuildAction.BREAK, event.getTargetBlock())) {
+            event.setCancelled(true);
+        }
+    }
+}
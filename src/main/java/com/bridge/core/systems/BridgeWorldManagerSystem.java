@@ -9,24 +9,67 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import com.bridge.api.modules.ActivationReport;
+import com.bridge.api.modules.ActivationWarmup;
+import com.bridge.api.modules.BridgeChannel;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeMessageHandler;
 import com.bridge.api.modules.BridgeWorld;
 import com.bridge.api.modules.BridgeWorldComponent;
+import com.bridge.api.modules.ComponentTickReport;
+import com.bridge.api.modules.DrainResult;
+import com.bridge.api.modules.HibernationReport;
+import com.bridge.api.modules.RotationReport;
+import com.bridge.api.modules.ScheduledTask;
+import com.bridge.api.modules.TickBudgetPolicy;
+import com.bridge.api.modules.WorldArchive;
+import com.bridge.api.modules.WorldSnapshot;
 import com.bridge.core.data.DataManager;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.diagnostics.WorldAccounting;
+import com.bridge.core.diagnostics.jfr.ComponentCallbackEvent;
+import com.bridge.core.diagnostics.jfr.PlayerTransferEvent;
+import com.bridge.core.diagnostics.jfr.WorldActivateEvent;
+import com.bridge.core.diagnostics.jfr.WorldCopyEvent;
+import com.bridge.core.diagnostics.jfr.WorldCreateEvent;
+import com.bridge.core.diagnostics.jfr.WorldDeactivateEvent;
+import com.bridge.core.diagnostics.jfr.WorldDeleteEvent;
+import com.bridge.core.diagnostics.jfr.WorldExportEvent;
+import com.bridge.core.diagnostics.jfr.WorldSnapshotEvent;
 import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.factory.WorldIndex;
+import com.bridge.core.messaging.WorldChannel;
+import com.bridge.core.placement.WorldPlacementService;
 import com.bridge.core.plugin.BridgePlugin;
+import com.bridge.core.replay.WorldReplays;
+import com.bridge.core.scheduling.TimerWheel;
+import com.bridge.core.stats.StatsService;
+import com.bridge.core.storage.ComponentStateStore;
+import com.bridge.core.storage.WorldSnapshotter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.system.tick.TickableSystem;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.WorldConfig;
@@ -48,37 +91,236 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
 
     @Nonnull
     private List<BridgeWorld> activeWorlds = new ArrayList<>();
+    @Nonnull
+    private final Map<BridgeWorld, WorldDrain> drains = new ConcurrentHashMap<>();
+    @Nonnull
+    private final Map<BridgeWorld, TimerWheel> schedulers = new ConcurrentHashMap<>();
+    @Nonnull
+    private final Map<BridgeWorld, Map<String, WorldChannel<?>>> channels = new ConcurrentHashMap<>();
+    @Nonnull
+    private final Map<BridgeWorld, WorldHibernation> hibernations = new ConcurrentHashMap<>();
+    /** Worlds rotated out as the default; players arriving in them are sent on to the current default. */
+    @Nonnull
+    private final Set<BridgeWorld> retiredDefaults = ConcurrentHashMap.newKeySet();
+    @Nullable
+    private volatile DefaultWorldRotation rotation;
+    // Guarded by this.
+    private boolean rotating;
+
+    @Nonnull
+    private final ComponentTickWatchdog watchdog = new ComponentTickWatchdog();
 
     @Override
-    public final void tick(float deltaTime, int index, Store store) {
-        for (var bWorld : activeWorlds) {
-            bWorld.getBridgeWorldComponent().onTick(bWorld, deltaTime);
+    public final void tick(float deltaTime, int index, Store<ChunkStore> store) {
+        var tickingWorld = getTickingBridgeWorld(store);
+        if (tickingWorld != null) {
+            tickWorld(tickingWorld, deltaTime);
+        }
+    }
+
+    /**
+     * Runs the per-world work that must happen on the thread of the world whose store is ticking.
+     */
+    private void tickWorld(@Nonnull BridgeWorld bWorld, float deltaTime) {
+        long now = System.nanoTime();
+        var hibernation = hibernations.get(bWorld);
+        boolean hibernating = hibernation != null && hibernation.isHibernating();
+        WorldPlacementService.getLoad(bWorld).recordTick(now, hibernating ? hibernation.getStride() : 1);
+        if (hibernating) {
+            hibernation.skipTick(watchdog.getAverageNanos(bWorld));
+        } else if (bWorld.active && ComponentStateStore.ensureRestored(bWorld)) {
+            watchdog.tick(bWorld, deltaTime);
+        }
+        WorldReplays.tick(bWorld, bWorld.getWorld());
+
+        var scheduler = schedulers.get(bWorld);
+        if (scheduler != null) {
+            // At a lowered tick rate each tick stands in for several, so task delays keep their real duration.
+            int steps = hibernating ? hibernation.getStride() : 1;
+            int ran = 0;
+            for (int i = 0; i < steps; i++) {
+                ran += scheduler.advance();
+            }
+            if (ran > 0 && hibernating) {
+                exitHibernation(bWorld, hibernation);
+            }
+        }
+
+        var worldChannels = channels.get(bWorld);
+        if (worldChannels != null) {
+            for (var channel : worldChannels.values()) {
+                if (channel.isClosed()) {
+                    worldChannels.remove(channel.getName(), channel);
+                } else {
+                    channel.deliver();
+                }
+            }
+        }
+
+        var drain = drains.get(bWorld);
+        if (drain != null && drain.tick(now)) {
+            drains.remove(bWorld);
+        }
+
+        var migration = rotation;
+        if (migration != null && migration.isFrom(bWorld) && migration.tick(now)) {
+            rotation = null;
+        }
+    }
+
+    @Nonnull
+    public ScheduledTask schedule(@Nonnull BridgeWorld bWorld, long delayTicks, long periodTicks, @Nonnull Runnable task) {
+        return schedulers.computeIfAbsent(bWorld, ignored -> new TimerWheel()).schedule(delayTicks, periodTicks, task);
+    }
+
+    @Nonnull
+    public <T> BridgeChannel<T> openChannel(@Nonnull BridgeWorld receiver, @Nonnull String name, @Nonnull Class<T> type,
+        int capacity, int maxPerTick, @Nonnull BridgeMessageHandler<T> handler) {
+
+        var worldChannels = channels.computeIfAbsent(receiver, ignored -> new ConcurrentHashMap<>());
+        var channel = new WorldChannel<>(name, type, receiver, capacity, maxPerTick, handler);
+        var existing = worldChannels.putIfAbsent(name, channel);
+        if (existing != null && !existing.isClosed()) {
+            throw new IllegalStateException("Channel " + name + " is already open in world " + receiver.bWorldName);
         }
+        // Another caller may be reopening the same closed channel; only one of them may take its place. The tick
+        // may also have removed the closed channel in the meantime.
+        if (existing != null && !worldChannels.replace(name, existing, channel) && worldChannels.putIfAbsent(name, channel) != null) {
+            throw new IllegalStateException("Channel " + name + " was reopened concurrently in world " + receiver.bWorldName);
+        }
+        return channel;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> BridgeChannel<T> getChannel(@Nonnull BridgeWorld receiver, @Nonnull String name, @Nonnull Class<T> type) {
+        var worldChannels = channels.get(receiver);
+        if (worldChannels == null) {
+            return null;
+        }
+        var channel = worldChannels.get(name);
+        if (channel == null || channel.isClosed() || channel.getType() != type) {
+            return null;
+        }
+        return (BridgeChannel<T>) channel;
+    }
+
+    /**
+     * Stops ticking the world's component and lowers the world's tick rate where the server allows it,
+     * keeping its chunks loaded.
+     *
+     * @return false if the world is not active or has players in it
+     */
+    public boolean hibernateWorld(@Nonnull BridgeWorld bWorld) {
+        var world = bWorld.getWorld();
+        if (!bWorld.active || world == null || world.getPlayerCount() > 0) {
+            return false;
+        }
+
+        var hibernation = hibernations.computeIfAbsent(bWorld, WorldHibernation::new);
+        world.execute(() -> {
+            // A player may have arrived since the request was made.
+            if (bWorld.active && world.getPlayerCount() == 0 && hibernation.enter()) {
+                WorldIndex.refresh(bWorld);
+                EventJournal.record(BridgeEventType.WORLD_HIBERNATED, bWorld);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Brings a hibernating world back to its normal tick rate and resumes ticking its component.
+     * Does nothing if the world is not hibernating.
+     */
+    public void wakeWorld(@Nonnull BridgeWorld bWorld) {
+        var hibernation = hibernations.get(bWorld);
+        var world = bWorld.getWorld();
+        if (hibernation == null || !hibernation.isHibernating() || world == null) {
+            return;
+        }
+
+        if (world.isInThread()) {
+            exitHibernation(bWorld, hibernation);
+        } else {
+            world.execute(() -> exitHibernation(bWorld, hibernation));
+        }
+    }
+
+    public boolean isHibernating(@Nonnull BridgeWorld bWorld) {
+        var hibernation = hibernations.get(bWorld);
+        return hibernation != null && hibernation.isHibernating();
+    }
+
+    @Nonnull
+    public HibernationReport getHibernationReport(@Nonnull BridgeWorld bWorld) {
+        return hibernations.computeIfAbsent(bWorld, WorldHibernation::new).report();
+    }
+
+    private void exitHibernation(@Nonnull BridgeWorld bWorld, @Nonnull WorldHibernation hibernation) {
+        if (hibernation.exit()) {
+            WorldIndex.refresh(bWorld);
+            var report = hibernation.report();
+            EventJournal.record(BridgeEventType.WORLD_WOKEN, bWorld, null, report.getComponentNanosSaved(), report);
+        }
+    }
+
+    public void setTickBudget(long budgetMicros, int strikesToFlag, @Nonnull TickBudgetPolicy policy) {
+        watchdog.configure(budgetMicros * 1000L, strikesToFlag, policy);
+    }
+
+    @Nonnull
+    public ComponentTickReport getTickReport(@Nonnull BridgeWorld bWorld) {
+        return watchdog.report(bWorld);
+    }
+
+    public void releaseTickQuarantine(@Nonnull BridgeWorld bWorld) {
+        watchdog.release(bWorld);
+    }
+
+    @Nullable
+    private static BridgeWorld getTickingBridgeWorld(@Nonnull Store<ChunkStore> store) {
+        var chunkStore = store.getExternalData();
+        if (chunkStore == null || chunkStore.getWorld() == null) {
+            return null;
+        }
+        return BridgeWorldFactory.getBridgeWorldByUUID(chunkStore.getWorld().getWorldConfig().getUuid());
     }
 
     public void createWorld(@Nonnull String name, @Nullable BridgeWorldComponent bridgeWorldComponent,
         @Nullable Consumer<BridgeWorld> callback) {
         
-        BridgePlugin.logger().atInfo().log("Starting creating new world: " + name);
+        EventJournal.record(BridgeEventType.WORLD_CREATING, null, null, 0L, name);
+        var createEvent = new WorldCreateEvent();
+        createEvent.begin();
 
         Universe.get().makeWorld(name, DataManager.getWorldsPath(name), new WorldConfig())
             .thenAccept(world -> {
                 try {
                     var bWorld = BridgeWorldFactory.getBridgeWorldFromWorld(world, name, bridgeWorldComponent);
                     bWorld.setWorld(world);
+                    var callbackEvent = new ComponentCallbackEvent();
+                    callbackEvent.begin();
                     bWorld.getBridgeWorldComponent().onCreateWorld(bWorld);
+                    callbackEvent.commitFor(bWorld, "onCreateWorld", null);
                     
-                    BridgePlugin.logger().atInfo().log("Done creating new world: " + name);
+                    EventJournal.record(BridgeEventType.WORLD_CREATED, bWorld);
+                    createEvent.end();
+                    if (createEvent.shouldCommit()) {
+                        createEvent.setWorld(bWorld);
+                        createEvent.commit();
+                    }
 
                     if (callback != null) {
                         callback.accept(bWorld);
                     }
                 } catch (Exception e) {
                     BridgePlugin.logger().atSevere().withCause(e).log("Failed to create world: " + name);
+                    EventJournal.recordError(null, e);
                 }
             })
             .exceptionally(throwable -> {
                 BridgePlugin.logger().atSevere().withCause(throwable).log("Failed to make world: " + name);
+                EventJournal.recordError(null, throwable);
                 return null;
             });
     }
@@ -86,25 +328,71 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
     public void copyWorld(@Nonnull World sourceWorld, @Nonnull String newName, @Nullable BridgeWorldComponent bridgeWorldComponent,
         @Nullable Consumer<BridgeWorld> callback) {
         
-        BridgePlugin.logger().atInfo().log("Starting copying world " + sourceWorld.getName() + " to " + newName);
+        var sourceBWorld = BridgeWorldFactory.getBridgeWorldByUUID(sourceWorld.getWorldConfig().getUuid());
+        Path sourcePath = sourceWorld.getSavePath();
+        copyWorldFrom(destination -> copyWorldFiles(sourcePath, destination), sourceWorld.getName(), sourceBWorld,
+            sourceBWorld != null ? sourceBWorld.getTemplate() : sourceWorld.getName(), newName, bridgeWorldComponent, callback);
+    }
+
+    public void copyWorld(@Nonnull WorldSnapshot snapshot, @Nonnull String newName, @Nullable BridgeWorldComponent bridgeWorldComponent,
+        @Nullable Consumer<BridgeWorld> callback) {
+        
+        var sourceBWorld = snapshot.getSourceUuid() != null ? BridgeWorldFactory.getBridgeWorldByUUID(snapshot.getSourceUuid()) : null;
+        copyWorldFrom(destination -> copyWorldFiles(snapshot.getPath(), destination), snapshot.getSourceName(), sourceBWorld,
+            snapshot.getTemplate(), newName, bridgeWorldComponent, callback);
+    }
+
+    public void copyWorld(@Nonnull WorldArchive archive, @Nonnull String newName, @Nullable BridgeWorldComponent bridgeWorldComponent,
+        @Nullable Consumer<BridgeWorld> callback) {
+        
+        copyWorldFrom(destination -> {
+            WorldSnapshotter.deleteDirectory(destination);
+            return archive.extractAll(destination);
+        }, archive.getSourceName(), null, archive.getTemplate(), newName, bridgeWorldComponent, callback);
+    }
+
+    /**
+     * Fills a new world's save folder from a copy source.
+     */
+    @FunctionalInterface
+    private interface WorldFiles {
+        long copyTo(@Nonnull Path destination) throws IOException;
+    }
+
+    private void copyWorldFrom(@Nonnull WorldFiles source, @Nonnull String sourceName, @Nullable BridgeWorld sourceBWorld,
+        @Nonnull String template, @Nonnull String newName, @Nullable BridgeWorldComponent bridgeWorldComponent,
+        @Nullable Consumer<BridgeWorld> callback) {
+        
+        EventJournal.record(BridgeEventType.WORLD_COPYING, sourceBWorld, null, 0L, newName);
+        var copyEvent = new WorldCopyEvent();
+        copyEvent.begin();
         
         CompletableFuture.runAsync(() -> {
             try {
-                Path sourcePath = sourceWorld.getSavePath();
                 Path newSavePath = DataManager.getWorldsPath(newName);
-                boolean copied = copyWorldFiles(sourcePath, newSavePath);
+                long bytesCopied = source.copyTo(newSavePath);
                 
-                if (!copied) {
+                if (bytesCopied < 0) {
                     throw new IOException("Failed to copy world files");
                 }
+                // Component state belongs to the source instance, not to its copies.
+                Files.deleteIfExists(ComponentStateStore.stateFile(newSavePath));
 
                 updateWorldConfigForCopy(newSavePath);
                 
                 // After copying files, load the world
                 Universe.get().loadWorld(newName).thenAccept(world -> {
-                    var bWorld = BridgeWorldFactory.getBridgeWorldFromWorld(sourceWorld, newName, bridgeWorldComponent);
+                    var bWorld = BridgeWorldFactory.getBridgeWorldFromWorld(world, newName, bridgeWorldComponent);
                     bWorld.setWorld(world);
-                    BridgePlugin.logger().atInfo().log("Done copying world " + sourceWorld.getName() + " to " + newName);
+                    bWorld.setTemplate(template);
+                    EventJournal.record(BridgeEventType.WORLD_COPIED, bWorld, null, bytesCopied, sourceName);
+                    copyEvent.end();
+                    if (copyEvent.shouldCommit()) {
+                        copyEvent.setWorld(bWorld);
+                        copyEvent.sourceWorldName = sourceName;
+                        copyEvent.bytesCopied = bytesCopied;
+                        copyEvent.commit();
+                    }
                     
                     if (callback != null) {
                         callback.accept(bWorld);
@@ -112,12 +400,14 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
                 }).exceptionally(throwable -> {
                     BridgePlugin.logger().atSevere().withCause(throwable)
                         .log("Failed to load copied world: " + newName);
+                    EventJournal.recordError(null, throwable);
                     return null;
                 });
                 
             } catch (Exception e) {
                 BridgePlugin.logger().atSevere().withCause(e)
-                    .log("Failed to copy world files from " + sourceWorld.getName() + " to " + newName);
+                    .log("Failed to copy world files from " + sourceName + " to " + newName);
+                EventJournal.recordError(null, e);
             }
         }).exceptionally(throwable -> {
             BridgePlugin.logger().atSevere().withCause(throwable)
@@ -126,7 +416,90 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
         });
     }
 
-    private Boolean copyWorldFiles(Path sourcePath, Path destinationPath) throws IOException {
+    @Nonnull
+    public CompletableFuture<WorldSnapshot> snapshotWorld(@Nonnull BridgeWorld bWorld) {
+        var snapshotEvent = new WorldSnapshotEvent();
+        snapshotEvent.begin();
+        var future = WorldSnapshotter.snapshot(bWorld);
+        future.whenComplete((snapshot, throwable) -> {
+            if (throwable != null) {
+                BridgePlugin.logger().atSevere().withCause(throwable).log("Failed to snapshot world " + bWorld.bWorldName);
+                EventJournal.recordError(bWorld, throwable);
+                return;
+            }
+            EventJournal.record(BridgeEventType.WORLD_SNAPSHOT, bWorld, null, snapshot.getPauseNanos(), snapshot);
+            snapshotEvent.end();
+            if (snapshotEvent.shouldCommit()) {
+                snapshotEvent.setWorld(bWorld);
+                snapshotEvent.pauseNanos = snapshot.getPauseNanos();
+                snapshotEvent.files = snapshot.getFiles();
+                snapshotEvent.filesRecopied = snapshot.getFilesRecopied();
+                snapshotEvent.bytesCopied = snapshot.getBytes();
+                snapshotEvent.commit();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Packs a world into a single archive file. Active worlds are packed from a snapshot, so they keep running.
+     */
+    @Nonnull
+    public CompletableFuture<WorldArchive> exportWorld(@Nonnull BridgeWorld bWorld, @Nonnull Path archiveFile) {
+        var exportEvent = new WorldExportEvent();
+        exportEvent.begin();
+
+        CompletableFuture<WorldArchive> future;
+        if (bWorld.active) {
+            future = snapshotWorld(bWorld).thenApplyAsync(snapshot -> {
+                try {
+                    return WorldArchive.create(snapshot.getPath(), archiveFile, bWorld.bWorldName, bWorld.getTemplate());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    deleteSnapshot(snapshot);
+                }
+            });
+        } else {
+            Path savePath = bWorld.getWorld() != null ? bWorld.getWorld().getSavePath() : DataManager.getWorldsPath(bWorld.bWorldName);
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return WorldArchive.create(savePath, archiveFile, bWorld.bWorldName, bWorld.getTemplate());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        future.whenComplete((archive, throwable) -> {
+            if (throwable != null) {
+                BridgePlugin.logger().atSevere().withCause(throwable).log("Failed to export world " + bWorld.bWorldName + " to " + archiveFile);
+                EventJournal.recordError(bWorld, throwable);
+                return;
+            }
+            EventJournal.record(BridgeEventType.WORLD_EXPORTED, bWorld, null, archive.getStoredBytes(), archive);
+            exportEvent.end();
+            if (exportEvent.shouldCommit()) {
+                exportEvent.setWorld(bWorld);
+                exportEvent.archivePath = archiveFile.toString();
+                exportEvent.files = archive.getFiles();
+                exportEvent.bytes = archive.getBytes();
+                exportEvent.storedBytes = archive.getStoredBytes();
+                exportEvent.commit();
+            }
+        });
+        return future;
+    }
+
+    public void deleteSnapshot(@Nonnull WorldSnapshot snapshot) {
+        try {
+            WorldSnapshotter.deleteDirectory(snapshot.getPath());
+        } catch (IOException e) {
+            BridgePlugin.logger().atSevere().withCause(e).log("Failed to delete snapshot " + snapshot.getPath());
+        }
+    }
+
+    private long copyWorldFiles(Path sourcePath, Path destinationPath) throws IOException {
         if (Files.exists(destinationPath)) {
             Files.walk(destinationPath)
                 .sorted(Comparator.reverseOrder())
@@ -134,6 +507,7 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
                 .forEach(File::delete);
         }
         
+        var bytesCopied = new AtomicLong();
         Files.walk(sourcePath).forEach(source -> {
             try {
                 Path destination = destinationPath.resolve(sourcePath.relativize(source));
@@ -141,13 +515,14 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
                     Files.createDirectories(destination);
                 } else {
                     Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+                    bytesCopied.addAndGet(Files.size(destination));
                 }
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
         });
 
-        return true;
+        return bytesCopied.get();
     }
 
     private void updateWorldConfigForCopy(Path worldFolder) {
@@ -185,52 +560,488 @@ public final class BridgeWorldManagerSystem implements TickableSystem<ChunkStore
     }
 
     public void deleteWorld(@Nonnull BridgeWorld bWorld) {
-        BridgePlugin.logger().atInfo().log("Deleting " + bWorld.bWorldName);
+        EventJournal.record(BridgeEventType.WORLD_DELETED, bWorld, null, 0L, bWorld.bWorldName);
+        var deleteEvent = new WorldDeleteEvent();
+        deleteEvent.begin();
+        var callbackEvent = new ComponentCallbackEvent();
+        callbackEvent.begin();
         bWorld.getBridgeWorldComponent().onDeleteWorld(bWorld);
+        callbackEvent.commitFor(bWorld, "onDeleteWorld", null);
+        // A state write still running would otherwise land in the folder being deleted.
+        ComponentStateStore.release(bWorld);
         Universe.get().removeWorld(bWorld.bWorldName);
+        deleteEvent.end();
+        if (deleteEvent.shouldCommit()) {
+            deleteEvent.setWorld(bWorld);
+            deleteEvent.commit();
+        }
+        WorldReplays.stop(bWorld);
+        StatsService.release(bWorld);
+        WorldAccounting.releaseFootprint(bWorld.getWorld().getWorldConfig().getUuid());
         BridgeWorldFactory.releaseBridgeWorld(bWorld);
+        schedulers.remove(bWorld);
+        hibernations.remove(bWorld);
+        retiredDefaults.remove(bWorld);
+        var migration = rotation;
+        if (migration != null && migration.isFrom(bWorld)) {
+            rotation = null;
+            migration.future().completeExceptionally(new IllegalStateException("World " + bWorld.bWorldName + " was deleted during rotation"));
+        }
+        watchdog.remove(bWorld);
+        WorldPlacementService.releaseLoad(bWorld);
+        var worldChannels = channels.remove(bWorld);
+        if (worldChannels != null) {
+            worldChannels.values().forEach(WorldChannel::close);
+        }
     }
 
     public void activateWorld(@Nonnull BridgeWorld bWorld, @Nullable Consumer<BridgeWorld> callback) {
+        activateWorldWithWarmup(bWorld, null).thenAccept(report -> {
+            try {
+                if (callback != null) {
+                    callback.accept(bWorld);
+                }
+            } catch (Exception e) {
+                BridgePlugin.logger().atSevere().withCause(e)
+                    .log("Failed to activate world " + bWorld.bWorldName);
+                EventJournal.recordError(bWorld, e);
+            }
+        });
+    }
+
+    @Nonnull
+    public CompletableFuture<ActivationReport> activateWorldWithWarmup(@Nonnull BridgeWorld bWorld, @Nullable ActivationWarmup warmup) {
         
-        BridgePlugin.logger().atInfo().log("Starting activating world " + bWorld.bWorldName);
+        EventJournal.record(BridgeEventType.WORLD_ACTIVATING, bWorld);
+        var activateEvent = new WorldActivateEvent();
+        activateEvent.begin();
         
-        bWorld.getWorld().init()
-            .thenAccept(world -> {
-                try {
-                    bWorld.setWorld(world);
-                    activeWorlds.add(bWorld);
-                    bWorld.active = true;
-                    BridgePlugin.logger().atInfo().log("Done activating world " + bWorld.bWorldName);
-                    
-                    if (callback != null) {
-                        callback.accept(bWorld);
-                    }
-                } catch (Exception e) {
-                    BridgePlugin.logger().atSevere().withCause(e)
-                        .log("Failed to activate world " + bWorld.bWorldName);
-                }
+        // Chunks start loading during init, so anything left from the last time the world ran is cleared first.
+        WorldAccounting.resetFootprint(bWorld);
+        long initStart = System.nanoTime();
+        var future = bWorld.getWorld().init()
+            .thenCompose(world -> {
+                long initNanos = System.nanoTime() - initStart;
+                bWorld.setWorld(world);
+                // The saved component state is read alongside the warm-up, so it is in memory before the first tick.
+                var restore = ComponentStateStore.prepareRestore(bWorld);
+                var warm = warmup == null
+                    ? CompletableFuture.completedFuture(new ActivationReport(bWorld, initNanos, 0L, 0, 0))
+                    : warmUpWorld(bWorld, warmup, initNanos);
+                return warm.thenCombine(restore, (report, ignored) -> report);
             })
-            .exceptionally(throwable -> {
-                BridgePlugin.logger().atSevere().withCause(throwable)
-                    .log("Failed to initialize world " + bWorld.bWorldName);
-                return null;
+            .thenApply(report -> {
+                activeWorlds.add(bWorld);
+                bWorld.active = true;
+                WorldIndex.refresh(bWorld);
+                EventJournal.record(BridgeEventType.WORLD_ACTIVATED, bWorld, null, report.getInitNanos() + report.getWarmupNanos(), report);
+                activateEvent.end();
+                if (activateEvent.shouldCommit()) {
+                    activateEvent.setWorld(bWorld);
+                    activateEvent.initNanos = report.getInitNanos();
+                    activateEvent.warmupNanos = report.getWarmupNanos();
+                    activateEvent.chunksLoaded = report.getChunksLoaded();
+                    activateEvent.ticks = report.getTicks();
+                    activateEvent.commit();
+                }
+                return report;
             });
+
+        future.exceptionally(throwable -> {
+            BridgePlugin.logger().atSevere().withCause(throwable)
+                .log("Failed to initialize world " + bWorld.bWorldName);
+            EventJournal.recordError(bWorld, throwable);
+            return null;
+        });
+        return future;
+    }
+
+    @Nonnull
+    private CompletableFuture<ActivationReport> warmUpWorld(@Nonnull BridgeWorld bWorld, @Nonnull ActivationWarmup warmup, long initNanos) {
+        long warmupStart = System.nanoTime();
+        int radius = warmup.getRadiusChunks();
+        var world = bWorld.getWorld();
+
+        // Overlapping areas around nearby points must only be requested once.
+        Set<Long> chunkIndexes = new HashSet<>();
+        for (int[] point : warmup.getPoints()) {
+            int centerX = ChunkUtil.chunkCoordinate(point[0]);
+            int centerZ = ChunkUtil.chunkCoordinate(point[1]);
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    chunkIndexes.add(ChunkUtil.indexChunk(x, z));
+                }
+            }
+        }
+
+        var loads = new CompletableFuture<?>[chunkIndexes.size()];
+        int i = 0;
+        for (long chunkIndex : chunkIndexes) {
+            loads[i++] = world.getChunkAsync(chunkIndex);
+        }
+
+        // The world ticks the resident chunks on its own; the component only starts once they have settled.
+        int ticks = warmup.getTicks();
+        return CompletableFuture.allOf(loads)
+            .thenCompose(ignored -> {
+                var settled = new CompletableFuture<Void>();
+                if (ticks == 0) {
+                    settled.complete(null);
+                } else {
+                    schedule(bWorld, ticks, 0L, () -> settled.complete(null));
+                }
+                return settled;
+            })
+            .thenApply(ignored -> new ActivationReport(bWorld, initNanos, System.nanoTime() - warmupStart, loads.length, ticks));
     }
 
     public boolean deactivateWorld(@Nonnull BridgeWorld bWorld, @Nullable World movePlayersTo) {
-        BridgePlugin.logger().atInfo().log("Starting deactivating world " + bWorld.bWorldName);
+        EventJournal.record(BridgeEventType.WORLD_DEACTIVATING, bWorld);
+        var deactivateEvent = new WorldDeactivateEvent();
+        deactivateEvent.begin();
         if (movePlayersTo == null)
         {
-            movePlayersTo = Universe.get().getDefaultWorld();
+            movePlayersTo = BridgeWorldFactory.getDefaultWorld();
         }
 
+        wakeWorld(bWorld);
         bWorld.active = false;
         activeWorlds.remove(bWorld);
-        BridgePlugin.logger().atInfo().log("Moving players from " + bWorld.bWorldName + " to " + movePlayersTo.getName());
+        WorldIndex.refresh(bWorld);
+        WorldReplays.stop(bWorld);
+        int playerCount = deactivateEvent.isEnabled() ? bWorld.getWorld().getPlayerCount() : 0;
         bWorld.getWorld().drainPlayersTo(movePlayersTo);
         bWorld.getWorld().stopIndividualWorld();;
-        BridgePlugin.logger().atInfo().log("Done deactivating world " + bWorld.bWorldName);
+        WorldAccounting.resetFootprint(bWorld);
+        ComponentStateStore.save(bWorld);
+        EventJournal.record(BridgeEventType.WORLD_DEACTIVATED, bWorld);
+        deactivateEvent.end();
+        if (deactivateEvent.shouldCommit()) {
+            deactivateEvent.setWorld(bWorld);
+            deactivateEvent.playersMoved = playerCount;
+            deactivateEvent.commit();
+        }
         return true;
     }
+
+    @Nonnull
+    public CompletableFuture<DrainResult> deactivateWorldGracefully(@Nonnull BridgeWorld bWorld, @Nullable List<World> movePlayersTo,
+        int playersPerTick, long timeoutMillis) {
+
+        var existing = drains.get(bWorld);
+        if (existing != null) {
+            return existing.future();
+        }
+
+        List<World> targets = movePlayersTo;
+        if (targets == null || targets.isEmpty()) {
+            targets = List.of(BridgeWorldFactory.getDefaultWorld());
+        }
+
+        EventJournal.record(BridgeEventType.WORLD_DEACTIVATING, bWorld, null, playersPerTick, null);
+        wakeWorld(bWorld);
+        bWorld.active = false;
+        activeWorlds.remove(bWorld);
+        WorldIndex.refresh(bWorld);
+        WorldReplays.stop(bWorld);
+
+        var deactivateEvent = new WorldDeactivateEvent();
+        deactivateEvent.begin();
+        var drain = new WorldDrain(bWorld, targets, playersPerTick, timeoutMillis);
+        existing = drains.putIfAbsent(bWorld, drain);
+        if (existing != null) {
+            return existing.future();
+        }
+        drain.future().thenAccept(result -> {
+            WorldAccounting.resetFootprint(bWorld);
+            ComponentStateStore.save(bWorld);
+            deactivateEvent.end();
+            if (deactivateEvent.shouldCommit()) {
+                deactivateEvent.setWorld(bWorld);
+                deactivateEvent.playersMoved = result.getPlayersMoved() + result.getPlayersForced();
+                deactivateEvent.graceful = true;
+                deactivateEvent.commit();
+            }
+        });
+        return drain.future();
+    }
+
+    /**
+     * Writes the component state of every active world, for shutdown.
+     *
+     * @return A future completed once every state is on disk
+     */
+    @Nonnull
+    public CompletableFuture<Void> saveComponentStates() {
+        var saves = new ArrayList<CompletableFuture<Void>>();
+        for (var bWorld : List.copyOf(activeWorlds)) {
+            var world = bWorld.getWorld();
+            if (world == null) {
+                continue;
+            }
+            // The world is still ticking, so its component state is only read on its own thread.
+            var save = new CompletableFuture<Void>();
+            world.execute(() -> ComponentStateStore.save(bWorld).whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    save.completeExceptionally(throwable);
+                } else {
+                    save.complete(null);
+                }
+            }));
+            saves.add(save);
+        }
+        return CompletableFuture.allOf(saves.toArray(new CompletableFuture<?>[0]));
+    }
+
+    @Nonnull
+    public CompletableFuture<PlayerRef> transferPlayer(@Nonnull PlayerRef playerRef, @Nonnull World targetWorld) {
+        var future = new CompletableFuture<PlayerRef>();
+        var targetBWorld = BridgeWorldFactory.getBridgeWorldByUUID(targetWorld.getWorldConfig().getUuid());
+        var sourceWorldUuid = playerRef.getWorldUuid();
+        var currentWorld = sourceWorldUuid != null ? Universe.get().getWorld(sourceWorldUuid) : null;
+        if (currentWorld == null) {
+            // Left the server or is between worlds; nothing was started, so no load is counted.
+            var e = new IllegalStateException("Player " + playerRef.getUsername() + " is not in a world");
+            EventJournal.recordError(targetBWorld, e);
+            future.completeExceptionally(e);
+            return future;
+        }
+        if (targetBWorld != null) {
+            var load = WorldPlacementService.getLoad(targetBWorld);
+            load.transferStarted();
+            future.whenComplete((ref, throwable) -> load.transferFinished());
+        }
+
+        EventJournal.record(BridgeEventType.PLAYER_TRANSFER, targetBWorld, playerRef);
+        if (targetBWorld != null) {
+            // Queued on the target world's thread ahead of the player being added.
+            wakeWorld(targetBWorld);
+        }
+        var transferEvent = new PlayerTransferEvent();
+        transferEvent.begin();
+        if (transferEvent.isEnabled()) {
+            var sourceWorldName = currentWorld.getName();
+            future.whenComplete((ref, throwable) -> {
+                transferEvent.end();
+                if (transferEvent.shouldCommit()) {
+                    transferEvent.setWorld(targetBWorld);
+                    transferEvent.worldName = targetWorld.getName();
+                    transferEvent.sourceWorldName = sourceWorldName;
+                    transferEvent.playerUuid = playerRef.getUuid().toString();
+                    transferEvent.succeeded = throwable == null;
+                    transferEvent.commit();
+                }
+            });
+        }
+
+        currentWorld.execute(() -> {
+            try {
+                playerRef.removeFromStore();
+
+                targetWorld.execute(() -> {
+                    CompletableFuture<PlayerRef> added = targetWorld.addPlayer(playerRef);
+
+                    if (added == null) {
+                        future.complete(playerRef);
+                        return;
+                    }
+                    added.whenComplete((ref, throwable) -> {
+                        if (throwable != null) {
+                            BridgePlugin.logger().atSevere().log(throwable.getMessage());
+                            EventJournal.recordError(targetBWorld, throwable);
+                            future.completeExceptionally(throwable);
+                        } else {
+                            future.complete(ref);
+                        }
+                    });
+                });
+            } catch (Exception e) {
+                BridgePlugin.logger().atSevere().log(e.toString());
+                EventJournal.recordError(targetBWorld, e);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Prepares {@code next} in the background, switches the default world to it, then migrates the players of the
+     * previous default in batches and retires it once empty.
+     *
+     * @throws IllegalStateException if a rotation is already in progress or there is no default world
+     * @throws IllegalArgumentException if {@code next} is already the default world
+     */
+    @Nonnull
+    public synchronized CompletableFuture<RotationReport> rotateDefaultWorld(@Nonnull BridgeWorld next, @Nullable ActivationWarmup warmup,
+        int playersPerTick, long timeoutMillis) {
+
+        if (rotating) {
+            throw new IllegalStateException("A default world rotation is already in progress");
+        }
+        var previous = BridgeWorldFactory.getDefaultWorldAsBridgeWorld();
+        if (previous == null) {
+            throw new IllegalStateException("There is no default world to rotate from");
+        }
+        if (previous == next) {
+            throw new IllegalArgumentException(next.bWorldName + " is already the default world");
+        }
+        rotating = true;
+
+        long requested = System.nanoTime();
+        CompletableFuture<?> prepared;
+        if (!next.active) {
+            prepared = activateWorldWithWarmup(next, warmup);
+        } else {
+            wakeWorld(next);
+            prepared = warmup != null ? warmUpWorld(next, warmup, 0L) : CompletableFuture.completedFuture(null);
+        }
+        return prepared
+            .thenCompose(ignored -> switchDefaultWorld(previous, next, playersPerTick, timeoutMillis, requested))
+            .whenComplete((report, throwable) -> {
+                synchronized (this) {
+                    rotating = false;
+                }
+                if (throwable != null) {
+                    BridgePlugin.logger().atSevere().withCause(throwable)
+                        .log("Failed to rotate the default world from " + previous.bWorldName + " to " + next.bWorldName);
+                    EventJournal.recordError(next, throwable);
+                }
+            });
+    }
+
+    @Nonnull
+    private CompletableFuture<RotationReport> switchDefaultWorld(@Nonnull BridgeWorld previous, @Nonnull BridgeWorld next,
+        int playersPerTick, long timeoutMillis, long requested) {
+
+        long switched = System.nanoTime();
+        // Joins landing in the previous world from here on are redirected, before its migration has started.
+        retiredDefaults.remove(next);
+        retiredDefaults.add(previous);
+        BridgeWorldFactory.setDefaultWorld(next);
+        EventJournal.record(BridgeEventType.DEFAULT_WORLD_SWITCHED, next, null, switched - requested, previous.bWorldName);
+
+        var migration = new DefaultWorldRotation(previous, next, playersPerTick, timeoutMillis, requested, switched);
+        rotation = migration;
+        wakeWorld(previous);
+        return migration.future();
+    }
+
+    /**
+     * Sends a player who arrived in a world rotated out as the default on to the current default world.
+     * Must be called on the arrival world's thread.
+     */
+    public void redirectFromRetiredDefault(@Nonnull BridgeWorld bWorld, @Nonnull PlayerRef playerRef) {
+        if (retiredDefaults.isEmpty() || !retiredDefaults.contains(bWorld)) {
+            return;
+        }
+        var migration = rotation;
+        if (migration != null && migration.isFrom(bWorld)) {
+            migration.redirect(playerRef);
+            return;
+        }
+        var target = BridgeWorldFactory.getDefaultWorldAsBridgeWorld();
+        if (target == null || target == bWorld) {
+            return;
+        }
+        // The player's entity is still being added, so the transfer starts after the current system has run.
+        bWorld.getWorld().execute(() -> transferPlayer(playerRef, target.getWorld())
+            .whenComplete((ref, throwable) -> hibernateWorld(bWorld)));
+    }
+
+    /**
+     * Transfers a group of players with one hop onto each source world and one onto the target world,
+     * rather than two hops per player, so a whole match arrives in the same target tick.
+     *
+     * @return A future completed once every transfer has finished, with the players that were added;
+     *         players whose transfer failed are logged and left out
+     */
+    @Nonnull
+    public CompletableFuture<List<PlayerRef>> transferPlayers(@Nonnull Collection<PlayerRef> playerRefs, @Nonnull World targetWorld) {
+        var future = new CompletableFuture<List<PlayerRef>>();
+        if (playerRefs.isEmpty()) {
+            future.complete(List.of());
+            return future;
+        }
+
+        var targetBWorld = BridgeWorldFactory.getBridgeWorldByUUID(targetWorld.getWorldConfig().getUuid());
+        var load = targetBWorld != null ? WorldPlacementService.getLoad(targetBWorld) : null;
+        var bySource = new HashMap<UUID, List<PlayerRef>>();
+        for (var playerRef : playerRefs) {
+            if (load != null) {
+                load.transferStarted();
+            }
+            EventJournal.record(BridgeEventType.PLAYER_TRANSFER, targetBWorld, playerRef);
+            bySource.computeIfAbsent(playerRef.getWorldUuid(), ignored -> new ArrayList<>()).add(playerRef);
+        }
+        if (targetBWorld != null) {
+            wakeWorld(targetBWorld);
+        }
+
+        var added = new ConcurrentLinkedQueue<PlayerRef>();
+        var remaining = new AtomicInteger(playerRefs.size());
+        Consumer<PlayerRef> finished = ref -> {
+            if (load != null) {
+                load.transferFinished();
+            }
+            if (ref != null) {
+                added.add(ref);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(List.copyOf(added));
+            }
+        };
+
+        for (var source : bySource.entrySet()) {
+            var group = source.getValue();
+            var currentWorld = Universe.get().getWorld(source.getKey());
+            if (currentWorld == null) {
+                // The players left the server before the transfer started.
+                group.forEach(ignored -> finished.accept(null));
+                continue;
+            }
+            currentWorld.execute(() -> {
+                var removed = new ArrayList<PlayerRef>(group.size());
+                for (var playerRef : group) {
+                    try {
+                        playerRef.removeFromStore();
+                        removed.add(playerRef);
+                    } catch (Exception e) {
+                        BridgePlugin.logger().atSevere().log(e.toString());
+                        EventJournal.recordError(targetBWorld, e);
+                        finished.accept(null);
+                    }
+                }
+                if (removed.isEmpty()) {
+                    return;
+                }
+                targetWorld.execute(() -> {
+                    for (var playerRef : removed) {
+                        CompletableFuture<PlayerRef> addition;
+                        try {
+                            addition = targetWorld.addPlayer(playerRef);
+                        } catch (Exception e) {
+                            BridgePlugin.logger().atSevere().log(e.toString());
+                            EventJournal.recordError(targetBWorld, e);
+                            finished.accept(null);
+                            continue;
+                        }
+                        if (addition == null) {
+                            finished.accept(playerRef);
+                            continue;
+                        }
+                        addition.whenComplete((ref, throwable) -> {
+                            if (throwable != null) {
+                                BridgePlugin.logger().atSevere().log(throwable.getMessage());
+                                EventJournal.recordError(targetBWorld, throwable);
+                                finished.accept(null);
+                            } else {
+                                finished.accept(ref);
+                            }
+                        });
+                    }
+                });
+            });
+        }
+        return future;
+    }
 }
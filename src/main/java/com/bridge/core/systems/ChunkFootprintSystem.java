@@ -0,0 +1,36 @@
+package com.bridge.core.systems;
+
+import com.bridge.core.diagnostics.WorldAccounting;
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+
+/**
+ * Counts the chunks loaded in each world as they are added to and removed from its chunk store.
+ */
+@Deprecated
+public final class ChunkFootprintSystem extends RefSystem<ChunkStore> {
+
+    @Override
+    public final Query<ChunkStore> getQuery() {
+        return WorldChunk.getComponentType();
+    }
+
+    @Override
+    public final void onEntityAdded(Ref<ChunkStore> ref, AddReason reason, Store<ChunkStore> store, CommandBuffer<ChunkStore> cmd) {
+        var chunkStore = store.getExternalData();
+        WorldAccounting.chunkAdded(chunkStore != null ? chunkStore.getWorld() : null);
+    }
+
+    @Override
+    public final void onEntityRemove(Ref<ChunkStore> ref, RemoveReason reason, Store<ChunkStore> store, CommandBuffer<ChunkStore> cmd) {
+        var chunkStore = store.getExternalData();
+        WorldAccounting.chunkRemoved(chunkStore != null ? chunkStore.getWorld() : null);
+    }
+}
@@ -0,0 +1,256 @@
+package com.bridge.core.systems;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.BridgeWorldComponent;
+import com.bridge.api.modules.ComponentTickReport;
+import com.bridge.api.modules.TickBudgetPolicy;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.diagnostics.jfr.ComponentTickEvent;
+import com.bridge.core.plugin.BridgePlugin;
+
+/**
+ * Measures every {@link BridgeWorldComponent#onTick(BridgeWorld, float)} call against a budget and contains
+ * components that keep exceeding it.
+ *
+ * <p>An unflagged call costs two {@link System#nanoTime()} reads and a few field updates. Each overrun adds a
+ * strike and each call within budget removes one, so occasional spikes never add up; a component reaching
+ * the strike limit is flagged, logged once and handled by the configured policy. While flagged, its calls
+ * are published to a sampler thread that captures the world thread's stack if a call runs past the budget.
+ * The sampler is stopped again once no flagged call is left to sample.
+ */
+@Deprecated
+final class ComponentTickWatchdog {
+    private static final long DEFAULT_BUDGET_NANOS = 5_000_000L;
+    private static final int DEFAULT_STRIKES = 20;
+    /** Throttled components are ticked once every this many ticks. */
+    private static final int THROTTLE_INTERVAL = 4;
+    /** Weight of the newest call in the moving average, as a right shift: 1/16. */
+    private static final int EWMA_SHIFT = 4;
+
+    private final Map<BridgeWorld, Guard> guards = new ConcurrentHashMap<>();
+    /** Guards whose calls the sampler is watching. */
+    private final Set<Guard> sampled = ConcurrentHashMap.newKeySet();
+    // Guarded by this.
+    private ScheduledExecutorService sampler;
+
+    private volatile long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private volatile int strikesToFlag = DEFAULT_STRIKES;
+    private volatile TickBudgetPolicy policy = TickBudgetPolicy.REPORT;
+
+    void configure(long budgetNanos, int strikesToFlag, @Nonnull TickBudgetPolicy policy) {
+        this.budgetNanos = budgetNanos > 0 ? budgetNanos : DEFAULT_BUDGET_NANOS;
+        this.strikesToFlag = Math.max(1, strikesToFlag);
+        this.policy = policy;
+    }
+
+    /**
+     * Ticks the world's component, applying the budget policy.
+     */
+    void tick(@Nonnull BridgeWorld bWorld, float deltaTime) {
+        var guard = guards.computeIfAbsent(bWorld, Guard::new);
+        var component = bWorld.getBridgeWorldComponent();
+
+        float accumulatedDelta = guard.pendingDelta + deltaTime;
+        if (guard.applied == TickBudgetPolicy.QUARANTINE) {
+            guard.pendingDelta = accumulatedDelta;
+            return;
+        }
+        if (guard.applied == TickBudgetPolicy.THROTTLE && ++guard.skipped < THROTTLE_INTERVAL) {
+            guard.pendingDelta = accumulatedDelta;
+            return;
+        }
+        guard.skipped = 0;
+        guard.pendingDelta = 0f;
+
+        long budget = component.getTickBudgetNanos() > 0 ? component.getTickBudgetNanos() : budgetNanos;
+        if (guard.flagged) {
+            guard.callBudget = budget;
+            guard.callStart = System.nanoTime();
+            guard.callThread = Thread.currentThread();
+        }
+
+        var tickEvent = new ComponentTickEvent();
+        tickEvent.begin();
+        long start = System.nanoTime();
+        try {
+            component.onTick(bWorld, accumulatedDelta);
+        } catch (Exception e) {
+            BridgePlugin.logger().atSevere().withCause(e).log("Tick failed in world " + bWorld.bWorldName);
+            EventJournal.recordError(bWorld, e);
+        }
+        long elapsed = System.nanoTime() - start;
+        guard.callThread = null;
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.setWorld(bWorld);
+            tickEvent.componentClass = component.getClass();
+            tickEvent.commit();
+        }
+
+        guard.record(elapsed, budget);
+    }
+
+    /**
+     * Ticks the component normally again and clears its strikes. The guard is reset on the world thread, which
+     * owns its tick state; a world that is not loaded is not ticking, so it is reset directly.
+     */
+    void release(@Nonnull BridgeWorld bWorld) {
+        var guard = guards.get(bWorld);
+        if (guard == null) {
+            return;
+        }
+        var world = bWorld.getWorld();
+        if (world != null) {
+            world.execute(() -> reset(guard));
+        } else {
+            reset(guard);
+        }
+    }
+
+    private void reset(@Nonnull Guard guard) {
+        guard.flagged = false;
+        guard.strikes = 0;
+        guard.skipped = 0;
+        guard.pendingDelta = 0f;
+        guard.applied = TickBudgetPolicy.REPORT;
+        sampled.remove(guard);
+    }
+
+    void remove(@Nonnull BridgeWorld bWorld) {
+        var guard = guards.remove(bWorld);
+        if (guard != null) {
+            sampled.remove(guard);
+        }
+    }
+
+    @Nonnull
+    ComponentTickReport report(@Nonnull BridgeWorld bWorld) {
+        var guard = guards.computeIfAbsent(bWorld, Guard::new);
+        var component = bWorld.getBridgeWorldComponent();
+        long budget = component.getTickBudgetNanos() > 0 ? component.getTickBudgetNanos() : budgetNanos;
+        return new ComponentTickReport(bWorld, component.getClass(), budget, guard.averageNanos, guard.maxNanos,
+            guard.overruns, guard.flagged, guard.applied, guard.stackSample);
+    }
+
+    /**
+     * @return The moving average cost of the world's component per tick, in nanoseconds.
+     */
+    long getAverageNanos(@Nonnull BridgeWorld bWorld) {
+        var guard = guards.get(bWorld);
+        return guard != null ? guard.averageNanos : 0L;
+    }
+
+    private void flag(Guard guard, long budget) {
+        guard.flagged = true;
+        guard.applied = policy;
+        BridgePlugin.logger().atWarning().log("Component " + guard.bWorld.getBridgeWorldComponent().getClass().getName()
+            + " in world " + guard.bWorld.bWorldName + " exceeded its tick budget of " + budget / 1000 + "us "
+            + guard.strikes + " times (average " + guard.averageNanos / 1000 + "us), applying " + guard.applied);
+
+        sampled.add(guard);
+        startSampler();
+    }
+
+    private synchronized void startSampler() {
+        if (sampler == null) {
+            var executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "Bridge-TickWatchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.MILLISECONDS);
+            sampler = executor;
+        }
+    }
+
+    /**
+     * Stops the sampler if nothing is left to sample. A guard is added to {@link #sampled} before
+     * {@link #startSampler()} takes the lock, so it is either seen here or starts a new sampler.
+     */
+    private synchronized void stopSamplerIfIdle() {
+        if (sampler != null && sampled.isEmpty()) {
+            sampler.shutdown();
+            sampler = null;
+        }
+    }
+
+    /**
+     * Runs on the sampler thread: captures the stack of any flagged call that is past its budget.
+     */
+    private void sample() {
+        if (sampled.isEmpty()) {
+            stopSamplerIfIdle();
+            return;
+        }
+        long now = System.nanoTime();
+        for (var guard : sampled) {
+            var thread = guard.callThread;
+            if (thread == null || now - guard.callStart < guard.callBudget) {
+                continue;
+            }
+            var stack = thread.getStackTrace();
+            // The call may have finished while the stack was being captured.
+            if (guard.callThread != thread) {
+                continue;
+            }
+            guard.stackSample = stack;
+            sampled.remove(guard);
+
+            var message = new StringBuilder("Stack sample of over-budget component ")
+                .append(guard.bWorld.getBridgeWorldComponent().getClass().getName())
+                .append(" in world ").append(guard.bWorld.bWorldName);
+            for (var element : stack) {
+                message.append("\n\tat ").append(element);
+            }
+            BridgePlugin.logger().atWarning().log(message.toString());
+        }
+    }
+
+    private final class Guard {
+        private final BridgeWorld bWorld;
+
+        // Written by the ticking thread only, or by a release handed to it.
+        private int strikes;
+        private int skipped;
+        private float pendingDelta;
+        private volatile long averageNanos;
+        private volatile long maxNanos;
+        private volatile long overruns;
+        private volatile boolean flagged;
+        private volatile TickBudgetPolicy applied = TickBudgetPolicy.REPORT;
+
+        // Published to the sampler thread while flagged.
+        private volatile Thread callThread;
+        private volatile long callStart;
+        private volatile long callBudget;
+        private volatile StackTraceElement[] stackSample;
+
+        private Guard(BridgeWorld bWorld) {
+            this.bWorld = bWorld;
+        }
+
+        private void record(long elapsed, long budget) {
+            long average = averageNanos;
+            averageNanos = average == 0 ? elapsed : average + ((elapsed - average) >> EWMA_SHIFT);
+            if (elapsed > maxNanos) {
+                maxNanos = elapsed;
+            }
+
+            if (elapsed > budget) {
+                overruns++;
+                if (++strikes >= strikesToFlag && !flagged) {
+                    flag(this, budget);
+                }
+            } else if (strikes > 0) {
+                strikes--;
+            }
+        }
+    }
+}
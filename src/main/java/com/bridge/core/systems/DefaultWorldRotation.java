@@ -0,0 +1,108 @@
+package com.bridge.core.systems;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.RotationReport;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.placement.WorldPlacementService;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+
+/**
+ * Migrates the players of the previous default world to the new one after a rotation has switched the default,
+ * then retires it. The migration is a grouped {@link WorldDrain} of at most {@code playersPerTick} players per tick
+ * of the previous world; this class only tracks the tick times of both worlds and reports the outcome.
+ *
+ * <p>Players who join the previous world after the switch are redirected through the drain. The previous world is
+ * stopped once empty, unless the server still sends new connections to it; it is then hibernated and keeps
+ * redirecting them.
+ *
+ * <p>{@link #tick(long)} and {@link #redirect(PlayerRef)} must only be called from the previous world's thread.
+ */
+@Deprecated
+final class DefaultWorldRotation {
+    private final BridgeWorld previous;
+    private final BridgeWorld next;
+    private final WorldDrain drain;
+    private final long requestedNanos;
+    private final long switchedNanos;
+    private final long previousBaselineTickNanos;
+    private final long nextBaselineTickNanos;
+    private final CompletableFuture<RotationReport> future = new CompletableFuture<>();
+
+    // Only touched on the previous world thread.
+    private long previousPeakTickNanos;
+    private long nextPeakTickNanos;
+
+    DefaultWorldRotation(@Nonnull BridgeWorld previous, @Nonnull BridgeWorld next, int playersPerTick, long timeoutMillis,
+        long requestedNanos, long switchedNanos) {
+
+        this.previous = previous;
+        this.next = next;
+        this.requestedNanos = requestedNanos;
+        this.switchedNanos = switchedNanos;
+        this.previousBaselineTickNanos = WorldPlacementService.getLoad(previous).getAverageTickNanos();
+        this.nextBaselineTickNanos = WorldPlacementService.getLoad(next).getAverageTickNanos();
+        this.previousPeakTickNanos = previousBaselineTickNanos;
+        this.nextPeakTickNanos = nextBaselineTickNanos;
+        this.drain = new WorldDrain(previous, List.of(next.getWorld()), playersPerTick, timeoutMillis, true, this::retire);
+        drain.future().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            var report = new RotationReport(previous.bWorldName, next.bWorldName, switchedNanos - requestedNanos,
+                result.getDurationNanos(), System.nanoTime() - requestedNanos, result.getPlayersMoved(), result.getPlayersForced(),
+                drain.getRedirected(), result.getTicks(), drain.getMaxBatchNanos(), previousBaselineTickNanos, previousPeakTickNanos,
+                nextBaselineTickNanos, nextPeakTickNanos, drain.isStopped());
+            EventJournal.record(BridgeEventType.DEFAULT_WORLD_ROTATED, next, null, report.getTotalNanos(), report);
+            future.complete(report);
+        });
+    }
+
+    @Nonnull
+    CompletableFuture<RotationReport> future() {
+        return future;
+    }
+
+    boolean isFrom(@Nonnull BridgeWorld bWorld) {
+        return previous == bWorld;
+    }
+
+    /**
+     * Sends a player who joined the previous world after the switch on to the new one with the next batch.
+     */
+    void redirect(@Nonnull PlayerRef playerRef) {
+        drain.redirect(playerRef);
+    }
+
+    /**
+     * Advances the migration by one batch.
+     *
+     * @param now The current {@link System#nanoTime()}
+     * @return true once the previous world is empty and has been handed off for retiring
+     */
+    boolean tick(long now) {
+        previousPeakTickNanos = Math.max(previousPeakTickNanos, WorldPlacementService.getLoad(previous).getAverageTickNanos());
+        nextPeakTickNanos = Math.max(nextPeakTickNanos, WorldPlacementService.getLoad(next).getAverageTickNanos());
+        return drain.tick(now);
+    }
+
+    /**
+     * Hibernates the previous world if the server still sends new connections to it, stops it otherwise.
+     *
+     * @return true if it was stopped
+     */
+    private boolean retire() {
+        var system = BridgeWorldManagerSystem.get();
+        var serverDefault = Universe.get().getDefaultWorld();
+        if (serverDefault != null && serverDefault.getWorldConfig().getUuid().equals(previous.getWorld().getWorldConfig().getUuid())) {
+            system.hibernateWorld(previous);
+            return false;
+        }
+        return system.deactivateWorld(previous, next.getWorld());
+    }
+}
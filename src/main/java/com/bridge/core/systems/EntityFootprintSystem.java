@@ -0,0 +1,35 @@
+package com.bridge.core.systems;
+
+import com.bridge.core.diagnostics.WorldAccounting;
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Counts the entities in each world, players included, as they are added to and removed from its entity store.
+ */
+@Deprecated
+public final class EntityFootprintSystem extends RefSystem<EntityStore> {
+
+    @Override
+    public final Query<EntityStore> getQuery() {
+        return Query.any();
+    }
+
+    @Override
+    public final void onEntityAdded(Ref<EntityStore> ref, AddReason reason, Store<EntityStore> store, CommandBuffer<EntityStore> cmd) {
+        var entityStore = store.getExternalData();
+        WorldAccounting.entityAdded(entityStore != null ? entityStore.getWorld() : null);
+    }
+
+    @Override
+    public final void onEntityRemove(Ref<EntityStore> ref, RemoveReason reason, Store<EntityStore> store, CommandBuffer<EntityStore> cmd) {
+        var entityStore = store.getExternalData();
+        WorldAccounting.entityRemoved(entityStore != null ? entityStore.getWorld() : null);
+    }
+}
@@ -1,6 +1,13 @@
 package com.bridge.core.systems;
 
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeStats;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.diagnostics.jfr.ComponentCallbackEvent;
 import com.bridge.core.factory.BridgeWorldFactory;
+import com.bridge.core.replay.WorldReplays;
+import com.bridge.core.stats.StatsService;
+import com.bridge.core.storage.ComponentStateStore;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -25,6 +32,13 @@ public final class PlayerDeathSystem extends OnDeathSystem {
         var player = store.getComponent(ref, Player.getComponentType());
         var hWorld = player.getWorld();
         var bWorld = BridgeWorldFactory.getBridgeWorldFromWorld(hWorld, hWorld.getName(), null);
+        EventJournal.record(BridgeEventType.PLAYER_DEATH, bWorld, playerRef);
+        WorldReplays.event(bWorld, BridgeEventType.PLAYER_DEATH, playerRef);
+        StatsService.increment(bWorld, playerRef.getUuid(), BridgeStats.DEATHS, 1L);
+        ComponentStateStore.ensureRestored(bWorld);
+        var callbackEvent = new ComponentCallbackEvent();
+        callbackEvent.begin();
         bWorld.getBridgeWorldComponent().onPlayerDieInWorld(bWorld, playerRef);
+        callbackEvent.commitFor(bWorld, "onPlayerDieInWorld", playerRef);
     }
 }
@@ -1,7 +1,16 @@
 package com.bridge.core.systems;
 
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeStats;
+import com.bridge.core.diagnostics.EventJournal;
+import com.bridge.core.diagnostics.jfr.ComponentCallbackEvent;
 import com.bridge.core.factory.BridgeWorldFactory;
-import com.bridge.core.plugin.BridgePlugin;
+import com.bridge.core.factory.WorldIndex;
+import com.bridge.core.matchmaking.Matchmaker;
+import com.bridge.core.replay.WorldReplays;
+import com.bridge.core.stats.StatsService;
+import com.bridge.core.storage.ComponentStateStore;
+import com.bridge.core.placement.WorldPlacementService;
 import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
@@ -30,7 +39,18 @@ public final class PlayerJoinAndLeaveSystem extends RefSystem<EntityStore> {
         var hWorld = player.getWorld();
         if (hWorld != null) {
             var bWorld = BridgeWorldFactory.getBridgeWorldFromWorld(hWorld, hWorld.getName(), null);
+            BridgeWorldManagerSystem.get().wakeWorld(bWorld);
+            WorldPlacementService.getLoad(bWorld).playerJoined();
+            WorldIndex.refresh(bWorld);
+            EventJournal.record(BridgeEventType.PLAYER_JOIN, bWorld, playerRef);
+            WorldReplays.event(bWorld, BridgeEventType.PLAYER_JOIN, playerRef);
+            StatsService.increment(bWorld, playerRef.getUuid(), BridgeStats.JOINS, 1L);
+            ComponentStateStore.ensureRestored(bWorld);
+            var callbackEvent = new ComponentCallbackEvent();
+            callbackEvent.begin();
             bWorld.getBridgeWorldComponent().onPlayerJoinWorld(bWorld, playerRef);
+            callbackEvent.commitFor(bWorld, "onPlayerJoinWorld", playerRef);
+            BridgeWorldManagerSystem.get().redirectFromRetiredDefault(bWorld, playerRef);
         }
     }
 
@@ -43,9 +63,17 @@ public final class PlayerJoinAndLeaveSystem extends RefSystem<EntityStore> {
         var hWorld = player.getWorld();
         if (hWorld != null) {
             var bWorld = BridgeWorldFactory.getBridgeWorldFromWorld(hWorld, hWorld.getName(), null);
+            WorldPlacementService.getLoad(bWorld).playerLeft();
+            WorldIndex.refresh(bWorld);
+            EventJournal.record(BridgeEventType.PLAYER_LEAVE, bWorld, playerRef);
+            WorldReplays.event(bWorld, BridgeEventType.PLAYER_LEAVE, playerRef);
+            StatsService.increment(bWorld, playerRef.getUuid(), BridgeStats.LEAVES, 1L);
+            ComponentStateStore.ensureRestored(bWorld);
+            var callbackEvent = new ComponentCallbackEvent();
+            callbackEvent.begin();
             bWorld.getBridgeWorldComponent().onPlayerLeaveWorld(bWorld, playerRef);
-
-            BridgePlugin.logger().atFine().log("TEST");
+            callbackEvent.commitFor(bWorld, "onPlayerLeaveWorld", playerRef);
         }
+        Matchmaker.playerRemoved(playerRef.getUuid());
     }
 }
@@ -0,0 +1,249 @@
+package com.bridge.core.systems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.DrainResult;
+import com.bridge.core.diagnostics.EventJournal;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+/**
+ * Moves the players of a world out in fixed-size batches, one batch per tick of the source world, and retires
+ * the world once it is empty or the deadline has passed. By default retiring stops the world.
+ *
+ * <p>In grouped mode each batch is moved with one grouped transfer to the next target, rather than one transfer
+ * per player, so the batch arrives in the same target tick. Players handed to {@link #redirect(PlayerRef)} are
+ * sent on in the next tick, outside the batch limit.
+ *
+ * <p>At the deadline, players whose transfer has not been started yet are moved all at once to the first target.
+ * Players already in flight are left to their own transfer, and the world is only retired once every started
+ * transfer has completed, or {@link #SETTLE_TIMEOUT_SECONDS} later.
+ *
+ * <p>{@link #tick(long)} and {@link #redirect(PlayerRef)} must only be called from the source world's thread.
+ */
+@Deprecated
+final class WorldDrain {
+    /** How long a finished drain waits for transfers still in flight before retiring the world anyway. */
+    private static final long SETTLE_TIMEOUT_SECONDS = 10L;
+
+    private final BridgeWorld bWorld;
+    private final List<World> targets;
+    private final int playersPerTick;
+    private final boolean grouped;
+    private final BooleanSupplier retire;
+    private final long startNanos;
+    private final long deadlineNanos;
+    private final CompletableFuture<DrainResult> future = new CompletableFuture<>();
+
+    /**
+     * Players whose transfer has been started but not yet completed. Added to on the source world thread and
+     * removed from on the target world threads, so a transfer completing after the source world stopped does not
+     * need that world's thread.
+     */
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    /** Transfers started by this drain. Only touched on the source world thread. */
+    private final List<CompletableFuture<?>> transfers = new ArrayList<>();
+    private final List<PlayerRef> redirects = new ArrayList<>();
+    /** Transfers that completed successfully, counted on the target world threads. */
+    private final AtomicInteger moved = new AtomicInteger();
+    private final AtomicInteger redirected = new AtomicInteger();
+    private int nextTarget;
+    private int ticks;
+    private long maxBatchNanos;
+    private volatile boolean stopped;
+
+    /**
+     * Creates a drain that moves one player at a time and stops the world once it is empty.
+     */
+    WorldDrain(@Nonnull BridgeWorld bWorld, @Nonnull List<World> targets, int playersPerTick, long timeoutMillis) {
+        this(bWorld, targets, playersPerTick, timeoutMillis, false, null);
+    }
+
+    /**
+     * @param grouped Whether each batch is moved with one grouped transfer
+     * @param retire Run off the world thread once the world is empty, in place of stopping it. Returns true if it
+     *               stopped the world. Null to stop the world.
+     */
+    WorldDrain(@Nonnull BridgeWorld bWorld, @Nonnull List<World> targets, int playersPerTick, long timeoutMillis,
+        boolean grouped, @Nullable BooleanSupplier retire) {
+
+        this.bWorld = bWorld;
+        this.targets = List.copyOf(targets);
+        this.playersPerTick = Math.max(1, playersPerTick);
+        this.grouped = grouped;
+        this.retire = retire;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = startNanos + Math.max(0L, timeoutMillis) * 1_000_000L;
+    }
+
+    @Nonnull
+    CompletableFuture<DrainResult> future() {
+        return future;
+    }
+
+    @Nonnull
+    BridgeWorld getWorld() {
+        return bWorld;
+    }
+
+    /**
+     * @return The number of redirected players whose transfer succeeded.
+     */
+    int getRedirected() {
+        return redirected.get();
+    }
+
+    /**
+     * @return The longest time starting a batch held the source world's thread, in nanoseconds.
+     *         Read once {@link #future()} has completed.
+     */
+    long getMaxBatchNanos() {
+        return maxBatchNanos;
+    }
+
+    /**
+     * @return true if the world was stopped when it was retired. Read once {@link #future()} has completed.
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Sends a player who arrived in the source world after the drain started on with the next batch.
+     */
+    void redirect(@Nonnull PlayerRef playerRef) {
+        if (inFlight.add(playerRef.getUuid())) {
+            redirects.add(playerRef);
+        }
+    }
+
+    /**
+     * Advances the drain by one batch.
+     *
+     * @param now The current {@link System#nanoTime()}
+     * @return true once the drain has finished and the world has been handed off for retiring
+     */
+    boolean tick(long now) {
+        ticks++;
+        World hWorld = bWorld.getWorld();
+        if (!redirects.isEmpty()) {
+            var batch = new ArrayList<>(redirects);
+            redirects.clear();
+            start(batch, targets.get(0), redirected);
+        }
+
+        var players = hWorld.getPlayerRefs();
+        if (now - deadlineNanos >= 0) {
+            var forced = new ArrayList<PlayerRef>();
+            for (PlayerRef playerRef : players) {
+                if (inFlight.add(playerRef.getUuid())) {
+                    forced.add(playerRef);
+                }
+            }
+            if (!forced.isEmpty()) {
+                start(forced, targets.get(0), null);
+            }
+            finish(hWorld, forced.size(), now, true);
+            return true;
+        }
+
+        if (players.isEmpty()) {
+            finish(hWorld, 0, now, false);
+            return true;
+        }
+
+        long batchStart = System.nanoTime();
+        transfers.removeIf(CompletableFuture::isDone);
+        var batch = new ArrayList<PlayerRef>(Math.min(playersPerTick, players.size()));
+        for (PlayerRef playerRef : players) {
+            if (batch.size() >= playersPerTick) {
+                break;
+            }
+            if (!inFlight.add(playerRef.getUuid())) {
+                continue;
+            }
+            batch.add(playerRef);
+            if (!grouped) {
+                start(List.of(playerRef), nextTarget(), moved);
+            }
+        }
+        if (grouped && !batch.isEmpty()) {
+            start(batch, nextTarget(), moved);
+        }
+        maxBatchNanos = Math.max(maxBatchNanos, System.nanoTime() - batchStart);
+        return false;
+    }
+
+    @Nonnull
+    private World nextTarget() {
+        World target = targets.get(nextTarget);
+        nextTarget = (nextTarget + 1) % targets.size();
+        return target;
+    }
+
+    /**
+     * Starts moving players whose UUIDs are already in {@link #inFlight}.
+     *
+     * @param counter Incremented for every player moved, or null
+     */
+    private void start(@Nonnull List<PlayerRef> batch, @Nonnull World target, @Nullable AtomicInteger counter) {
+        var system = BridgeWorldManagerSystem.get();
+        CompletableFuture<?> transfer;
+        if (batch.size() == 1) {
+            transfer = system.transferPlayer(batch.get(0), target)
+                .thenAccept(ref -> {
+                    if (counter != null) {
+                        counter.incrementAndGet();
+                    }
+                });
+        } else {
+            transfer = system.transferPlayers(batch, target)
+                .thenAccept(added -> {
+                    if (counter != null) {
+                        counter.addAndGet(added.size());
+                    }
+                });
+        }
+        // A failed transfer leaves the player here, so let a later batch retry it.
+        transfers.add(transfer.whenComplete((ignored, throwable) -> batch.forEach(playerRef -> inFlight.remove(playerRef.getUuid()))));
+    }
+
+    private void finish(World hWorld, int forced, long now, boolean timedOut) {
+        int tickCount = ticks;
+        // Stopping joins the world thread, so it must not run from inside this world's tick. A transfer still
+        // queued on this thread would otherwise run against a stopped world.
+        CompletableFuture.allOf(transfers.toArray(CompletableFuture<?>[]::new))
+            .handle((ignored, throwable) -> null)
+            .completeOnTimeout(null, SETTLE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .thenApplyAsync(ignored -> {
+                var result = new DrainResult(moved.get(), forced, tickCount, now - startNanos, timedOut);
+                EventJournal.record(BridgeEventType.WORLD_DRAINED, bWorld, null, result.getDurationNanos(), result);
+                if (retire != null) {
+                    stopped = retire.getAsBoolean();
+                } else {
+                    hWorld.stopIndividualWorld();
+                    stopped = true;
+                }
+                return result;
+            })
+            .whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    EventJournal.recordError(bWorld, throwable);
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(result);
+                }
+            });
+    }
+}
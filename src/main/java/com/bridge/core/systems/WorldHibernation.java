@@ -0,0 +1,151 @@
+package com.bridge.core.systems;
+
+import java.lang.reflect.Method;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.bridge.api.modules.BridgeWorld;
+import com.bridge.api.modules.HibernationReport;
+import com.bridge.core.plugin.BridgePlugin;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+/**
+ * Hibernation state and savings of one world.
+ *
+ * <p>While hibernating, the world's component is not ticked. Where the server exposes a per-world tick rate,
+ * it is lowered to {@link #HIBERNATE_TPS}; every tick that still runs then stands in for {@link #getStride()}
+ * ticks at the normal rate, so scheduled tasks keep their real-time delays. Chunks stay resident throughout.
+ *
+ * <p>{@link #enter()}, {@link #exit()} and {@link #skipTick(long)} must be called on the world thread.
+ */
+@Deprecated
+final class WorldHibernation {
+    /** Ticks per second requested from the server while hibernating. */
+    private static final int HIBERNATE_TPS = 2;
+
+    private final BridgeWorld bWorld;
+
+    private volatile boolean hibernating;
+    private volatile boolean tickRateReduced;
+    private volatile int hibernations;
+    private volatile long since;
+    private volatile long hibernatedNanos;
+    private volatile long componentTicksSkipped;
+    private volatile long componentNanosSaved;
+    private volatile long serverTicksSkipped;
+
+    // World thread only.
+    private int previousTps;
+    private int stride = 1;
+
+    WorldHibernation(@Nonnull BridgeWorld bWorld) {
+        this.bWorld = bWorld;
+    }
+
+    boolean isHibernating() {
+        return hibernating;
+    }
+
+    /**
+     * @return The number of normal-rate ticks each tick stands for while hibernating.
+     */
+    int getStride() {
+        return stride;
+    }
+
+    /**
+     * @return false if the world was already hibernating
+     */
+    boolean enter() {
+        if (hibernating) {
+            return false;
+        }
+        hibernating = true;
+        hibernations++;
+        since = System.nanoTime();
+
+        var world = bWorld.getWorld();
+        int tps = getTps(world);
+        tickRateReduced = tps > HIBERNATE_TPS && setTps(world, HIBERNATE_TPS);
+        if (tickRateReduced) {
+            previousTps = tps;
+            stride = Math.round((float) tps / HIBERNATE_TPS);
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the world was not hibernating
+     */
+    boolean exit() {
+        if (!hibernating) {
+            return false;
+        }
+        if (tickRateReduced) {
+            setTps(bWorld.getWorld(), previousTps);
+        }
+        stride = 1;
+        hibernatedNanos += System.nanoTime() - since;
+        hibernating = false;
+        return true;
+    }
+
+    /**
+     * Accounts for a tick the component did not get.
+     *
+     * @param componentAverageNanos The component's current average tick cost
+     */
+    void skipTick(long componentAverageNanos) {
+        componentTicksSkipped += stride;
+        componentNanosSaved += stride * componentAverageNanos;
+        serverTicksSkipped += stride - 1;
+    }
+
+    @Nonnull
+    HibernationReport report() {
+        boolean current = hibernating;
+        long total = hibernatedNanos + (current ? System.nanoTime() - since : 0L);
+        return new HibernationReport(bWorld, current, tickRateReduced, hibernations, total, componentTicksSkipped,
+            componentNanosSaved, serverTicksSkipped);
+    }
+
+    /**
+     * @return The world's tick rate, or 0 if the server does not expose it
+     */
+    private static int getTps(@Nullable World world) {
+        var method = findMethod(world, "getTps");
+        if (method == null) {
+            return 0;
+        }
+        try {
+            return ((Number) method.invoke(world)).intValue();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return 0;
+        }
+    }
+
+    private static boolean setTps(@Nullable World world, int tps) {
+        var method = findMethod(world, "setTps", int.class);
+        if (method == null) {
+            return false;
+        }
+        try {
+            method.invoke(world, tps);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            BridgePlugin.logger().atWarning().withCause(e).log("Failed to change tick rate of world " + world.getName());
+            return false;
+        }
+    }
+
+    @Nullable
+    private static Method findMethod(@Nullable World world, @Nonnull String name, Class<?>... parameterTypes) {
+        if (world == null) {
+            return null;
+        }
+        try {
+            return world.getClass().getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.bridge.core.regions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import com.bridge.api.modules.BuildAction;
+import com.bridge.api.modules.BuildRegion;
+
+class BuildRegionIndexTest {
+    private static final UUID OWNER = UUID.randomUUID();
+    private static final UUID STRANGER = UUID.randomUUID();
+
+    @Test
+    void allowsEverythingWithoutRegions() {
+        assertTrue(BuildRegionIndex.EMPTY.isAllowed(STRANGER, BuildAction.BREAK, 0, 0, 0));
+        assertTrue(BuildRegionIndex.EMPTY.isEmpty());
+    }
+
+    @Test
+    void highestPriorityRegionDecides() {
+        var index = BuildRegionIndex.EMPTY.with(List.of(
+            new BuildRegion("map", -512, 0, -512, 511, 319, 511).deny(BuildAction.BREAK, BuildAction.PLACE),
+            new BuildRegion("arena", -40, 60, -40, 39, 120, 39).priority(10).allow(BuildAction.BREAK)));
+
+        assertTrue(index.isAllowed(STRANGER, BuildAction.BREAK, 0, 64, 0));
+        assertFalse(index.isAllowed(STRANGER, BuildAction.BREAK, 0, 10, 0), "below the arena");
+        assertFalse(index.isAllowed(STRANGER, BuildAction.BREAK, 100, 64, 100));
+        // The arena says nothing about placing, so the map below it decides.
+        assertFalse(index.isAllowed(STRANGER, BuildAction.PLACE, 0, 64, 0));
+        assertTrue(index.isAllowed(STRANGER, BuildAction.BREAK, 1000, 64, 1000), "outside every region");
+        assertTrue(index.isAllowed(STRANGER, BuildAction.GATHER, 0, 64, 0), "no region decides");
+    }
+
+    @Test
+    void laterRegionWinsAtEqualPriority() {
+        var index = BuildRegionIndex.EMPTY.with(List.of(
+            new BuildRegion("a", 0, 0, 0, 10, 10, 10).deny(BuildAction.BREAK),
+            new BuildRegion("b", 0, 0, 0, 10, 10, 10).allow(BuildAction.BREAK)));
+        assertTrue(index.isAllowed(STRANGER, BuildAction.BREAK, 5, 5, 5));
+
+        var readded = index.with(List.of(new BuildRegion("a", 0, 0, 0, 10, 10, 10).deny(BuildAction.BREAK)));
+        assertFalse(readded.isAllowed(STRANGER, BuildAction.BREAK, 5, 5, 5));
+        assertEquals(2, readded.getRegions().size());
+    }
+
+    @Test
+    void membersMayDoWhatTheRegionDenies() {
+        var index = BuildRegionIndex.EMPTY.with(List.of(
+            new BuildRegion("plot", 0, 0, 0, 15, 255, 15).deny(BuildAction.PLACE).addMember(OWNER)));
+
+        assertTrue(index.isAllowed(OWNER, BuildAction.PLACE, 3, 70, 3));
+        assertFalse(index.isAllowed(STRANGER, BuildAction.PLACE, 3, 70, 3));
+        assertFalse(index.isAllowed(null, BuildAction.PLACE, 3, 70, 3), "no player is never a member");
+    }
+
+    @Test
+    void regionsAreCopied() {
+        var region = new BuildRegion("plot", 0, 0, 0, 15, 255, 15).deny(BuildAction.PLACE);
+        var index = BuildRegionIndex.EMPTY.with(List.of(region));
+        region.addMember(OWNER);
+
+        assertFalse(index.isAllowed(OWNER, BuildAction.PLACE, 3, 70, 3));
+        assertTrue(index.getRegion("plot").getMembers().isEmpty());
+    }
+
+    @Test
+    void removesRegionsById() {
+        var index = BuildRegionIndex.EMPTY.with(List.of(new BuildRegion("spawn", -8, 0, -8, 8, 255, 8).deny(BuildAction.BREAK)));
+
+        assertSame(index, index.without(List.of("missing")));
+        var removed = index.without(List.of("spawn"));
+        assertSame(BuildRegionIndex.EMPTY, removed);
+        assertNull(removed.getRegion("spawn"));
+        assertTrue(removed.isAllowed(STRANGER, BuildAction.BREAK, 0, 64, 0));
+    }
+
+    /**
+     * Mixes small, wide and map-sized regions, which land in different buckets, and checks every lookup
+     * against a scan of all regions.
+     */
+    @Test
+    void matchesALinearScanAcrossBucketSizes() {
+        var random = new Random(3);
+        var regions = new ArrayList<BuildRegion>();
+        for (int i = 0; i < 400; i++) {
+            int size = i % 20 == 0 ? 40_000 : i % 5 == 0 ? 3_000 : 1 + random.nextInt(100);
+            int x = random.nextInt(20_000) - 10_000;
+            int z = random.nextInt(20_000) - 10_000;
+            var region = new BuildRegion("r" + i, x, 0, z, x + size, 64 + random.nextInt(200), z + size)
+                .priority(random.nextInt(5));
+            if (random.nextBoolean()) {
+                region.allow(BuildAction.BREAK);
+            } else {
+                region.deny(BuildAction.BREAK);
+            }
+            if (random.nextInt(4) == 0) {
+                region.addMember(OWNER);
+            }
+            regions.add(region);
+        }
+        var index = BuildRegionIndex.EMPTY.with(regions);
+
+        for (int i = 0; i < 20_000; i++) {
+            int x = random.nextInt(30_000) - 15_000;
+            int y = random.nextInt(256);
+            int z = random.nextInt(30_000) - 15_000;
+            UUID player = random.nextBoolean() ? OWNER : STRANGER;
+            assertEquals(scan(regions, player, x, y, z), index.isAllowed(player, BuildAction.BREAK, x, y, z),
+                "at " + x + ", " + y + ", " + z);
+        }
+    }
+
+    private static boolean scan(List<BuildRegion> regions, UUID player, int x, int y, int z) {
+        BuildRegion decider = null;
+        for (var region : regions) {
+            // Later regions win ties, as they were added after.
+            if (region.contains(x, y, z) && (decider == null || region.getPriority() >= decider.getPriority())) {
+                decider = region;
+            }
+        }
+        if (decider == null || decider.getAllowed().contains(BuildAction.BREAK)) {
+            return true;
+        }
+        return decider.getMembers().contains(player);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bridge.core.replay;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Players walking randomly, replayable from the same seed.
+ */
+final class RandomWalk {
+    final UUID[] uuids;
+    final String[] names;
+    final double[] x;
+    final double[] y;
+    final double[] z;
+    final float[] yaw;
+    final float[] pitch;
+    private final Random random;
+
+    RandomWalk(int players, long seed) {
+        random = new Random(seed);
+        uuids = new UUID[players];
+        names = new String[players];
+        x = new double[players];
+        y = new double[players];
+        z = new double[players];
+        yaw = new float[players];
+        pitch = new float[players];
+        for (int i = 0; i < players; i++) {
+            uuids[i] = new UUID(random.nextLong(), random.nextLong());
+            names[i] = "Player" + i;
+            x[i] = random.nextDouble() * 1000 - 500;
+            y[i] = 64 + random.nextDouble() * 10;
+            z[i] = random.nextDouble() * 1000 - 500;
+        }
+    }
+
+    void step() {
+        for (int i = 0; i < x.length; i++) {
+            x[i] += random.nextGaussian() * 0.2;
+            y[i] += random.nextGaussian() * 0.05;
+            z[i] += random.nextGaussian() * 0.2;
+            yaw[i] = (float) ((random.nextDouble() * 2 - 1) * Math.PI);
+            pitch[i] = (float) ((random.nextDouble() - 0.5) * Math.PI);
+        }
+    }
+
+    /**
+     * Encodes the current positions as one frame, the way the recorder does for a world tick.
+     *
+     * @return The number of players encoded
+     */
+    int encode(ReplayEncoder encoder, long tickDelta) {
+        encoder.begin(false);
+        int players = 0;
+        while (players < uuids.length
+            && encoder.player(uuids[players], names[players], x[players], y[players], z[players], yaw[players], pitch[players])) {
+            players++;
+        }
+        encoder.endFrame(tickDelta);
+        return players;
+    }
+}
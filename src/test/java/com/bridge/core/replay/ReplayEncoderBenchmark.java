@@ -0,0 +1,39 @@
+package com.bridge.core.replay;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Measures the per-tick cost of recording a 100 player world, declarations aside. Excluded from {@code test};
+ * run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class ReplayEncoderBenchmark {
+    private static final int PLAYERS = 100;
+    private static final int WARMUP_FRAMES = 10_000;
+    private static final int MEASURED_FRAMES = 50_000;
+
+    @Test
+    void encodesAHundredPlayerFrameInMicroseconds(TestReporter reporter) {
+        var walk = new RandomWalk(PLAYERS, 7L);
+        var encoder = new ReplayEncoder();
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+            walk.step();
+            walk.encode(encoder, 1L);
+        }
+
+        long encodeNanos = 0;
+        for (int frame = 0; frame < MEASURED_FRAMES; frame++) {
+            walk.step();
+            long start = System.nanoTime();
+            walk.encode(encoder, 1L);
+            encodeNanos += System.nanoTime() - start;
+        }
+        long nanosPerFrame = encodeNanos / MEASURED_FRAMES;
+        reporter.publishEntry("nanosPerFrame", Long.toString(nanosPerFrame));
+        assertTrue(nanosPerFrame < 50_000L, nanosPerFrame + " ns per frame");
+    }
+}
@@ -0,0 +1,202 @@
+package com.bridge.core.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.bridge.api.modules.BridgeEventType;
+import com.bridge.api.modules.ReplayReader;
+
+/**
+ * Encodes replays with the recorder's encoder and plays them back with {@link ReplayReader}.
+ */
+class ReplayEncoderTest {
+    private static final int PLAYERS = 100;
+    private static final int FRAMES = 2_000;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void playsBackRandomWalkWithinQuantisationError() throws IOException {
+        var walk = new RandomWalk(PLAYERS, 42L);
+        var encoder = new ReplayEncoder();
+        var file = new ByteArrayOutputStream();
+        file.write(ReplayEncoder.header("world", "template", 0L, 1));
+        long entryBytes = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            walk.step();
+            assertEquals(PLAYERS, walk.encode(encoder, 1L));
+            write(file, encoder);
+            entryBytes += encoder.getEntriesLength();
+        }
+        encoder.begin(false);
+        encoder.end(0L);
+        write(file, encoder);
+        Path path = folder.resolve("walk.replay");
+        Files.write(path, file.toByteArray());
+
+        var replay = new RandomWalk(PLAYERS, 42L);
+        double maxPositionError = 0;
+        double maxAngleError = 0;
+        int frames = 0;
+        try (var reader = ReplayReader.open(path)) {
+            assertEquals("world", reader.getWorldName());
+            assertEquals("template", reader.getTemplate());
+            assertEquals(1, reader.getSampleEveryTicks());
+            while (reader.next()) {
+                assertTrue(reader.isFrame());
+                replay.step();
+                frames++;
+                assertEquals(frames, reader.getTick());
+                assertEquals(PLAYERS, reader.getPlayerCount());
+                for (int i = 0; i < PLAYERS; i++) {
+                    assertEquals(replay.uuids[i], reader.getPlayerUuid(i));
+                    maxPositionError = Math.max(maxPositionError, Math.abs(reader.getX(i) - replay.x[i]));
+                    maxPositionError = Math.max(maxPositionError, Math.abs(reader.getY(i) - replay.y[i]));
+                    maxPositionError = Math.max(maxPositionError, Math.abs(reader.getZ(i) - replay.z[i]));
+                    maxAngleError = Math.max(maxAngleError, angleBetween(reader.getYaw(i), replay.yaw[i]));
+                    maxAngleError = Math.max(maxAngleError, angleBetween(reader.getPitch(i), replay.pitch[i]));
+                }
+            }
+            assertEquals(FRAMES, reader.getTick());
+        }
+
+        assertEquals(FRAMES, frames);
+        assertTrue(maxPositionError <= 0.5 / ReplayFormat.POSITION_SCALE + 1e-9, "position error " + maxPositionError);
+        assertTrue(maxAngleError <= Math.PI / ReplayFormat.ANGLE_STEPS + 1e-6, "angle error " + maxAngleError);
+        double bytesPerSample = (double) entryBytes / ((long) FRAMES * PLAYERS);
+        assertTrue(bytesPerSample < 8, "bytes per sample " + bytesPerSample);
+    }
+
+    @Test
+    void stopsAtTheLastCompleteRecordOfATruncatedFile() throws IOException {
+        var walk = new RandomWalk(4, 1L);
+        var encoder = new ReplayEncoder();
+        var file = new ByteArrayOutputStream();
+        file.write(ReplayEncoder.header("world", "template", 0L, 1));
+        for (int frame = 1; frame <= 3; frame++) {
+            walk.step();
+            walk.encode(encoder, 1L);
+            write(file, encoder);
+        }
+        byte[] bytes = file.toByteArray();
+        Path path = folder.resolve("cut.replay");
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        try (var reader = ReplayReader.open(path)) {
+            assertTrue(reader.next());
+            assertTrue(reader.next());
+            assertEquals(2, reader.getTick());
+            assertFalse(reader.next());
+            assertFalse(reader.next());
+        }
+    }
+
+    /**
+     * A reset stands in for dropped records, so what follows it must play back without any earlier slot or baseline.
+     */
+    @Test
+    void redeclaresPlayersAfterAReset() throws IOException {
+        var player = UUID.randomUUID();
+        var encoder = new ReplayEncoder();
+        var file = new ByteArrayOutputStream();
+        file.write(ReplayEncoder.header("world", "template", 0L, 1));
+
+        encoder.begin(false);
+        encoder.event(5L, BridgeEventType.PLAYER_JOIN, player, "Alice");
+        write(file, encoder);
+        encoder.begin(false);
+        assertTrue(encoder.player(player, "Alice", 10.0, 64.0, -3.5, 0f, 0f));
+        encoder.endFrame(1L);
+        write(file, encoder);
+
+        // A frame that was encoded but then dropped moves the encoder's baseline without the file knowing.
+        encoder.begin(false);
+        assertTrue(encoder.player(player, "Alice", 500.0, 70.0, 500.0, 1f, 0.5f));
+        encoder.endFrame(1L);
+
+        encoder.begin(true);
+        assertTrue(encoder.player(player, "Alice", 12.0, 65.0, -4.0, 0f, 0f));
+        encoder.endFrame(2L);
+        write(file, encoder);
+        encoder.begin(false);
+        encoder.event(1L, BridgeEventType.PLAYER_LEAVE, player, "Alice");
+        write(file, encoder);
+        encoder.begin(false);
+        encoder.event(0L, BridgeEventType.WORLD_DRAINED, null, null);
+        write(file, encoder);
+        Path path = folder.resolve("events.replay");
+        Files.write(path, file.toByteArray());
+
+        try (var reader = ReplayReader.open(path)) {
+            assertTrue(reader.next());
+            assertFalse(reader.isFrame());
+            assertEquals(BridgeEventType.PLAYER_JOIN, reader.getEventType());
+            assertEquals(player, reader.getEventPlayerUuid());
+            assertEquals(5, reader.getTick());
+
+            assertTrue(reader.next());
+            assertTrue(reader.isFrame());
+            assertEquals(10.0, reader.getX(0), 1e-9);
+
+            assertTrue(reader.next());
+            assertTrue(reader.isFrame());
+            assertEquals(8, reader.getTick());
+            assertEquals(player, reader.getPlayerUuid(0));
+            assertEquals(12.0, reader.getX(0), 1e-9);
+            assertEquals(65.0, reader.getY(0), 1e-9);
+            assertEquals(-4.0, reader.getZ(0), 1e-9);
+
+            assertTrue(reader.next());
+            assertEquals(BridgeEventType.PLAYER_LEAVE, reader.getEventType());
+            assertEquals(player, reader.getEventPlayerUuid());
+
+            assertTrue(reader.next());
+            assertEquals(BridgeEventType.WORLD_DRAINED, reader.getEventType());
+            assertNull(reader.getEventPlayerUuid());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void endsAFrameWhenTheScratchBuffersAreFull() throws IOException {
+        var walk = new RandomWalk(10_000, 3L);
+        var encoder = new ReplayEncoder();
+        walk.step();
+        int players = walk.encode(encoder, 1L);
+        assertTrue(players > 0 && players < 10_000, players + " players");
+
+        var file = new ByteArrayOutputStream();
+        file.write(ReplayEncoder.header("world", "template", 0L, 1));
+        write(file, encoder);
+        Path path = folder.resolve("full.replay");
+        Files.write(path, file.toByteArray());
+
+        try (var reader = ReplayReader.open(path)) {
+            assertTrue(reader.next());
+            assertEquals(players, reader.getPlayerCount());
+            assertEquals(walk.uuids[players - 1], reader.getPlayerUuid(players - 1));
+            assertFalse(reader.next());
+        }
+    }
+
+    private static void write(ByteArrayOutputStream file, ReplayEncoder encoder) {
+        file.write(encoder.declarations, 0, encoder.getDeclaredLength());
+        file.write(encoder.entries, 0, encoder.getEntriesLength());
+    }
+
+    private static double angleBetween(float read, float written) {
+        double difference = Math.abs(read - written) % (2 * Math.PI);
+        return Math.min(difference, 2 * Math.PI - difference);
+    }
+}
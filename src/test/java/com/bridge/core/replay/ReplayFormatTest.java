@@ -0,0 +1,104 @@
+package com.bridge.core.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class ReplayFormatTest {
+
+    @Test
+    void roundTripsVarLongs() throws IOException {
+        long[] values = { 0L, 1L, 127L, 128L, 300L, 16_383L, 16_384L, Integer.MAX_VALUE, 1L << 40, Long.MAX_VALUE, -1L };
+        byte[] buffer = new byte[values.length * 10];
+        int position = 0;
+        for (long value : values) {
+            position = ReplayFormat.writeVarLong(buffer, position, value);
+        }
+
+        var in = input(buffer, position);
+        for (long value : values) {
+            assertEquals(value, ReplayFormat.readVarLong(in));
+        }
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    void usesOneByteForSmallValues() {
+        byte[] buffer = new byte[10];
+        assertEquals(1, ReplayFormat.writeVarLong(buffer, 0, 127L));
+        assertEquals(2, ReplayFormat.writeVarLong(buffer, 0, 128L));
+        assertEquals(1, ReplayFormat.writeZigZag(buffer, 0, -64));
+        assertEquals(1, ReplayFormat.writeZigZag(buffer, 0, 63));
+        assertEquals(2, ReplayFormat.writeZigZag(buffer, 0, 64));
+        assertEquals(5, ReplayFormat.writeZigZag(buffer, 0, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void roundTripsZigZagDeltas() throws IOException {
+        int[] values = { 0, 1, -1, 63, -64, 64, -65, 1_000_000, -1_000_000, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        byte[] buffer = new byte[values.length * 5];
+        int position = 0;
+        for (int value : values) {
+            position = ReplayFormat.writeZigZag(buffer, position, value);
+        }
+
+        var in = input(buffer, position);
+        for (int value : values) {
+            assertEquals(value, ReplayFormat.readZigZag(in));
+        }
+    }
+
+    @Test
+    void roundTripsLongs() throws IOException {
+        byte[] buffer = new byte[16];
+        int position = ReplayFormat.writeLong(buffer, 0, 0x0123456789ABCDEFL);
+        position = ReplayFormat.writeLong(buffer, position, -2L);
+
+        var in = input(buffer, position);
+        assertEquals(0x0123456789ABCDEFL, in.readLong());
+        assertEquals(-2L, in.readLong());
+    }
+
+    @Test
+    void rejectsMalformedVarInts() {
+        byte[] endless = new byte[11];
+        Arrays.fill(endless, (byte) 0x80);
+        assertThrows(IOException.class, () -> ReplayFormat.readVarLong(input(endless, endless.length)));
+
+        byte[] buffer = new byte[10];
+        int position = ReplayFormat.writeVarLong(buffer, 0, Integer.MAX_VALUE + 1L);
+        assertThrows(IOException.class, () -> ReplayFormat.readVarInt(input(buffer, position)));
+    }
+
+    @Test
+    void quantisesPositionsToAThirtySecondOfABlock() {
+        for (double blocks : new double[] { 0.0, 0.015, -0.015, 12.34, -12.34, 29_999_999.9 }) {
+            double restored = ReplayFormat.position(ReplayFormat.quantizePosition(blocks));
+            assertTrue(Math.abs(restored - blocks) <= 0.5 / ReplayFormat.POSITION_SCALE + 1e-6, blocks + " -> " + restored);
+        }
+    }
+
+    @Test
+    void quantisesAnglesIntoOneTurn() {
+        for (float radians = (float) -Math.PI * 3; radians <= Math.PI * 3; radians += 0.01f) {
+            int quantized = ReplayFormat.quantizeAngle(radians);
+            assertTrue(quantized >= 0 && quantized < ReplayFormat.ANGLE_STEPS);
+            float restored = ReplayFormat.angle(quantized);
+            // -pi itself only rounds to the nearest float.
+            assertTrue(Math.abs(restored) <= Math.PI + 1e-6, radians + " -> " + restored);
+            double difference = Math.abs(restored - radians) % (2 * Math.PI);
+            difference = Math.min(difference, 2 * Math.PI - difference);
+            assertTrue(difference <= Math.PI / ReplayFormat.ANGLE_STEPS + 1e-5, radians + " -> " + restored);
+        }
+    }
+
+    private static DataInputStream input(byte[] buffer, int length) {
+        return new DataInputStream(new ByteArrayInputStream(buffer, 0, length));
+    }
+}
@@ -0,0 +1,179 @@
+package com.bridge.core.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import com.bridge.api.modules.ScheduledTask;
+
+class TimerWheelTest {
+
+    /**
+     * Delays on both sides of every level boundary, and past the range of the wheel.
+     */
+    @Test
+    void runsOneShotTasksOnTheirDeadline() {
+        long[] delays = {1L, 2L, 63L, 64L, 65L, 127L, 4095L, 4096L, 4097L, 262_143L, 262_144L, 262_145L,
+            (1L << 24) - 1, 1L << 24, (1L << 24) + 1, (1L << 24) + 12_345L};
+        var wheel = new TimerWheel();
+        // Advance once first, so the later tasks are filed from a tick that is not aligned to any level.
+        wheel.advance();
+        long start = wheel.getCurrentTick();
+
+        long[] ranAt = new long[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            wheel.schedule(delays[i], 0L, () -> ranAt[index] = wheel.getCurrentTick());
+        }
+        assertEquals(delays.length, wheel.size());
+
+        long last = delays[delays.length - 1];
+        for (long tick = 0; tick < last; tick++) {
+            wheel.advance();
+        }
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(start + delays[i], ranAt[i], "delay " + delays[i]);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void runsTasksWithoutDelayOnTheNextTick() {
+        var wheel = new TimerWheel();
+        var ran = new ArrayList<Long>();
+        wheel.schedule(0L, 0L, () -> ran.add(wheel.getCurrentTick()));
+        wheel.schedule(-5L, 0L, () -> ran.add(wheel.getCurrentTick()));
+
+        assertEquals(2, wheel.advance());
+        assertEquals(List.of(1L, 1L), ran);
+        assertEquals(0, wheel.advance());
+    }
+
+    @Test
+    void repeatsPeriodicTasks() {
+        var wheel = new TimerWheel();
+        var ran = new ArrayList<Long>();
+        var task = wheel.schedule(3L, 100L, () -> ran.add(wheel.getCurrentTick()));
+
+        for (int tick = 0; tick < 403; tick++) {
+            wheel.advance();
+        }
+        assertEquals(List.of(3L, 103L, 203L, 303L, 403L), ran);
+        assertFalse(task.isDone());
+        assertEquals(1, wheel.size());
+
+        assertTrue(task.cancel());
+        assertTrue(task.isDone());
+        for (int tick = 0; tick < 200; tick++) {
+            wheel.advance();
+        }
+        assertEquals(5, ran.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void skipsCancelledTasks() {
+        var wheel = new TimerWheel();
+        wheel.advance();
+        var ran = new ArrayList<String>();
+        var kept = wheel.schedule(5L, 0L, () -> ran.add("kept"));
+        var cancelled = wheel.schedule(5L, 0L, () -> ran.add("cancelled"));
+        var far = wheel.schedule(5_000L, 0L, () -> ran.add("far"));
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(far.cancel());
+        assertEquals(1, wheel.size());
+
+        for (int tick = 0; tick < 5_000; tick++) {
+            wheel.advance();
+        }
+        assertEquals(List.of("kept"), ran);
+        assertTrue(kept.isDone());
+        assertFalse(kept.isCancelled());
+        assertFalse(kept.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void letsTasksCancelOthersInTheSameSlot() {
+        var wheel = new TimerWheel();
+        var ran = new ArrayList<String>();
+        var tasks = new ArrayList<ScheduledTask>();
+        // Tasks in a slot run newest first, so the last one scheduled cancels the two before it.
+        tasks.add(wheel.schedule(2L, 0L, () -> ran.add("first")));
+        tasks.add(wheel.schedule(2L, 0L, () -> ran.add("second")));
+        wheel.schedule(2L, 0L, () -> {
+            ran.add("canceller");
+            tasks.forEach(ScheduledTask::cancel);
+        });
+
+        wheel.advance();
+        assertEquals(1, wheel.advance());
+        assertEquals(List.of("canceller"), ran);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void letsPeriodicTasksCancelThemselves() {
+        var wheel = new TimerWheel();
+        var self = new AtomicReference<ScheduledTask>();
+        var runs = new int[1];
+        self.set(wheel.schedule(1L, 1L, () -> {
+            if (++runs[0] == 3) {
+                self.get().cancel();
+            }
+        }));
+
+        for (int tick = 0; tick < 10; tick++) {
+            wheel.advance();
+        }
+        assertEquals(3, runs[0]);
+        assertTrue(self.get().isCancelled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void acceptsTasksAndCancellationsFromOtherThreads() throws Exception {
+        var wheel = new TimerWheel();
+        // Makes the test thread the owner.
+        wheel.advance();
+
+        var ran = new ArrayList<Long>();
+        var handles = new ArrayList<ScheduledTask>();
+        var scheduler = new Thread(() -> {
+            for (int i = 1; i <= 100; i++) {
+                long delay = i;
+                handles.add(wheel.schedule(delay, 0L, () -> ran.add(delay)));
+            }
+        });
+        scheduler.start();
+        scheduler.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(100, wheel.size());
+
+        var canceller = new Thread(() -> {
+            for (int i = 1; i < handles.size(); i += 2) {
+                handles.get(i).cancel();
+            }
+        });
+        canceller.start();
+        canceller.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(50, wheel.size());
+
+        for (int tick = 0; tick < 100; tick++) {
+            wheel.advance();
+        }
+        var expected = new ArrayList<Long>();
+        for (long delay = 1; delay <= 100; delay += 2) {
+            expected.add(delay);
+        }
+        assertEquals(expected, ran);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,88 @@
+package com.bridge.core.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StatCounterTest {
+
+    @Test
+    void sumsAcrossThreads() throws Exception {
+        var counter = new StatCounter(false);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        counter.add(1L);
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(800_000L, counter.sum());
+    }
+
+    @Test
+    void hasNoRatesWithoutWindows() {
+        var counter = new StatCounter(false);
+        counter.add(5L);
+        counter.sample();
+        assertEquals(0L, counter.perMinute());
+        assertEquals(0L, counter.perHour());
+    }
+
+    @Test
+    void countsEverythingBeforeTheWindowsFill() {
+        var counter = new StatCounter(true);
+        counter.add(3L);
+        assertEquals(3L, counter.perMinute());
+        assertEquals(3L, counter.perHour());
+
+        for (int second = 0; second < 30; second++) {
+            counter.add(2L);
+            counter.sample();
+        }
+        assertEquals(63L, counter.perMinute());
+        assertEquals(63L, counter.perHour());
+    }
+
+    /**
+     * Samples once a simulated second for three hours at a varying rate and compares both windows with the
+     * exact totals.
+     */
+    @Test
+    void slidesTheMinuteAndHourWindows() {
+        var counter = new StatCounter(true);
+        int seconds = 3 * 3600;
+        // totals[s] is the total at the s-th sample; sample 0 is the implicit zero the counter starts with.
+        long[] totals = new long[seconds + 1];
+        for (int second = 1; second <= seconds; second++) {
+            counter.add(second % 7);
+            counter.sample();
+            totals[second] = counter.sum();
+
+            if (second >= 60) {
+                assertEquals(totals[second] - totals[second - 60], counter.perMinute(), "per minute at " + second);
+            }
+            if (second >= 3600 && second % 60 == 0) {
+                assertEquals(totals[second] - totals[second - 3600], counter.perHour(), "per hour at " + second);
+            }
+        }
+
+        // Increments since the last sample count towards both rates.
+        counter.add(1_000L);
+        assertEquals(totals[seconds] + 1_000L - totals[seconds - 60], counter.perMinute());
+        assertEquals(totals[seconds] + 1_000L - totals[seconds - 3600], counter.perHour());
+    }
+}
@@ -0,0 +1,119 @@
+package com.bridge.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorldArchiveFormatTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void roundTripsAWorldFolder() throws IOException {
+        Path source = world();
+        Path archive = folder.resolve("archives/world.bwa");
+
+        var written = WorldArchiveFormat.write(source, archive, "lobby", "lobby-template");
+        var index = WorldArchiveFormat.open(archive);
+
+        assertEquals("lobby", index.getSourceName());
+        assertEquals("lobby-template", index.getTemplate());
+        assertEquals(List.of("chunks/0.0.region", "chunks/0.1.region", "config.json", "empty.dat", "noise.bin"), index.getNames());
+        assertEquals(written.getBytes(), index.getBytes());
+        assertTrue(index.getStoredBytes() < index.getBytes(), "compressible chunks are stored compressed");
+        assertFalse(Files.exists(archive.resolveSibling("world.bwa.tmp")));
+
+        Path target = folder.resolve("restored");
+        assertEquals(index.getBytes(), WorldArchiveFormat.extractAll(archive, index, target));
+        for (String name : index.getNames()) {
+            assertArrayEquals(Files.readAllBytes(source.resolve(name)), Files.readAllBytes(target.resolve(name)), name);
+        }
+    }
+
+    @Test
+    void extractsASingleFile() throws IOException {
+        Path source = world();
+        Path archive = folder.resolve("world.bwa");
+        var index = WorldArchiveFormat.write(source, archive, "lobby", "lobby");
+
+        Path file = folder.resolve("single.region");
+        long bytes = WorldArchiveFormat.extract(archive, index, "chunks/0.1.region", file);
+
+        assertEquals(Files.size(source.resolve("chunks/0.1.region")), bytes);
+        assertArrayEquals(Files.readAllBytes(source.resolve("chunks/0.1.region")), Files.readAllBytes(file));
+        assertThrows(IOException.class, () -> WorldArchiveFormat.extract(archive, index, "missing", file));
+    }
+
+    @Test
+    void rejectsACorruptIndex() throws IOException {
+        Path archive = folder.resolve("world.bwa");
+        WorldArchiveFormat.write(world(), archive, "lobby", "lobby");
+        long size = Files.size(archive);
+        try (var channel = FileChannel.open(archive, StandardOpenOption.WRITE)) {
+            // The index ends right before the 20 byte footer.
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), size - 21);
+        }
+
+        assertThrows(IOException.class, () -> WorldArchiveFormat.open(archive));
+        Files.write(archive, new byte[8]);
+        assertThrows(IOException.class, () -> WorldArchiveFormat.open(archive));
+    }
+
+    @Test
+    void removesAPartialExtraction() throws IOException {
+        Path archive = folder.resolve("world.bwa");
+        var index = WorldArchiveFormat.write(world(), archive, "lobby", "lobby");
+        // Cut the archive inside its chunk data; the index is parsed before, so only extraction fails.
+        byte[] bytes = Files.readAllBytes(archive);
+        Path cut = folder.resolve("cut.bwa");
+        Files.write(cut, Arrays.copyOf(bytes, 64));
+
+        Path target = folder.resolve("partial");
+        assertThrows(IOException.class, () -> WorldArchiveFormat.extractAll(cut, index, target));
+        assertFalse(Files.exists(target), "a folder created by the extraction is removed");
+
+        Path existing = Files.createDirectories(folder.resolve("existing"));
+        Files.writeString(existing.resolve("keep.txt"), "keep");
+        assertThrows(IOException.class, () -> WorldArchiveFormat.extractAll(cut, index, existing));
+        assertTrue(Files.exists(existing.resolve("keep.txt")), "files the extraction did not write are kept");
+        assertFalse(Files.exists(existing.resolve("config.json")));
+        assertFalse(Files.exists(existing.resolve("chunks/0.0.region")));
+    }
+
+    /**
+     * A world folder with compressible region files larger than one chunk, an incompressible file and an empty one.
+     */
+    private Path world() throws IOException {
+        Path world = Files.createDirectories(folder.resolve("world-" + System.nanoTime()));
+        var random = new Random(11);
+        Files.createDirectories(world.resolve("chunks"));
+        for (int region = 0; region < 2; region++) {
+            byte[] data = new byte[WorldArchiveFormat.CHUNK_SIZE + 12_345 * (region + 1)];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (i % 64 < 48 ? 0 : random.nextInt(8));
+            }
+            Files.write(world.resolve("chunks/0." + region + ".region"), data);
+        }
+        byte[] noise = new byte[70_000];
+        random.nextBytes(noise);
+        Files.write(world.resolve("noise.bin"), noise);
+        Files.writeString(world.resolve("config.json"), "{\"name\":\"lobby\"}");
+        Files.write(world.resolve("empty.dat"), new byte[0]);
+        return world;
+    }
+}